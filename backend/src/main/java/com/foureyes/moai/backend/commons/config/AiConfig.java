@@ -0,0 +1,48 @@
+package com.foureyes.moai.backend.commons.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AiProperties.class)
+@RequiredArgsConstructor
+public class AiConfig {
+
+    private final AiProperties props;
+
+    /**
+     * AI 요약 작업 전용 워커 풀
+     * - 톰캣 요청 스레드/DB 커넥션과 분리해서 LLM 왕복 시간을 흡수
+     * - 실행 순서와 동시 실행 수는 AiWorkScheduler가 정하고, 이 풀은 배정된 작업만 받음
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getJob().getWorkers());
+        executor.setMaxPoolSize(props.getJob().getWorkers());
+        executor.setQueueCapacity(props.getJob().getQueueCapacity());
+        executor.setThreadNamePrefix("ai-summary-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 문서 페이지 텍스트 수집 전용 풀
+     * - PDF 파싱이 요약 작업 슬롯을 차지하지 않도록 분리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor documentIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getIngestion().getWorkers());
+        executor.setMaxPoolSize(props.getIngestion().getWorkers());
+        executor.setQueueCapacity(props.getIngestion().getQueueCapacity());
+        executor.setThreadNamePrefix("doc-ingest-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,298 @@
+package com.foureyes.moai.backend.commons.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "ai")
+public class AiProperties {
+
+    private Job job = new Job();
+    private TextCache textCache = new TextCache();
+    private Extraction extraction = new Extraction();
+    private Chunked chunked = new Chunked();
+    private ResultCache resultCache = new ResultCache();
+    private Resilience resilience = new Resilience();
+    private RateLimit rateLimit = new RateLimit();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Http http = new Http();
+    private Usage usage = new Usage();
+    private Gms gms = new Gms();
+    private Ingestion ingestion = new Ingestion();
+    private Retrieval retrieval = new Retrieval();
+    private Prompt prompt = new Prompt();
+    private Quote quote = new Quote();
+    private Items items = new Items();
+    private Sidebar sidebar = new Sidebar();
+    private Batch batch = new Batch();
+    private Scheduler scheduler = new Scheduler();
+    private ModelSelection modelSelection = new ModelSelection();
+
+    /** 요약 작업 워커 풀 설정 */
+    @Data
+    public static class Job {
+        // 동시에 실행되는 요약 작업 수 (LLM 호출 동시성 상한)
+        private int workers = 4;
+        // 대기열 길이, 초과 시 503
+        private int queueCapacity = 100;
+        // 작업 소유 인스턴스 ID (비어 있으면 호스트 이름), 재시작 시 같은 ID의 작업만 바로 실패 처리
+        private String instanceId = "";
+        // 소유 인스턴스가 이 간격으로 대기/실행 중 작업의 updated_at을 갱신 (임대 연장)
+        private Duration heartbeatInterval = Duration.ofMinutes(1);
+        // updated_at이 이보다 오래된 대기/실행 중 작업은 소유 인스턴스가 죽은 것으로 보고 실패 처리
+        private Duration leaseTimeout = Duration.ofMinutes(5);
+    }
+
+    /** PDF 추출 텍스트 캐시 설정 */
+    @Data
+    public static class TextCache {
+        // 인메모리 LRU 용량 (문자 수 기준, 약 2바이트/문자)
+        private long memoryMaxChars = 20_000_000L;
+        private boolean redisEnabled = true;
+        private Duration redisTtl = Duration.ofDays(7);
+    }
+
+    /** 문서 텍스트 추출 설정 */
+    @Data
+    public static class Extraction {
+        // 요청 하나에서 동시에 받아/파싱하는 문서 수
+        private int maxConcurrency = 4;
+        // 요청 하나의 전체 추출 제한 시간
+        private Duration deadline = Duration.ofSeconds(90);
+        // 문서 하나에서 추출할 최대 문자 수 (도달하면 남은 페이지는 건너뜀)
+        private int maxChars = 2_000_000;
+        // PDFBox가 힙에 올리는 최대 바이트, 초과분은 임시 파일로
+        private long maxMainMemoryBytes = 16L * 1024 * 1024;
+        // 임시 파일 디렉터리 (비우면 java.io.tmpdir)
+        private String tempDir;
+    }
+
+    /** 청크(map-reduce) 요약 설정 */
+    @Data
+    public static class Chunked {
+        // 청크 하나의 기본 본문 토큰 수 (모델 토크나이저 기준 추정)
+        private int chunkTokens = 8_000;
+        // 문서가 길어 청크 수가 넘칠 때 키울 수 있는 청크 크기 상한 (모델 컨텍스트 한도가 더 작으면 그쪽)
+        private int maxChunkTokens = 30_000;
+        // 요청 하나의 최대 청크 수 (= LLM 호출 수 상한, 짧은 문서는 한 청크에 여러 개를 묶음)
+        private int maxChunks = 16;
+        // 동시에 보내는 청크 요약 호출 수
+        private int concurrency = 4;
+    }
+
+    /** 요약 결과 캐시 설정 (같은 문서 버전 + 모델 + 프롬프트) */
+    @Data
+    public static class ResultCache {
+        private boolean enabled = true;
+        // 인메모리 용량 (결과 JSON 문자 수 기준)
+        private long maxChars = 5_000_000L;
+        private Duration ttl = Duration.ofHours(6);
+    }
+
+    /** LLM 호출 타임아웃/재시도/서킷브레이커/헤징 설정 */
+    @Data
+    public static class Resilience {
+        // 호출 1회(시도 1번) 제한 시간
+        private Duration timeout = Duration.ofSeconds(60);
+        // 스트리밍 응답에서 다음 조각까지 기다리는 최대 시간
+        private Duration streamIdleTimeout = Duration.ofSeconds(30);
+        // 429/5xx 재시도 횟수와 지수 백오프 범위 (jitter 적용)
+        private int maxRetries = 2;
+        private Duration retryMinBackoff = Duration.ofMillis(500);
+        private Duration retryMaxBackoff = Duration.ofSeconds(5);
+        // 주 모델 실패 시 다른 공급자의 대응 모델로 재요청
+        private boolean failoverEnabled = true;
+        private Breaker breaker = new Breaker();
+        private Hedge hedge = new Hedge();
+
+        /** 공급자별 서킷브레이커 (최근 N회 호출 기준) */
+        @Data
+        public static class Breaker {
+            private int windowSize = 20;
+            // 윈도우가 이만큼 찼을 때부터 실패율 판단
+            private int minimumCalls = 10;
+            private int failureRatePercent = 50;
+            private Duration openDuration = Duration.ofSeconds(30);
+            // HALF_OPEN에서 허용하는 시험 호출 수
+            private int halfOpenCalls = 3;
+        }
+
+        /** 지연 헤징: 주 모델이 최근 지연 분위수를 넘기면 대응 모델로 동시 요청 */
+        @Data
+        public static class Hedge {
+            private boolean enabled = false;
+            private double percentile = 0.95;
+            // 분위수를 계산하기 위한 최소 표본 수 (부족하면 헤징하지 않음)
+            private int minSamples = 20;
+            // 분위수가 너무 작을 때의 하한
+            private Duration minDelay = Duration.ofSeconds(2);
+        }
+    }
+
+    /** 요약 요청 속도 제한 (Redis 토큰 버킷, 서버 여러 대가 공유) */
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+        private Bucket user = new Bucket(5, 5);
+        private Bucket study = new Bucket(20, 20);
+        // 모델별 기본값, modelOverrides에 ModelOption 이름으로 개별 지정 가능
+        private Bucket model = new Bucket(60, 60);
+        private Map<String, Bucket> modelOverrides = new HashMap<>();
+
+        /** capacity: 순간 허용량, refillPerMinute: 분당 충전량 */
+        @Data
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Bucket {
+            private int capacity;
+            private int refillPerMinute;
+        }
+    }
+
+    /** 공급자별 동시 LLM 호출 상한 (인스턴스 단위) */
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentPerProvider = 8;
+        // 자리가 날 때까지 기다리는 최대 시간, 넘기면 대응 모델로 전환
+        private Duration maxWait = Duration.ofSeconds(10);
+    }
+
+    /** 공급자별 HTTP 커넥션 풀/타임아웃 (GMS 프록시 경유) */
+    @Data
+    public static class Http {
+        private Pool gemini = new Pool();
+        private Pool openai = new Pool();
+
+        @Data
+        public static class Pool {
+            private int maxConnections = 50;
+            // 커넥션을 기다리는 요청 수 상한, 넘으면 즉시 실패
+            private int pendingAcquireMaxCount = 100;
+            private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+            // 유휴 커넥션 정리 (프록시가 먼저 끊은 소켓 재사용 방지)
+            private Duration maxIdleTime = Duration.ofSeconds(30);
+            private Duration maxLifeTime = Duration.ofMinutes(5);
+            private Duration evictInBackground = Duration.ofSeconds(30);
+            private Duration connectTimeout = Duration.ofSeconds(5);
+            // 요청 전송 후 응답 헤더까지 (스트리밍은 첫 응답까지)
+            private Duration responseTimeout = Duration.ofSeconds(60);
+            // 프록시가 ALPN h2를 지원할 때만 켬
+            private boolean http2 = false;
+        }
+    }
+
+    @Data
+    public static class Usage {
+        // 사용자별 하루 사용량 상한 (0 = 제한 없음)
+        private long dailyTokenQuota = 0;
+        private double dailyCostQuotaUsd = 0;
+        // 일일 집계 기준 시간대
+        private String zone = "Asia/Seoul";
+    }
+
+    @Data
+    public static class Gms {
+        // Gemini/OpenAI 호출이 거치는 GMS 프록시 주소
+        private String baseUrl = "https://gms.ssafy.io/gmsapi/";
+    }
+
+    @Data
+    public static class Ingestion {
+        // 업로드 후 페이지 텍스트 사전 추출 (끄면 요약 시점에 PDF에서 추출)
+        private boolean enabled = true;
+        private int workers = 2;
+        private int queueCapacity = 200;
+    }
+
+    @Data
+    public static class Retrieval {
+        // 단일 호출 요약에서 BM25로 관련 페이지를 골라 넣음 (끄면 문서별 공평한 토큰 몫만큼 앞 페이지부터)
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Prompt {
+        // 문서 본문 토큰 예산 = 문서 수 × tokensPerDoc (최대 maxContextTokens, 모델 컨텍스트 한도 이내)
+        private int tokensPerDoc = 8_000;
+        private int maxContextTokens = 32_000;
+        // 응답용으로 비워 둘 토큰 (모델 최대 출력보다 크면 모델 값 사용)
+        private int reservedOutputTokens = 4_000;
+        // 남은 예산이 이보다 작으면 페이지를 잘라 넣지 않고 중단
+        private int minPartialTokens = 100;
+    }
+
+    @Data
+    public static class Quote {
+        // 요약 후 originalQuote 위치 확인 + pageNumber 보정
+        private boolean enabled = true;
+        // 근사 일치 허용 편집 거리 비율 (인용구 길이 대비)
+        private double maxErrorRate = 0.15;
+    }
+
+    @Data
+    public static class Items {
+        // 기동 시 ai_summary_items가 없는 기존 요약본을 백그라운드로 채움
+        private boolean backfillEnabled = true;
+        private int backfillBatchSize = 100;
+        // 배치 사이 대기 (운영 DB 부하 분산)
+        private Duration backfillPause = Duration.ofMillis(200);
+    }
+
+    @Data
+    public static class Sidebar {
+        // 사용자별 사이드바 응답을 Redis에 저장 (변경 이벤트마다 버전 증가로 무효화)
+        private boolean cacheEnabled = true;
+        // 이벤트로 잡히지 않는 변경(스터디 이름/이미지 등)이 반영되는 최대 지연
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class Batch {
+        // 일괄 요청 1건에 포함할 수 있는 최대 문서 수
+        private int maxDocuments = 50;
+        // 일괄 요청 1건이 동시에 워커에 올리는 문서 수 (나머지는 순서대로 대기)
+        private int concurrency = 3;
+    }
+
+    /** 요약 작업 공정 스케줄링 (레인 → 스터디 → 사용자 가중치 DRR) */
+    @Data
+    public static class Scheduler {
+        // 두 레인이 모두 밀려 있을 때 INTERACTIVE 몇 건당 BULK 몇 건을 워커에 올릴지
+        private int interactiveWeight = 4;
+        private int bulkWeight = 1;
+        // BULK 레인이 쓸 수 없는 워커 수 (일괄 요청이 몰려도 단건 요약은 바로 시작)
+        private int reservedInteractiveWorkers = 1;
+        // 단건 요청도 문서가 이보다 많거나 청크 모드면 BULK 레인
+        private int interactiveMaxDocuments = 3;
+        // 스터디별 가중치 (studyId → weight, 없으면 1)
+        private Map<Integer, Integer> studyWeights = new HashMap<>();
+        // 공급자별 동시 실행 작업 상한 (GEMINI/OPENAI → 개수, 없으면 워커 수)
+        private Map<String, Integer> maxConcurrentPerProvider = new HashMap<>();
+    }
+
+    /** modelType=AUTO 모델 선택 기준 */
+    @Data
+    public static class ModelSelection {
+        // 추정 프롬프트 토큰이 이 이하면 경량 모델 등급에서 선택
+        private int smallPromptTokens = 10_000;
+        // 페이지당 추정 토큰 (pageCount가 없는 문서는 defaultPageCount 페이지로 계산)
+        private int tokensPerPage = 600;
+        private int defaultPageCount = 20;
+        // 비용 비교용 예상 출력 토큰
+        private int expectedOutputTokens = 2_000;
+        // 최근 호출 상태를 보는 시간 창, 창 안의 호출이 minSamples 미만이면 판단하지 않음
+        private Duration window = Duration.ofMinutes(5);
+        private int minSamples = 10;
+        // 이 오류율이나 p95를 넘은 모델/공급자는 후보에서 제외
+        private double maxErrorRate = 0.2;
+        private Duration degradedP95 = Duration.ofSeconds(20);
+        // p95 1초를 비용 몇 USD로 환산할지 (클수록 빠른 모델 선호)
+        private double latencyUsdPerSecond = 0.0005;
+    }
+}
@@ -44,6 +44,9 @@ public class B2Config {
                 AwsBasicCredentials.create(props.getAccessKey(), props.getSecretKey())))
             .region(Region.of(props.getRegion()))
             .endpointOverride(new URI(props.getEndpoint()))
+            .serviceConfiguration(S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build())
             .build();
     }
 }
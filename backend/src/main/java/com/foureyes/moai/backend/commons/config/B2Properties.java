@@ -3,6 +3,8 @@ package com.foureyes.moai.backend.commons.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Data
 @ConfigurationProperties(prefix = "backblaze.b2")
 public class B2Properties {
@@ -12,4 +14,13 @@ public class B2Properties {
     private String secretKey;
     private String bucketName;
     private String docsBucketName;
+    private PresignCache presignCache = new PresignCache();
+
+    @Data
+    public static class PresignCache {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        // 만료까지 이 시간보다 적게 남은 URL은 재사용하지 않음
+        private Duration safetyMargin = Duration.ofMinutes(5);
+    }
 }
@@ -1,20 +1,69 @@
 package com.foureyes.moai.backend.commons.config;
 
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
+    @Primary
     public WebClient webClient(WebClient.Builder builder) {
         return builder
             // baseUrl은 생략 (매 요청마다 풀 URL 조립하므로)
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
+
+    /** Gemini 전용 (풀 분리: 한쪽 공급자 지연이 다른 쪽 커넥션을 잡아먹지 않도록) */
+    @Bean
+    public WebClient geminiWebClient(WebClient.Builder builder, AiProperties aiProperties) {
+        return aiWebClient(builder, "ai-gemini", aiProperties.getHttp().getGemini());
+    }
+
+    /** OpenAI 전용 */
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder builder, AiProperties aiProperties) {
+        return aiWebClient(builder, "ai-openai", aiProperties.getHttp().getOpenai());
+    }
+
+    /**
+     * 공급자별 커넥션 풀 + 타임아웃
+     * - 풀 지표(reactor.netty.connection.provider.active/idle/pending/total.connections)는 name 태그로 구분
+     */
+    private WebClient aiWebClient(WebClient.Builder builder, String name, AiProperties.Http.Pool pool) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .maxLifeTime(pool.getMaxLifeTime())
+            .evictInBackground(pool.getEvictInBackground())
+            .metrics(true)
+            .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .responseTimeout(pool.getResponseTimeout());
+        if (pool.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        // builder는 프로토타입 빈이지만 호출마다 설정이 섞이지 않도록 복제해서 사용
+        return builder.clone()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+    }
 }
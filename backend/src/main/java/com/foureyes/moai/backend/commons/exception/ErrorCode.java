@@ -39,16 +39,24 @@ public enum ErrorCode {
     STUDY_GROUP_NOT_FOUND("존재하지 않는 스터디 그룹입니다.", HttpStatus.NOT_FOUND),
     STUDY_MEMBERSHIP_NOT_FOUND("스터디 멤버 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     SUMMARY_NOT_FOUND("존재하지 않는 요약본입니다.", HttpStatus.NOT_FOUND),
+    SUMMARY_BATCH_NOT_FOUND("존재하지 않는 일괄 요약 요청입니다.", HttpStatus.NOT_FOUND),
     DOCUMENT_NOT_FOUND("파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     CATEGORY_NOT_FOUND("카테고리를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     SCHEDULE_NOT_FOUND("일정 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
+    // 429 Too Many Requests
+    AI_RATE_LIMITED("요약 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    AI_DAILY_QUOTA_EXCEEDED("오늘 사용할 수 있는 AI 요약 사용량을 모두 사용했습니다.", HttpStatus.TOO_MANY_REQUESTS),
+
     // 500 Internal Server Error
     FILE_DOWNLOAD_FAILED("파일 다운 실패", HttpStatus.INTERNAL_SERVER_ERROR),
     DATABASE_ERROR("데이터베이스 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     INTERNAL_SERVER_ERROR("서버 내부 오류입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     FILE_DELETE_FAILED("파일 삭제 실패", HttpStatus.INTERNAL_SERVER_ERROR),
-    OAUTH2_PROCESSING_ERROR("OAuth2 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    OAUTH2_PROCESSING_ERROR("OAuth2 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // 503 Service Unavailable
+    AI_SUMMARY_QUEUE_FULL("요약 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -2,6 +2,7 @@ package com.foureyes.moai.backend.commons.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -40,6 +41,29 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    /**
+     * 입력: RateLimitExceededException (요청 한도 초과)
+     * 출력: ResponseEntity<ErrorResponse> (429 + Retry-After 헤더)
+     * 기능: 다시 시도 가능한 시점을 Retry-After(초)로 함께 내려줌
+     **/
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+        log.warn("요청 한도 초과: {} (retryAfter={}s)", e.getMessage(), e.getRetryAfterSeconds());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(e.getErrorCode().getStatus().value())
+                .error(e.getErrorCode().getStatus().getReasonPhrase())
+                .message(e.getErrorCode().getMessage())
+                .code(e.getErrorCode().getCode())
+                .build();
+
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * 입력: MethodArgumentNotValidException (검증 실패 예외)
      * 출력: ResponseEntity<ErrorResponse> (에러 응답)
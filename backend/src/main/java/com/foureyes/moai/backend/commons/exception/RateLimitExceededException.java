@@ -0,0 +1,16 @@
+package com.foureyes.moai.backend.commons.exception;
+
+public class RateLimitExceededException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        this(ErrorCode.AI_RATE_LIMITED, retryAfterSeconds);
+    }
+
+    public RateLimitExceededException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -0,0 +1,92 @@
+package com.foureyes.moai.backend.commons.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 가중치(용량) 기준 인메모리 LRU 캐시
+ * - 접근 순서 LinkedHashMap + 단일 락 (요청당 몇 번 조회하는 정도의 캐시 용도)
+ * - weigher로 항목 크기를 계산해 전체 합이 maxWeight를 넘으면 오래된 항목부터 제거
+ * - ttl이 있으면 쓰기 시점 기준으로 만료
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long evictionCount;
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this(maxWeight, weigher, null);
+    }
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher, Duration ttl) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0L;
+    }
+
+    /** 없거나 만료됐으면 null */
+    public synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        if (ttlNanos > 0 && e.isExpired(System.nanoTime())) {
+            map.remove(key);
+            weight -= e.weight;
+            return null;
+        }
+        return e.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long w = weigher.applyAsLong(value);
+        // 단일 항목이 전체 용량보다 크면 캐시하지 않음 (같은 키의 이전 값도 더는 최신이 아니므로 제거)
+        if (w > maxWeight) {
+            invalidate(key);
+            return;
+        }
+
+        long expiresAt = System.nanoTime() + ttlNanos;
+        Entry<V> prev = map.put(key, new Entry<>(value, w, expiresAt));
+        if (prev != null) weight -= prev.weight;
+        weight += w;
+
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            weight -= eldest.getValue().weight;
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        Entry<V> e = map.remove(key);
+        if (e != null) weight -= e.weight;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /** 용량 초과로 밀려난 누적 건수 (만료 제거는 제외) */
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private record Entry<V>(V value, long weight, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
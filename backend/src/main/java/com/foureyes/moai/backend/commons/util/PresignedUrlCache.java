@@ -0,0 +1,67 @@
+package com.foureyes.moai.backend.commons.util;
+
+import com.foureyes.moai.backend.commons.config.B2Properties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Pre-signed URL 캐시 (키: 객체 키 + disposition)
+ * - 서명은 요청마다 HMAC 계산이라 같은 문서를 여러 번 열면 그대로 재사용
+ * - 만료 safetyMargin 전까지만 재사용하되, 최소 TTL 절반은 남은 URL만 내줌 (받자마자 만료되지 않도록)
+ * - 권한 확인은 호출 측에서 끝난 뒤 조회하므로 캐시에는 사용자 정보가 없음
+ */
+@Component
+public class PresignedUrlCache {
+
+    private final B2Properties.PresignCache props;
+    private final LruCache<String, Entry> cache;
+    private final Counter hit;
+    private final Counter miss;
+
+    public PresignedUrlCache(B2Properties b2Properties, MeterRegistry registry) {
+        this.props = b2Properties.getPresignCache();
+        this.cache = new LruCache<>(props.getMaxEntries(), e -> 1L);
+
+        this.hit = requests(registry, "hit");
+        this.miss = requests(registry, "miss");
+        FunctionCounter.builder("storage.presign.cache.evictions", cache, LruCache::evictionCount)
+            .register(registry);
+        Gauge.builder("storage.presign.cache.size", cache, LruCache::size)
+            .register(registry);
+    }
+
+    private record Entry(String url, long reuseUntil) {}
+
+    /** 재사용 가능한 URL이 있으면 반환, 없으면 signer로 새로 서명해서 저장 */
+    public String get(String key, String disposition, Duration ttl, Supplier<String> signer) {
+        if (!props.isEnabled()) return signer.get();
+
+        String cacheKey = disposition + '\n' + key;
+        long now = System.nanoTime();
+        Entry cached = cache.get(cacheKey);
+        if (cached != null && now - cached.reuseUntil() < 0) {
+            hit.increment();
+            return cached.url();
+        }
+
+        miss.increment();
+        String url = signer.get();
+        long margin = Math.max(props.getSafetyMargin().toNanos(), ttl.toNanos() / 2);
+        long reuse = ttl.toNanos() - margin;
+        if (reuse > 0) cache.put(cacheKey, new Entry(url, now + reuse));
+        return url;
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("storage.presign.cache")
+            .description("Pre-signed URL 캐시 조회 결과")
+            .tag("result", result)
+            .register(registry);
+    }
+}
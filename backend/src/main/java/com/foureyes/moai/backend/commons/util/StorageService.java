@@ -33,6 +33,7 @@ public class StorageService {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final B2Properties props;
+    private final PresignedUrlCache presignedUrlCache;
 
     // 최대 파일 크기 (10MB)
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
@@ -121,11 +122,25 @@ public class StorageService {
         }
     }
 
+    /**
+     * 비공개 문서(PDF) 조회용 Pre-signed URL (같은 문서는 만료 전까지 캐시된 URL 재사용)
+     */
+    public String presignDocumentViewUrl(String key, Duration ttl) {
+        return presignedUrlCache.get(key, "inline", ttl, () -> signDocumentViewUrl(key, ttl));
+    }
+
+    /**
+     * 비공개 문서(PDF) 다운용 Pre-signed URL (같은 문서는 만료 전까지 캐시된 URL 재사용)
+     */
+    public String presignDocumentDownloadUrl(String key, Duration ttl) {
+        return presignedUrlCache.get(key, "attachment", ttl, () -> signDocumentDownloadUrl(key, ttl));
+    }
+
     /**
      * 비공개 문서(PDF) 조회용 Pre-signed URL 생성
      * - SDK v2: GetObjectPresignRequest / PresignedGetObjectRequest 사용
      */
-    public String presignDocumentViewUrl(String key, Duration ttl) {
+    private String signDocumentViewUrl(String key, Duration ttl) {
         GetObjectRequest get = GetObjectRequest.builder()
             .bucket(props.getDocsBucketName())
             .key(key)
@@ -146,7 +161,7 @@ public class StorageService {
      * 비공개 문서(PDF) 다운용 Pre-signed URL 생성
      * - SDK v2: GetObjectPresignRequest / PresignedGetObjectRequest 사용
      */
-    public String presignDocumentDownloadUrl(String key, Duration ttl) {
+    private String signDocumentDownloadUrl(String key, Duration ttl) {
         // 키에서 파일명만 추출
         String filename = Paths.get(key).getFileName().toString();
         // RFC5987 (UTF-8) 인코딩: 공백 + → %20 보정
@@ -219,6 +234,27 @@ public class StorageService {
         }
     }
 
+    /**
+     * 문서 객체의 ETag 조회 (HEAD 요청, 본문 다운로드 없음)
+     * - 같은 key라도 내용이 바뀌면 ETag가 달라지므로 캐시 키로 사용
+     */
+    public String getDocumentETag(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(b -> b
+                    .bucket(props.getDocsBucketName())
+                    .key(key)
+            );
+            String eTag = head.eTag();
+            return eTag != null ? eTag.replace("\"", "") : "";
+        } catch (NoSuchKeyException e) {
+            log.warn("문서 키를 찾을 수 없음: {}", key, e);
+            throw new CustomException(ErrorCode.DOCUMENT_NOT_FOUND);
+        } catch (Exception e) {
+            log.error("S3 headObject 실패: key={}, err={}", key, e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_DOWNLOAD_FAILED);
+        }
+    }
+
     //S3 원본을 InputStream으로 바로 열기 (호출측에서 반드시 close)
     public ResponseInputStream<GetObjectResponse> openDocumentStream(String key) {
         try {
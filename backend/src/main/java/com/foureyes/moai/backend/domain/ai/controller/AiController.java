@@ -3,14 +3,19 @@ package com.foureyes.moai.backend.domain.ai.controller;
 import com.foureyes.moai.backend.auth.jwt.JwtTokenProvider;
 import com.foureyes.moai.backend.commons.util.StorageService;
 import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryBatchRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.EditAiSummaryRequest;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryBatchResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryResponseDto;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryStatusResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.CreateAiSummaryResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.DashboardSummariesResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.SidebarSummariesResponse;
+import com.foureyes.moai.backend.domain.ai.dto.response.SummaryItemsResponse;
 import com.foureyes.moai.backend.domain.ai.entity.AiSummaryDocument;
 import com.foureyes.moai.backend.domain.ai.service.AiService;
+import com.foureyes.moai.backend.domain.ai.service.SummaryStreamListener;
 import com.foureyes.moai.backend.domain.document.service.DocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,11 +23,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,6 +38,7 @@ import java.util.List;
 public class AiController {
 
     private static final Logger log = LoggerFactory.getLogger(AiController.class);
+    private static final long STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
     private final AiService aiService;
     private final JwtTokenProvider jwtTokenProvider;
     private final StorageService storageService;
@@ -65,8 +74,9 @@ public class AiController {
     @Operation(
         summary = "AI 요약본 생성",
         description = """
-            여러 문서 ID를 받아 요약본 레코드를 생성하고 문서와 연결합니다.
-            모델/프롬프트 값은 그대로 저장되며, 실제 모델 호출은 추후 연결합니다.
+            여러 문서 ID를 받아 요약본 레코드(QUEUED)를 생성하고 문서와 연결합니다.
+            실제 요약은 백그라운드 워커에서 실행되며, 202와 함께 반환된 summary_id로
+            /ai/status/{id}를 폴링해 진행 상태를 확인합니다.
             """
     )
     @PostMapping("/create")
@@ -76,16 +86,82 @@ public class AiController {
     ) {
         int ownerId = extractUserIdFromToken(bearerToken);
         var resp = aiService.createSummary(ownerId, req);
-        return ResponseEntity.status(201).body(resp);
+        return ResponseEntity.status(202).body(resp);
     }
 
-    @Operation(summary = "내 요약본 목록(대시보드)")
+    @Operation(
+        summary = "AI 요약본 생성 (SSE 스트리밍)",
+        description = """
+            /ai/create와 같은 요청으로 요약을 생성하되, 결과를 SSE로 바로 받습니다.
+            이벤트: created(생성된 요약본) → item(요약 항목 1건씩) → done(summaryId, count) 또는 error.
+            연결이 끊겨도 요약은 계속 진행되어 저장되며, /ai/status/{id}로 확인할 수 있습니다.
+            """
+    )
+    @PostMapping("/create/stream")
+    public SseEmitter createStream(
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @RequestBody CreateAiSummaryRequest req
+    ) {
+        int ownerId = extractUserIdFromToken(bearerToken);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        aiService.createSummaryStreaming(ownerId, req, new SseSummaryStreamListener(emitter));
+        return emitter;
+    }
+
+    @Operation(
+        summary = "AI 문서별 일괄 요약 생성",
+        description = """
+            카테고리(categoryId) 또는 문서 목록(fileId)의 문서마다 요약본을 하나씩 생성합니다.
+            문서는 일괄 요청마다 몇 개씩만 동시에 처리되고, 진행 상황은 /ai/batch/{id}로 확인합니다.
+            """
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<AiSummaryBatchResponse> createBatch(
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @RequestBody CreateAiSummaryBatchRequest req
+    ) {
+        int ownerId = extractUserIdFromToken(bearerToken);
+        return ResponseEntity.status(202).body(aiService.createBatch(ownerId, req));
+    }
+
+    @Operation(
+        summary = "AI 일괄 요약 진행 상황 조회",
+        description = "상태별 문서 수(queued/running/done/failed)와 문서별 요약본 상태를 반환합니다."
+    )
+    @GetMapping("/batch/{id}")
+    public ResponseEntity<AiSummaryBatchResponse> batchStatus(
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @Parameter(description = "일괄 요청 ID", example = "12") @PathVariable("id") int id
+    ) {
+        int userId = extractUserIdFromToken(bearerToken);
+        return ResponseEntity.ok(aiService.getBatch(userId, id));
+    }
+
+    @Operation(
+        summary = "AI 요약 작업 상태 조회",
+        description = "QUEUED / RUNNING / DONE / FAILED 중 하나를 반환합니다."
+    )
+    @GetMapping("/status/{id}")
+    public ResponseEntity<AiSummaryStatusResponse> status(
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @Parameter(description = "요약본 ID", example = "123") @PathVariable("id") int id
+    ) {
+        int userId = extractUserIdFromToken(bearerToken);
+        return ResponseEntity.ok(aiService.getSummaryStatus(userId, id));
+    }
+
+    @Operation(
+        summary = "내 요약본 목록(대시보드)",
+        description = "최신순으로 size개씩 반환합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다."
+    )
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardSummariesResponse> dashboard(
-        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size
     ) {
         int ownerId = extractUserIdFromToken(bearerToken);
-        return ResponseEntity.ok(aiService.getDashboardList(ownerId));
+        return ResponseEntity.ok(aiService.getDashboardList(ownerId, cursor, size));
     }
 
     @Operation(summary = "내 요약본 목록(사이드바)")
@@ -139,4 +215,74 @@ public class AiController {
         int userId = extractUserIdFromToken(bearerToken);
         return ResponseEntity.ok(aiService.getSummaryDetail(userId, id));
     }
+
+    @Operation(
+        summary = "AI 요약 항목 페이지 조회",
+        description = "요약 항목을 순서대로 size개씩 반환합니다. 응답의 nextCursor를 다음 요청의 after로 넘기고, "
+            + "docsId를 주면 해당 문서의 항목만 반환합니다."
+    )
+    @GetMapping("/detail/{id}/items")
+    public ResponseEntity<SummaryItemsResponse> getDetailItems(
+        @Parameter(hidden = true) @RequestHeader("Authorization") String bearerToken,
+        @PathVariable("id") int id,
+        @Parameter(description = "문서 ID 필터", example = "101") @RequestParam(required = false) Integer docsId,
+        @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "49")
+        @RequestParam(defaultValue = "-1") int after,
+        @Parameter(description = "페이지 크기 (최대 200)", example = "50") @RequestParam(defaultValue = "50") int size
+    ) {
+        int userId = extractUserIdFromToken(bearerToken);
+        return ResponseEntity.ok(aiService.getSummaryItems(userId, id, docsId, after, size));
+    }
+
+    /** 워커 콜백을 SSE 이벤트로 전달 (클라이언트가 끊기면 전송만 중단하고 작업은 계속) */
+    private static class SseSummaryStreamListener implements SummaryStreamListener {
+
+        private final SseEmitter emitter;
+        private volatile boolean closed;
+
+        SseSummaryStreamListener(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(() -> closed = true);
+            emitter.onTimeout(() -> closed = true);
+            emitter.onError(e -> closed = true);
+        }
+
+        @Override
+        public void onCreated(CreateAiSummaryResponse created) {
+            send("created", created);
+        }
+
+        @Override
+        public void onItem(SummaryDto item) {
+            send("item", item);
+        }
+
+        @Override
+        public void onComplete(int summaryId, int itemCount) {
+            send("done", Map.of("summaryId", summaryId, "count", itemCount));
+            finish();
+        }
+
+        @Override
+        public void onError(int summaryId, String message) {
+            send("error", Map.of("summaryId", summaryId, "message", message));
+            finish();
+        }
+
+        private void send(String name, Object data) {
+            if (closed) return;
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                log.info("SSE 전송 중단(클라이언트 연결 종료): {}", e.getMessage());
+            }
+        }
+
+        private void finish() {
+            if (closed) return;
+            closed = true;
+            emitter.complete();
+        }
+    }
 }
@@ -1,24 +1,66 @@
 package com.foureyes.moai.backend.domain.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 요약 항목 1건
+ * - 프롬프트/프론트 모두 camelCase 필드명을 사용 (예전 snake_case 응답도 alias로 허용)
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class SummaryDto {
     @Schema(description = "요약된 문장", example = "이것은 요약된 문장입니다.")
-    @JsonProperty("summary_sentence")
+    @JsonProperty("summarySentence")
+    @JsonAlias("summary_sentence")
     private String summarySentence;
 
     @Schema(description = "원본 텍스트의 인용구", example = "이것이 원본 텍스트입니다.")
-    @JsonProperty("original_quote")
+    @JsonProperty("originalQuote")
+    @JsonAlias("original_quote")
     private String originalQuote;
 
+    @Schema(description = "문서 ID", example = "101")
+    @JsonProperty("docsId")
+    @JsonAlias("docs_id")
+    private Integer docsId;
+
     @Schema(description = "페이지 번호", example = "5")
-    @JsonProperty("page_number")
-    private String pageNumber;
+    @JsonProperty("pageNumber")
+    @JsonAlias("page_number")
+    private Integer pageNumber;
+
+    @Schema(description = "인용구 시작 위치 (해당 페이지 추출 텍스트 기준 문자 오프셋, 찾지 못하면 없음)", example = "120")
+    @JsonProperty("quoteStart")
+    private Integer quoteStart;
+
+    @Schema(description = "인용구 끝 위치 (해당 페이지 추출 텍스트 기준, 미포함)", example = "164")
+    @JsonProperty("quoteEnd")
+    private Integer quoteEnd;
+
+    @Schema(description = "인용구 확인 결과 (EXACT: 원문 그대로, FUZZY: 일부 글자 차이, NOT_FOUND: 원문에서 못 찾음)",
+        example = "EXACT")
+    @JsonProperty("quoteMatch")
+    private String quoteMatch;
+
+    /** 모델이 "5", "p.5" 처럼 문자열로 줘도 숫자만 취함 */
+    @JsonProperty("pageNumber")
+    @JsonAlias("page_number")
+    public void setPageNumber(Object raw) {
+        if (raw instanceof Number n) {
+            this.pageNumber = n.intValue();
+        } else if (raw instanceof String s) {
+            String digits = s.replaceAll("^\\D*(\\d+).*$", "$1");
+            this.pageNumber = digits.matches("\\d+") ? Integer.valueOf(digits) : null;
+        } else {
+            this.pageNumber = null;
+        }
+    }
 }
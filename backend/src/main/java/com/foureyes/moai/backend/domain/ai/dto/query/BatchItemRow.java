@@ -0,0 +1,15 @@
+package com.foureyes.moai.backend.domain.ai.dto.query;
+
+import com.foureyes.moai.backend.domain.ai.entity.AiSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchItemRow {
+    private int summaryId;
+    private int docsId;
+    private String title;
+    private AiSummary.Status status;
+    private String errorMessage;
+}
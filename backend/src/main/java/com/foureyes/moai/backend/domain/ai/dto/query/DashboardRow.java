@@ -0,0 +1,14 @@
+package com.foureyes.moai.backend.domain.ai.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class DashboardRow {
+    private int summaryId;
+    private String title;
+    private String description;
+    private LocalDateTime createdAt;
+}
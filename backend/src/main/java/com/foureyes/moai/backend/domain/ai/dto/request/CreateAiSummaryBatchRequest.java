@@ -0,0 +1,31 @@
+package com.foureyes.moai.backend.domain.ai.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class CreateAiSummaryBatchRequest {
+
+    @Schema(description = "요약할 카테고리 ID (카테고리의 모든 문서, fileId와 둘 중 하나만)", example = "7")
+    private Integer categoryId;
+
+    @Schema(description = "요약할 파일 ID 목록 (categoryId와 둘 중 하나만)", example = "[101,102,103]")
+    private List<Integer> fileId;
+
+    @Schema(description = "요약본 설명 (모든 요약본에 공통)", example = "강의 자료 문서별 요약")
+    private String description;
+
+    @Schema(description = "모델 이름", example = "gpt-4o-mini")
+    private String modelType;
+
+    @Schema(description = "프롬프트 유형/내용", example = "study-summary.v1")
+    private String promptType;
+
+    @Schema(description = "요약 방식 (SINGLE: 토큰 예산 안에서 질의 관련 페이지(BM25) 위주로 한 번에 요약, CHUNKED: 전체 페이지 분할 요약)",
+        example = "SINGLE", allowableValues = {"SINGLE", "CHUNKED"})
+    private String summaryMode;
+}
@@ -25,4 +25,8 @@ public class CreateAiSummaryRequest {
 
     @Schema(description = "프롬프트 유형/내용", example = "study-summary.v1")
     private String promptType;
+
+    @Schema(description = "요약 방식 (SINGLE: 토큰 예산 안에서 질의 관련 페이지(BM25) 위주로 한 번에 요약, CHUNKED: 전체 페이지 분할 요약)",
+        example = "SINGLE", allowableValues = {"SINGLE", "CHUNKED"})
+    private String summaryMode;
 }
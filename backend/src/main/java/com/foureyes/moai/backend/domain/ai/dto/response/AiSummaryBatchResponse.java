@@ -0,0 +1,42 @@
+package com.foureyes.moai.backend.domain.ai.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Schema(name = "AiSummaryBatchResponse", description = "문서별 일괄 요약 진행 상황")
+public class AiSummaryBatchResponse {
+
+    @Schema(description = "일괄 요청 ID", example = "12")
+    private int batchId;
+
+    @Schema(description = "전체 문서 수", example = "20")
+    private int total;
+
+    @Schema(description = "대기 중", example = "14")
+    private int queued;
+
+    @Schema(description = "실행 중", example = "3")
+    private int running;
+
+    @Schema(description = "완료", example = "2")
+    private int done;
+
+    @Schema(description = "실패", example = "1")
+    private int failed;
+
+    @Schema(description = "문서별 요약본 (문서 순서대로)")
+    private List<Item> summaries;
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class Item {
+        private int summaryId;
+        private int docsId;
+        private String title;
+        @Schema(allowableValues = {"QUEUED", "RUNNING", "DONE", "FAILED"})
+        private String status;
+        private String errorMessage;
+    }
+}
@@ -0,0 +1,24 @@
+package com.foureyes.moai.backend.domain.ai.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Schema(name = "AiSummaryStatusResponse", description = "AI 요약 작업 상태")
+public class AiSummaryStatusResponse {
+
+    @Schema(description = "요약본 ID", example = "1")
+    private int summaryId;
+
+    @Schema(description = "작업 상태", example = "RUNNING", allowableValues = {"QUEUED", "RUNNING", "DONE", "FAILED"})
+    private String status;
+
+    @Schema(description = "실패 사유 (FAILED일 때만)", example = "AI 응답 파싱에 실패했습니다.")
+    private String errorMessage;
+
+    @Schema(description = "실제 사용 모델", example = "gemini-2.0-flash-lite")
+    private String modelType;
+
+    @Schema(description = "자동 선택 사유 (AUTO로 요청했을 때만)", example = "AUTO small_prompt ~3600 tokens")
+    private String modelSelection;
+}
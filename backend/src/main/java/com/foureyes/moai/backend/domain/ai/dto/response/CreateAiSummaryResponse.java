@@ -7,7 +7,7 @@ import lombok.*;
 @Schema(name = "CreateAiSummaryResponse", description = "AI 요약본 생성 응답")
 public class CreateAiSummaryResponse {
 
-    @Schema(description = "요약본 ID", example = "1")
+    @Schema(description = "요약본 ID (작업 상태 조회 ID)", example = "1")
     private int summary_id;
 
     @Schema(description = "요약본 이름", example = "네트워크 총정리")
@@ -19,6 +19,12 @@ public class CreateAiSummaryResponse {
     @Schema(description = "모델 이름", example = "gpt-4o-mini")
     private String model_type;
 
+    @Schema(description = "자동 선택 사유 (AUTO로 요청했을 때만)", example = "AUTO small_prompt ~3600 tokens")
+    private String model_selection;
+
     @Schema(description = "프롬프트", example = "study-summary.v1")
     private String prompt_type;
+
+    @Schema(description = "작업 상태", example = "QUEUED")
+    private String status;
 }
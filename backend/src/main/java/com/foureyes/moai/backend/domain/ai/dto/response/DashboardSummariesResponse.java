@@ -10,6 +10,9 @@ import java.util.List;
 public class DashboardSummariesResponse {
     private List<Item> summaries;
 
+    @Schema(description = "다음 페이지 커서 (다음 요청의 cursor 값, 마지막 페이지면 null)")
+    private String nextCursor;
+
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class Item {
         private int summaryId;
@@ -0,0 +1,21 @@
+package com.foureyes.moai.backend.domain.ai.dto.response;
+
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Schema(name = "SummaryItemsResponse", description = "요약 항목 페이지 (키셋 페이지네이션)")
+public class SummaryItemsResponse {
+
+    @Schema(description = "요약본 ID", example = "1")
+    private int summaryId;
+
+    @Schema(description = "요약 항목 (요약본 내 순서대로)")
+    private List<SummaryDto> items;
+
+    @Schema(description = "다음 페이지 커서 (다음 요청의 after 값, 마지막 페이지면 null)", example = "49")
+    private Integer nextCursor;
+}
@@ -1,19 +1,24 @@
 package com.foureyes.moai.backend.domain.ai.entity;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.foureyes.moai.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ai_summaries")
+@Table(
+    name = "ai_summaries",
+    indexes = {
+        @Index(name = "idx_summary_owner_created", columnList = "owner_id, created_at, id"),
+        @Index(name = "idx_summary_batch", columnList = "batch_id"),
+        @Index(name = "idx_summary_status_worker", columnList = "status, worker_id")
+    }
+)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
@@ -38,16 +43,49 @@ public class AiSummary {
     @Column(name = "prompt_type", length = 100)
     private String promptType;
 
-    // MySQL JSON 매핑 (Hibernate 6)
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "summary_json", columnDefinition = "json")
-    private JsonNode summaryJson;
+    // modelType=AUTO로 요청했으면 고른 사유 (modelType에는 실제 모델 저장)
+    @Column(name = "model_selection", length = 255)
+    private String modelSelection;
+
+    // 비동기 요약 작업 상태
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    // 일괄 요청으로 만들어진 요약본이면 AiSummaryBatch ID
+    @Column(name = "batch_id")
+    private Integer batchId;
+
+    // 작업을 받은 인스턴스 (재시작 시 자기 작업만 실패 처리)
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // 상태 변경/임대 연장 시각 (대기/실행 중 작업의 소유 인스턴스 생존 판단)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "summary", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<AiSummaryDocument> documents = new ArrayList<>();
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    // status 컬럼 도입 이전에 생성된 요약본은 모두 완료된 상태
+    public Status getStatus() {
+        return status != null ? status : Status.DONE;
+    }
 }
@@ -0,0 +1,44 @@
+package com.foureyes.moai.backend.domain.ai.entity;
+
+import com.foureyes.moai.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문서별 요약 일괄 생성 요청 1건
+ * - 문서마다 AiSummary 1개 (ai_summaries.batch_id로 연결), 진행 상황은 그 상태들로 집계
+ */
+@Entity
+@Table(name = "ai_summary_batches")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class AiSummaryBatch {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner;
+
+    // 카테고리 단위 요청이면 카테고리 ID (문서 목록 요청이면 null)
+    @Column(name = "category_id")
+    private Integer categoryId;
+
+    @Column(name = "model_type", length = 100)
+    private String modelType;
+
+    @Column(name = "prompt_type", length = 100)
+    private String promptType;
+
+    @Column(nullable = false)
+    private int total;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
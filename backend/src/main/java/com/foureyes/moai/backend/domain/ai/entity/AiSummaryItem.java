@@ -0,0 +1,52 @@
+package com.foureyes.moai.backend.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 요약 항목 1건 (summaryJson 배열을 행으로 펼친 것, 문서/페이지별 조회와 페이지 단위 응답용)
+ * - summaryJson과 같은 트랜잭션에서 JDBC 배치로 저장 (AiSummaryItemJdbcRepository)
+ * - ordinal: 배열 순서 (0부터), 키셋 페이지네이션 커서로 사용
+ */
+@Entity
+@Table(
+    name = "ai_summary_items",
+    uniqueConstraints = @UniqueConstraint(name = "uq_summary_item", columnNames = {"summary_id", "ordinal"}),
+    indexes = {
+        @Index(name = "idx_summary_item_doc", columnList = "summary_id, docs_id, ordinal"),
+        @Index(name = "idx_summary_item_doc_page", columnList = "docs_id, page_number")
+    }
+)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AiSummaryItem {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "summary_id", nullable = false)
+    private int summaryId;
+
+    @Column(nullable = false)
+    private int ordinal;
+
+    @Column(name = "docs_id")
+    private Integer docsId;
+
+    @Column(name = "page_number")
+    private Integer pageNumber;
+
+    @Column(columnDefinition = "TEXT")
+    private String sentence;
+
+    @Column(columnDefinition = "TEXT")
+    private String quote;
+
+    @Column(name = "quote_start")
+    private Integer quoteStart;
+
+    @Column(name = "quote_end")
+    private Integer quoteEnd;
+
+    @Column(name = "quote_match", length = 20)
+    private String quoteMatch;
+}
@@ -0,0 +1,27 @@
+package com.foureyes.moai.backend.domain.ai.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 요약 결과 JSON (ai_summaries에서 분리)
+ * - 목록/수정/삭제/권한 확인은 AiSummary만 읽으므로 큰 JSON을 파싱하지 않음
+ * - 상세 조회와 항목 테이블 생성에서만 summaryId로 직접 조회
+ */
+@Entity
+@Table(name = "ai_summary_payloads")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AiSummaryPayload {
+
+    @Id
+    @Column(name = "summary_id")
+    private int summaryId;
+
+    // MySQL JSON 매핑 (Hibernate 6)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "summary_json", columnDefinition = "json")
+    private JsonNode summaryJson;
+}
@@ -0,0 +1,46 @@
+package com.foureyes.moai.backend.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 LLM 사용량 집계 (일일 한도 확인용)
+ * - 요약 작업이 끝날 때마다 (user_id, usage_date) 행에 누적
+ */
+@Entity
+@Table(
+    name = "ai_usage_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uq_usage_user_date", columnNames = {"user_id", "usage_date"})
+)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AiUsageDaily {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    // 요약 작업 수 / LLM 호출 수 (청크·재시도·전환 포함)
+    @Column(name = "summary_count", nullable = false)
+    private long summaryCount;
+
+    @Column(name = "call_count", nullable = false)
+    private long callCount;
+
+    @Column(name = "prompt_tokens", nullable = false)
+    private long promptTokens;
+
+    @Column(name = "completion_tokens", nullable = false)
+    private long completionTokens;
+
+    // 공급자 단가 기준 추정 비용
+    @Column(name = "cost_usd", nullable = false, precision = 12, scale = 6)
+    private BigDecimal costUsd;
+}
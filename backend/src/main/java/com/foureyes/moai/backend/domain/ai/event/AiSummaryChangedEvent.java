@@ -0,0 +1,6 @@
+package com.foureyes.moai.backend.domain.ai.event;
+
+/**
+ * 요약본 생성/수정/삭제 (사이드바 등 소유자 기준 읽기 모델 갱신용)
+ */
+public record AiSummaryChangedEvent(int ownerId, int summaryId) {}
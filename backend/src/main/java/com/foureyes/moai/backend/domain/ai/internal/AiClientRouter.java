@@ -1,21 +1,235 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
-import lombok.RequiredArgsConstructor;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모델 키 → 공급자 클라이언트 라우팅
+ * - 공급자별 동시 호출 상한(벌크헤드)과 서킷브레이커, 시도당 타임아웃, 429/5xx 지수 백오프(jitter) 재시도
+ * - 주 모델 실패(브레이커 OPEN 포함) 시 다른 공급자의 대응 모델로 전환
+ * - 헤징을 켜면 주 모델이 최근 지연 분위수를 넘길 때 대응 모델에도 요청하고 먼저 끝난 쪽을 사용
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiClientRouter {
 
     private final ModelResolver modelResolver;
     private final GeminiApiClient geminiApiClient;
     private final OpenAiApiClient openAiApiClient;
+    private final ProviderBulkhead bulkhead;
+    private final AiTelemetry telemetry;
+    private final LatencyTracker latencyTracker;
+    private final AiProperties.Resilience props;
+    private final MeterRegistry registry;
+
+    private final Map<AiProvider, ProviderCircuitBreaker> breakers = new EnumMap<>(AiProvider.class);
+
+    private final Counter hedgeFired;
+    private final Counter hedgePrimaryWin;
+    private final Counter hedgeSecondaryWin;
+
+    public AiClientRouter(ModelResolver modelResolver, GeminiApiClient geminiApiClient,
+                          OpenAiApiClient openAiApiClient, ProviderBulkhead bulkhead, AiTelemetry telemetry,
+                          LatencyTracker latencyTracker, AiProperties aiProperties, MeterRegistry registry) {
+        this.modelResolver = modelResolver;
+        this.geminiApiClient = geminiApiClient;
+        this.openAiApiClient = openAiApiClient;
+        this.bulkhead = bulkhead;
+        this.telemetry = telemetry;
+        this.latencyTracker = latencyTracker;
+        this.props = aiProperties.getResilience();
+        this.registry = registry;
+
+        for (AiProvider provider : AiProvider.values()) {
+            ProviderCircuitBreaker breaker = new ProviderCircuitBreaker(provider.name(), props.getBreaker());
+            breakers.put(provider, breaker);
+            // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+            Gauge.builder("ai.client.breaker.state", breaker, b -> b.state().ordinal())
+                .tag("provider", provider.name())
+                .register(registry);
+        }
+        this.hedgeFired = hedgeCounter("fired");
+        this.hedgePrimaryWin = hedgeCounter("primary_win");
+        this.hedgeSecondaryWin = hedgeCounter("hedge_win");
+    }
+
+    /** requestedModelKey에 따라 적절한 백엔드 호출 (usage: 작업 단위 사용량 누적, null 가능) */
+    public Mono<String> generateJsonArray(String requestedModelKey, String prompt, AiUsage usage) {
+        ModelOption primary = modelResolver.resolveOption(requestedModelKey);
+        ModelOption secondary = primary.counterpart();
+
+        // 헤징으로 이미 대응 모델을 호출했으면 전환하지 않음 (같은 모델을 두 번 부르지 않도록)
+        AtomicBoolean secondaryTried = new AtomicBoolean(false);
+        Mono<String> call = props.getHedge().isEnabled()
+            ? hedged(primary, secondary, prompt, usage, secondaryTried)
+            : guarded(primary, prompt, usage);
+
+        if (!props.isFailoverEnabled()) return call;
+        return call.onErrorResume(e -> {
+            if (secondaryTried.get()) return Mono.error(e);
+            log.warn("AI 호출 실패, 대응 모델로 전환: {} -> {} ({})", primary, secondary, e.toString());
+            failoverCounter(primary, secondary).increment();
+            return guarded(secondary, prompt, usage);
+        });
+    }
+
+    /** 스트리밍 호출: 모델이 생성하는 텍스트 조각을 도착 순서대로 방출 (첫 조각 전 실패만 전환) */
+    public Flux<String> streamJsonArray(String requestedModelKey, String prompt, AiUsage usage) {
+        ModelOption primary = modelResolver.resolveOption(requestedModelKey);
+        ModelOption secondary = primary.counterpart();
+
+        AtomicBoolean emitted = new AtomicBoolean(false);
+        Flux<String> stream = guardedStream(primary, prompt, usage).doOnNext(d -> emitted.set(true));
+
+        if (!props.isFailoverEnabled()) return stream;
+        return stream.onErrorResume(e -> {
+            if (emitted.get()) return Flux.error(e);
+            log.warn("AI 스트리밍 호출 실패, 대응 모델로 전환: {} -> {} ({})", primary, secondary, e.toString());
+            failoverCounter(primary, secondary).increment();
+            return guardedStream(secondary, prompt, usage);
+        });
+    }
+
+    /**
+     * 주 모델 요청 후 지연 기준을 넘기면 대응 모델에도 요청, 먼저 성공한 결과 사용
+     * - 기준 전에 주 모델이 실패하면(4xx, 브레이커 OPEN 등) 기다리지 않고 바로 대응 모델 호출
+     * - fired: 대응 모델을 이미 불렀는지 (어느 경로든 한 번만)
+     */
+    private Mono<String> hedged(ModelOption primary, ModelOption secondary, String prompt, AiUsage usage,
+                                AtomicBoolean fired) {
+        AiProperties.Resilience.Hedge hedge = props.getHedge();
+        Optional<Duration> threshold = latencyTracker.percentile(primary, hedge.getPercentile(), hedge.getMinSamples());
+        if (threshold.isEmpty()) return guarded(primary, prompt, usage);
+
+        Duration delay = threshold.get().compareTo(hedge.getMinDelay()) < 0 ? hedge.getMinDelay() : threshold.get();
+        AtomicBoolean hedging = new AtomicBoolean(false);
+        Mono<String> first = guarded(primary, prompt, usage)
+            .doOnNext(v -> {
+                if (hedging.get()) hedgePrimaryWin.increment();
+            })
+            .onErrorResume(e -> {
+                if (!fired.compareAndSet(false, true)) return Mono.error(e);
+                log.warn("AI 호출 실패, 헤징 대기 없이 대응 모델로 전환: {} -> {} ({})", primary, secondary, e.toString());
+                failoverCounter(primary, secondary).increment();
+                return guarded(secondary, prompt, usage);
+            });
+        // 주 모델 실패로 이미 대응 모델을 불렀으면 값 없이 끝남
+        Mono<String> second = Mono.delay(delay)
+            .filter(t -> fired.compareAndSet(false, true))
+            .flatMap(t -> {
+                hedging.set(true);
+                hedgeFired.increment();
+                log.info("AI 호출 헤징: {} 지연 {}ms 초과 → {}", primary, delay.toMillis(), secondary);
+                return guarded(secondary, prompt, usage).doOnNext(v -> hedgeSecondaryWin.increment());
+            });
+        // 먼저 값을 낸 쪽만 남기고 나머지는 취소
+        return Mono.firstWithValue(first, second);
+    }
+
+    /**
+     * 브레이커 + 벌크헤드 + 시도당 타임아웃 + 재시도
+     * - 벌크헤드 자리는 시도마다 받고 반납 (재시도 백오프 동안 자리를 잡고 있지 않도록)
+     */
+    private Mono<String> guarded(ModelOption option, String prompt, AiUsage usage) {
+        return Mono.defer(() -> {
+            ProviderCircuitBreaker breaker = breakers.get(option.getProvider());
+            if (!breaker.tryAcquire()) {
+                callCounter(option, "rejected").increment();
+                return Mono.error(new ProviderUnavailableException(option.getProvider()));
+            }
+            long started = System.nanoTime();
+            AtomicBoolean settled = new AtomicBoolean(false);
+            return bulkhead.wrap(option.getProvider(), Mono.defer(() -> call(option, prompt)).timeout(props.getTimeout()))
+                .retryWhen(retrySpec(option))
+                .doOnSuccess(c -> {
+                    if (settled.compareAndSet(false, true)) {
+                        long elapsed = System.nanoTime() - started;
+                        breaker.onSuccess();
+                        callCounter(option, "success").increment();
+                        // 값 없이 완료(c == null)돼도 호출 자체는 끝났으므로 성공으로 기록
+                        if (c != null) {
+                            telemetry.record(option, true, c.ttfbNanos(), elapsed, c.usage(), c.fallback(), usage);
+                        } else {
+                            telemetry.record(option, true, -1L, elapsed, null, false, usage);
+                        }
+                    }
+                })
+                .doOnError(e -> {
+                    if (!settled.compareAndSet(false, true)) return;
+                    // 벌크헤드 대기 초과는 공급자 실패가 아니므로 브레이커에 반영하지 않음
+                    if (e instanceof ProviderUnavailableException) {
+                        breaker.onIgnored();
+                        return;
+                    }
+                    breaker.onFailure();
+                    callCounter(option, "failure").increment();
+                    telemetry.record(option, false, -1L, System.nanoTime() - started, null, false, null);
+                })
+                .doOnCancel(() -> {
+                    if (settled.compareAndSet(false, true)) breaker.onIgnored();
+                })
+                .map(AiCompletion::text);
+        });
+    }
 
-    /** requestedModelKey에 따라 적절한 백엔드 호출 */
-    public Mono<String> generateJsonArray(String requestedModelKey, String prompt) {
-        ModelOption option = modelResolver.resolveOption(requestedModelKey);
+    private Flux<String> guardedStream(ModelOption option, String prompt, AiUsage usage) {
+        return bulkhead.wrap(option.getProvider(), Flux.defer(() -> {
+            ProviderCircuitBreaker breaker = breakers.get(option.getProvider());
+            if (!breaker.tryAcquire()) {
+                callCounter(option, "rejected").increment();
+                return Flux.error(new ProviderUnavailableException(option.getProvider()));
+            }
+            long started = System.nanoTime();
+            AtomicLong ttfb = new AtomicLong(-1L);
+            AtomicReference<AiCompletion.Usage> lastUsage = new AtomicReference<>();
+            AtomicBoolean settled = new AtomicBoolean(false);
+            return stream(option, prompt)
+                .timeout(props.getStreamIdleTimeout())
+                .doOnNext(c -> {
+                    // 스트리밍의 TTFB = 첫 조각 도착
+                    ttfb.compareAndSet(-1L, System.nanoTime() - started);
+                    if (c.usage() != null) lastUsage.set(c.usage());
+                })
+                .doOnComplete(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        breaker.onSuccess();
+                        callCounter(option, "success").increment();
+                        telemetry.record(option, true, ttfb.get(), System.nanoTime() - started,
+                            lastUsage.get(), false, usage);
+                    }
+                })
+                .doOnError(e -> {
+                    if (settled.compareAndSet(false, true)) {
+                        breaker.onFailure();
+                        callCounter(option, "failure").increment();
+                        telemetry.record(option, false, ttfb.get(), System.nanoTime() - started, null, false, null);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (settled.compareAndSet(false, true)) breaker.onIgnored();
+                })
+                .map(AiCompletion::text)
+                .filter(text -> !text.isEmpty());
+        }));
+    }
 
+    private Mono<AiCompletion> call(ModelOption option, String prompt) {
         if (option.getProvider() == AiProvider.GEMINI) {
             String url = modelResolver.buildGeminiApiUrl(option.getModelId());
             return geminiApiClient.generateContent(url, prompt);
@@ -24,4 +238,51 @@ public class AiClientRouter {
             return openAiApiClient.chatCompletions(url, option.getModelId(), prompt);
         }
     }
+
+    private Flux<AiCompletion> stream(ModelOption option, String prompt) {
+        if (option.getProvider() == AiProvider.GEMINI) {
+            String url = modelResolver.buildGeminiStreamUrl(option.getModelId());
+            return geminiApiClient.streamContent(url, prompt);
+        } else {
+            String url = modelResolver.openAiCompletionsUrl();
+            return openAiApiClient.streamChatCompletions(url, option.getModelId(), prompt);
+        }
+    }
+
+    private Retry retrySpec(ModelOption option) {
+        return Retry.backoff(props.getMaxRetries(), props.getRetryMinBackoff())
+            .maxBackoff(props.getRetryMaxBackoff())
+            .jitter(0.5)
+            .filter(AiClientRouter::isRetryable)
+            .doBeforeRetry(signal -> {
+                registry.counter("ai.client.retries", "model", option.name()).increment();
+                log.info("AI 호출 재시도 {}회: {} ({})", signal.totalRetries() + 1, option, signal.failure().toString());
+            })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /** 429(한도 초과)와 5xx만 재시도 */
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException w) {
+            int status = w.getStatusCode().value();
+            return status == 429 || w.getStatusCode().is5xxServerError();
+        }
+        return false;
+    }
+
+    private Counter callCounter(ModelOption option, String result) {
+        return registry.counter("ai.client.calls",
+            "provider", option.getProvider().name(), "model", option.name(), "result", result);
+    }
+
+    private Counter failoverCounter(ModelOption from, ModelOption to) {
+        return registry.counter("ai.client.failover", "from", from.name(), "to", to.name());
+    }
+
+    private Counter hedgeCounter(String result) {
+        return Counter.builder("ai.client.hedge")
+            .description("헤징 요청 수와 주/대응 모델 중 먼저 끝난 쪽 (hedge_win / fired = 헤징 승률)")
+            .tag("result", result)
+            .register(registry);
+    }
 }
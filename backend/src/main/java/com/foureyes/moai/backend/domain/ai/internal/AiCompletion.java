@@ -0,0 +1,17 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+/**
+ * 공급자 응답 1건 (비스트리밍) 또는 스트리밍 조각 1개
+ * - text: 모델 출력 텍스트 (스트리밍이면 조각)
+ * - usage: 공급자가 알려준 토큰 수 (스트리밍은 보통 마지막 조각에만, 없으면 null)
+ * - fallback: 응답 구조를 못 읽어 "[]"로 대체한 경우
+ * - ttfbNanos: 요청 전송 ~ 응답 헤더 수신 (모르면 -1)
+ */
+public record AiCompletion(String text, Usage usage, boolean fallback, long ttfbNanos) {
+
+    public record Usage(long promptTokens, long completionTokens) {}
+
+    public static AiCompletion chunk(String text, Usage usage) {
+        return new AiCompletion(text, usage, false, -1L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요약 요청 속도 제한 (Redis 토큰 버킷)
+ * - 사용자 / 스터디 / 모델 버킷을 Lua 스크립트 한 번으로 확인 후 모두 1개씩 차감 (하나라도 부족하면 차감 없음)
+ * - 시간은 Redis TIME 기준이라 서버 간 시계 차이 영향 없음
+ * - Redis 장애 시에는 제한 없이 통과 (요약 기능 자체를 막지 않음)
+ */
+@Slf4j
+@Component
+public class AiRateLimiter {
+
+    private static final String KEY_PREFIX = "ai-rate:";
+
+    // ARGV: 버킷마다 (capacity, 밀리초당 충전량) 쌍 / 반환: {허용 1|0, 대기 ms}
+    private static final String TOKEN_BUCKET_LUA = """
+        if redis.replicate_commands then redis.replicate_commands() end
+        local t = redis.call('TIME')
+        local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+        local tokens = {}
+        local wait = 0
+        for i = 1, #KEYS do
+          local cap = tonumber(ARGV[2 * i - 1])
+          local rate = tonumber(ARGV[2 * i])
+          local b = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+          local tk = tonumber(b[1]) or cap
+          local ts = tonumber(b[2]) or now
+          tk = math.min(cap, tk + math.max(0, now - ts) * rate)
+          tokens[i] = tk
+          if tk < 1 then
+            local w = math.ceil((1 - tk) / rate)
+            if w > wait then wait = w end
+          end
+        end
+        if wait > 0 then return {0, wait} end
+        for i = 1, #KEYS do
+          local cap = tonumber(ARGV[2 * i - 1])
+          local rate = tonumber(ARGV[2 * i])
+          redis.call('HSET', KEYS[i], 'tokens', tostring(tokens[i] - 1), 'ts', tostring(now))
+          redis.call('PEXPIRE', KEYS[i], math.ceil(cap / rate) + 1000)
+        end
+        return {1, 0}
+        """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SCRIPT = new DefaultRedisScript<>(TOKEN_BUCKET_LUA, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AiProperties.RateLimit props;
+
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public AiRateLimiter(StringRedisTemplate redisTemplate, AiProperties aiProperties, MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.props = aiProperties.getRateLimit();
+        this.allowed = Counter.builder("ai.ratelimit.requests").tag("result", "allowed").register(registry);
+        this.rejected = Counter.builder("ai.ratelimit.requests").tag("result", "rejected").register(registry);
+    }
+
+    /** 요청 1건 허용 여부 확인, 초과면 RateLimitExceededException (Retry-After 초 포함) */
+    public void acquire(int userId, Collection<Integer> studyIds, ModelOption model) {
+        if (!props.isEnabled()) return;
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        addBucket(keys, args, "user:" + userId, props.getUser());
+        for (Integer studyId : studyIds) {
+            addBucket(keys, args, "study:" + studyId, props.getStudy());
+        }
+        addBucket(keys, args, "model:" + model.name(),
+            props.getModelOverrides().getOrDefault(model.name(), props.getModel()));
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("요청 속도 제한 Redis 실패, 제한 없이 통과: {}", e.getMessage());
+            return;
+        }
+        if (result == null || result.size() < 2) return;
+
+        if (((Number) result.get(0)).longValue() == 1L) {
+            allowed.increment();
+            return;
+        }
+        rejected.increment();
+        long waitMs = ((Number) result.get(1)).longValue();
+        throw new RateLimitExceededException(Math.max(1L, (waitMs + 999) / 1000));
+    }
+
+    private static void addBucket(List<String> keys, List<String> args, String key, AiProperties.RateLimit.Bucket bucket) {
+        keys.add(KEY_PREFIX + key);
+        args.add(String.valueOf(bucket.getCapacity()));
+        args.add(String.valueOf(Math.max(1, bucket.getRefillPerMinute()) / 60_000.0));
+    }
+}
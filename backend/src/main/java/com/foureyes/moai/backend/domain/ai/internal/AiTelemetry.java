@@ -0,0 +1,61 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 호출 지표 (공급자/모델 태그)
+ * - ai.client.ttfb / ai.client.latency: 응답 시작까지 / 전체 소요 시간 (히스토그램)
+ * - ai.client.tokens{type=prompt|completion}, ai.client.cost.usd: 공급자가 알려준 토큰 수와 추정 비용
+ * - ai.client.response.fallback: 응답 구조를 못 읽어 "[]"로 대체한 횟수
+ * - 헤징 기준 / 자동 모델 선택(ModelHealth)이 읽는 최근 지연(LatencyTracker)도 여기서 함께 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class AiTelemetry {
+
+    private final MeterRegistry registry;
+    private final LatencyTracker latencyTracker;
+
+    /** 호출 1건 기록 (usage가 없으면 토큰/비용은 생략) */
+    public void record(ModelOption model, boolean success, long ttfbNanos, long totalNanos,
+                       AiCompletion.Usage usage, boolean fallback, AiUsage accumulator) {
+        String outcome = success ? "success" : "failure";
+        latencyTracker.record(model, success, totalNanos);
+        if (ttfbNanos >= 0) {
+            timer("ai.client.ttfb", model, outcome).record(ttfbNanos, TimeUnit.NANOSECONDS);
+        }
+        timer("ai.client.latency", model, outcome).record(totalNanos, TimeUnit.NANOSECONDS);
+
+        if (fallback) {
+            registry.counter("ai.client.response.fallback", tags(model)).increment();
+        }
+        if (usage != null) {
+            double cost = model.estimateCostUsd(usage.promptTokens(), usage.completionTokens());
+            registry.counter("ai.client.tokens", "provider", model.getProvider().name(),
+                "model", model.name(), "type", "prompt").increment(usage.promptTokens());
+            registry.counter("ai.client.tokens", "provider", model.getProvider().name(),
+                "model", model.name(), "type", "completion").increment(usage.completionTokens());
+            registry.counter("ai.client.cost.usd", tags(model)).increment(cost);
+            if (accumulator != null) accumulator.add(usage.promptTokens(), usage.completionTokens(), cost);
+        } else if (success && accumulator != null) {
+            accumulator.add(0, 0, 0);
+        }
+    }
+
+    private Timer timer(String name, ModelOption model, String outcome) {
+        return Timer.builder(name)
+            .tags(tags(model))
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private static String[] tags(ModelOption model) {
+        return new String[]{"provider", model.getProvider().name(), "model", model.name()};
+    }
+}
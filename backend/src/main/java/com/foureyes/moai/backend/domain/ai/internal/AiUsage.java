@@ -0,0 +1,39 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요약 작업 1건 동안의 LLM 사용량 누적 (청크 병렬 호출에서 동시에 더해짐)
+ * - 작업이 끝나면 사용자별 일일 집계로 저장
+ */
+public class AiUsage {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+    private final DoubleAdder costUsd = new DoubleAdder();
+
+    public void add(long prompt, long completion, double cost) {
+        calls.increment();
+        promptTokens.add(prompt);
+        completionTokens.add(completion);
+        costUsd.add(cost);
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long promptTokens() {
+        return promptTokens.sum();
+    }
+
+    public long completionTokens() {
+        return completionTokens.sum();
+    }
+
+    public double costUsd() {
+        return costUsd.sum();
+    }
+}
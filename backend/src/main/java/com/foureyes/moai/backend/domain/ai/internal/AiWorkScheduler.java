@@ -0,0 +1,270 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요약 작업 공정 스케줄러 (워커 풀 앞단, 작업이 AiClientRouter에 닿기 전에 실행 순서를 정함)
+ * - 레인(INTERACTIVE/BULK) → 스터디 → 사용자 순의 가상 대기열을 가중치 deficit round-robin으로 순회
+ * - 한 스터디의 일괄 요청이 밀려 있어도 다른 스터디/사용자의 작업이 번갈아 워커에 올라감
+ * - BULK 레인은 reservedInteractiveWorkers만큼 워커를 남겨 두고, 공급자별 동시 실행 작업 수에도 상한을 둠
+ * - 레인별 대기 작업 수 ai.scheduler.queue.depth, 대기 시간 ai.scheduler.wait, 실행 시간 ai.scheduler.service
+ */
+@Slf4j
+@Component
+public class AiWorkScheduler {
+
+    /** 우선순위 레인: 단건 요청(INTERACTIVE)과 일괄/대용량 작업(BULK) */
+    public enum Lane {
+        INTERACTIVE, BULK
+    }
+
+    /** 작업을 넣을 가상 대기열 (레인/스터디/사용자)과 실행 시 차지할 공급자 */
+    public record Ticket(Lane lane, int studyId, int userId, AiProvider provider) {}
+
+    private record Entry(Ticket ticket, Runnable task, Runnable rejected, long enqueuedAt) {}
+
+    private final TaskExecutor executor;
+    private final AiProperties.Scheduler props;
+    private final int workers;
+    private final int queueCapacity;
+
+    // 아래 상태는 모두 root 락 안에서만 변경 (게이지는 Atomic 값만 읽음)
+    private final Flow root = new Flow(1);
+    private final Map<Lane, AtomicInteger> queued = new EnumMap<>(Lane.class);
+    private final Map<Lane, AtomicInteger> running = new EnumMap<>(Lane.class);
+    private final Map<AiProvider, AtomicInteger> runningByProvider = new EnumMap<>(AiProvider.class);
+    private int runningTotal;
+    private final Map<AiProvider, Integer> providerCaps = new EnumMap<>(AiProvider.class);
+
+    private final Map<Lane, Timer> waitTimers = new EnumMap<>(Lane.class);
+    private final Map<Lane, Timer> serviceTimers = new EnumMap<>(Lane.class);
+
+    public AiWorkScheduler(@Qualifier("aiSummaryExecutor") TaskExecutor executor,
+                           AiProperties aiProperties, MeterRegistry registry) {
+        this.executor = executor;
+        this.props = aiProperties.getScheduler();
+        this.workers = Math.max(1, aiProperties.getJob().getWorkers());
+        this.queueCapacity = aiProperties.getJob().getQueueCapacity();
+
+        for (Lane lane : Lane.values()) {
+            String tag = lane.name().toLowerCase();
+            queued.put(lane, new AtomicInteger());
+            running.put(lane, new AtomicInteger());
+            Gauge.builder("ai.scheduler.queue.depth", queued.get(lane), AtomicInteger::get)
+                .description("워커 배정을 기다리는 요약 작업 수")
+                .tag("lane", tag)
+                .register(registry);
+            Gauge.builder("ai.scheduler.running", running.get(lane), AtomicInteger::get)
+                .description("실행 중인 요약 작업 수")
+                .tag("lane", tag)
+                .register(registry);
+            waitTimers.put(lane, Timer.builder("ai.scheduler.wait")
+                .description("요약 작업이 대기열에 들어간 뒤 워커에 배정되기까지 걸린 시간")
+                .tag("lane", tag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry));
+            serviceTimers.put(lane, Timer.builder("ai.scheduler.service")
+                .description("요약 작업 1건의 워커 실행 시간")
+                .tag("lane", tag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry));
+        }
+        // 설정 키는 공급자 이름 (대소문자 무시), 없으면 워커 수가 곧 상한
+        props.getMaxConcurrentPerProvider().forEach((name, cap) -> {
+            for (AiProvider provider : AiProvider.values()) {
+                if (provider.name().equalsIgnoreCase(name.trim())) providerCaps.put(provider, Math.max(1, cap));
+            }
+        });
+        for (AiProvider provider : AiProvider.values()) {
+            runningByProvider.put(provider, new AtomicInteger());
+            Gauge.builder("ai.scheduler.provider.running", runningByProvider.get(provider), AtomicInteger::get)
+                .description("공급자별 실행 중인 요약 작업 수 (상한: ai.scheduler.max-concurrent-per-provider)")
+                .tag("provider", provider.name())
+                .register(registry);
+        }
+    }
+
+    /** 단건 요청의 레인: 문서가 많거나 청크 모드면 오래 걸리므로 BULK */
+    public Lane laneOf(SummaryJob job) {
+        if (job.mode() == SummaryMode.CHUNKED || job.docs().size() > props.getInteractiveMaxDocuments()) {
+            return Lane.BULK;
+        }
+        return Lane.INTERACTIVE;
+    }
+
+    /** 대기열에 여유가 있는지 (요청 단계에서 503 판단용) */
+    public boolean hasCapacity() {
+        synchronized (root) {
+            return root.size < queueCapacity;
+        }
+    }
+
+    /**
+     * 작업 등록, 대기열이 가득 차 있으면 false
+     * - rejected: 워커 풀이 작업을 거부했을 때 호출 (정상이라면 일어나지 않음)
+     */
+    public boolean submit(Ticket ticket, Runnable task, Runnable rejected) {
+        synchronized (root) {
+            if (root.size >= queueCapacity) return false;
+            add(new Entry(ticket, task, rejected, System.nanoTime()));
+            queued.get(ticket.lane()).incrementAndGet();
+        }
+        dispatch();
+        return true;
+    }
+
+    /** 빈 워커가 있는 동안 DRR 순서대로 꺼내서 실행 */
+    private void dispatch() {
+        List<Entry> ready = new ArrayList<>();
+        synchronized (root) {
+            while (runningTotal < workers) {
+                Entry e = poll(root);
+                if (e == null) break;
+                Ticket t = e.ticket();
+                queued.get(t.lane()).decrementAndGet();
+                running.get(t.lane()).incrementAndGet();
+                runningByProvider.get(t.provider()).incrementAndGet();
+                runningTotal++;
+                ready.add(e);
+            }
+        }
+        // 실행 제출은 락 밖에서
+        for (Entry e : ready) start(e);
+    }
+
+    private void start(Entry e) {
+        Lane lane = e.ticket().lane();
+        waitTimers.get(lane).record(System.nanoTime() - e.enqueuedAt(), TimeUnit.NANOSECONDS);
+        try {
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                try {
+                    e.task().run();
+                } finally {
+                    serviceTimers.get(lane).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    finished(e.ticket());
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            log.error("AI 요약 워커 풀이 작업을 거부함: ticket={}", e.ticket(), ex);
+            finished(e.ticket());
+            e.rejected().run();
+        }
+    }
+
+    private void finished(Ticket t) {
+        synchronized (root) {
+            running.get(t.lane()).decrementAndGet();
+            runningByProvider.get(t.provider()).decrementAndGet();
+            runningTotal--;
+        }
+        dispatch();
+    }
+
+    /** 레인 여유(BULK는 예약분 제외)와 공급자 상한을 모두 만족해야 시작 가능 (root 락 안에서 호출) */
+    private boolean canStart(Ticket t) {
+        if (t.lane() == Lane.BULK) {
+            int bulkLimit = Math.max(1, workers - props.getReservedInteractiveWorkers());
+            if (running.get(Lane.BULK).get() >= bulkLimit) return false;
+        }
+        Integer cap = providerCaps.get(t.provider());
+        return cap == null || runningByProvider.get(t.provider()).get() < cap;
+    }
+
+    private int weightOf(Lane lane) {
+        return lane == Lane.INTERACTIVE ? props.getInteractiveWeight() : props.getBulkWeight();
+    }
+
+    /**
+     * DRR 노드: 하위 흐름(레인 → 스터디 → 사용자)을 가중치만큼 번갈아 꺼내고, 말단(사용자)은 작업 FIFO
+     * - 하위 흐름은 대기 작업이 있을 때만 children/active에 있음
+     */
+    private static final class Flow {
+        final int weight;
+        int deficit;
+        int size;
+        final Map<Object, Flow> children = new HashMap<>();
+        final Deque<Object> active = new ArrayDeque<>();
+        final Deque<Entry> entries = new ArrayDeque<>();
+
+        Flow(int weight) {
+            this.weight = Math.max(1, weight);
+        }
+    }
+
+    private void add(Entry e) {
+        Ticket t = e.ticket();
+        Object[] path = {t.lane(), t.studyId(), t.userId()};
+        int[] weights = {weightOf(t.lane()), props.getStudyWeights().getOrDefault(t.studyId(), 1), 1};
+
+        Flow node = root;
+        node.size++;
+        for (int i = 0; i < path.length; i++) {
+            Flow child = node.children.get(path[i]);
+            if (child == null) {
+                child = new Flow(weights[i]);
+                node.children.put(path[i], child);
+                node.active.addLast(path[i]);
+            }
+            child.size++;
+            node = child;
+        }
+        node.entries.addLast(e);
+    }
+
+    /** 시작 가능한 작업 하나 (없으면 null), 막힌 흐름은 건너뛰고 다음 흐름으로 */
+    private Entry poll(Flow node) {
+        if (node.children.isEmpty()) {
+            for (Iterator<Entry> it = node.entries.iterator(); it.hasNext(); ) {
+                Entry e = it.next();
+                if (canStart(e.ticket())) {
+                    it.remove();
+                    node.size--;
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        for (int visits = node.active.size(); visits > 0; visits--) {
+            Object key = node.active.peekFirst();
+            Flow child = node.children.get(key);
+            // 차례가 올 때마다 가중치만큼 충전 (막혀 있던 흐름도 가중치 이상은 쌓이지 않음)
+            if (child.deficit < 1) child.deficit += child.weight;
+
+            Entry e = poll(child);
+            if (e != null) {
+                node.size--;
+                child.deficit--;
+                if (child.size == 0) {
+                    node.active.pollFirst();
+                    node.children.remove(key);
+                } else if (child.deficit < 1) {
+                    node.active.addLast(node.active.pollFirst());
+                }
+                return e;
+            }
+            node.active.addLast(node.active.pollFirst());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 페이지 단위 BM25 점수 계산
+ * - 토큰: 한글/한자/가나는 문자 bigram (형태소 분석 없이 조사·어미 변화에 강함), 영문/숫자는 소문자 단어
+ * - 질의 토큰만 세는 역색인이라 수백 페이지도 한 번 훑으면 끝남
+ */
+public final class Bm25PageRanker {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private Bm25PageRanker() {}
+
+    /** pages 순서 그대로 점수 반환 (질의 토큰이 없으면 전부 0) */
+    public static double[] score(List<PageText> pages, String query) {
+        double[] scores = new double[pages.size()];
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || pages.isEmpty()) return scores;
+
+        // 질의 토큰의 페이지별 빈도 + 문서 빈도
+        List<Map<String, Integer>> tfs = new ArrayList<>(pages.size());
+        int[] lengths = new int[pages.size()];
+        Map<String, Integer> df = new HashMap<>();
+        long totalLength = 0;
+        for (int i = 0; i < pages.size(); i++) {
+            Map<String, Integer> tf = new HashMap<>();
+            List<String> tokens = tokenize(pages.get(i).text());
+            for (String t : tokens) {
+                if (terms.contains(t)) tf.merge(t, 1, Integer::sum);
+            }
+            for (String t : tf.keySet()) df.merge(t, 1, Integer::sum);
+            tfs.add(tf);
+            lengths[i] = tokens.size();
+            totalLength += tokens.size();
+        }
+
+        int n = pages.size();
+        double avgLength = Math.max(1.0, (double) totalLength / n);
+        for (int i = 0; i < n; i++) {
+            double norm = K1 * (1 - B + B * lengths[i] / avgLength);
+            double s = 0;
+            for (Map.Entry<String, Integer> e : tfs.get(i).entrySet()) {
+                int d = df.get(e.getKey());
+                double idf = Math.log(1 + (n - d + 0.5) / (d + 0.5));
+                int f = e.getValue();
+                s += idf * f * (K1 + 1) / (f + norm);
+            }
+            scores[i] = s;
+        }
+        return scores;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        StringBuilder word = new StringBuilder();
+        int cjkStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean cjk = isCjk(c);
+            boolean alnum = !cjk && Character.isLetterOrDigit(c);
+
+            if (cjkStart >= 0 && !cjk) {
+                addBigrams(text, cjkStart, i, tokens);
+                cjkStart = -1;
+            } else if (cjkStart < 0 && cjk) {
+                cjkStart = i;
+            }
+
+            if (alnum) {
+                word.append(Character.toLowerCase(c));
+            } else if (!word.isEmpty()) {
+                // 영문 한 글자는 의미가 거의 없어서 제외 (숫자는 유지)
+                if (word.length() > 1 || Character.isDigit(word.charAt(0))) tokens.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> out) {
+        if (end - start == 1) {
+            out.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) out.add(text.substring(i, i + 2));
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+}
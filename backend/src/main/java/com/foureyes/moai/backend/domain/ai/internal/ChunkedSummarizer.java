@@ -0,0 +1,237 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 긴 문서용 map-reduce 요약
+ * - map: 페이지 경계에 맞춘 청크별로 병렬 요약 (동시 호출 수 제한)
+ * - reduce: 부분 결과를 순서대로 합치고 중복 항목 제거
+ * - 청크 크기는 모델 토크나이저 기준 추정 토큰으로 정하고, 짧은 문서는 한 청크에 묶어 maxChunks를 넘지 않음
+ */
+@Slf4j
+@Component
+public class ChunkedSummarizer {
+
+    private final PromptBuilder promptBuilder;
+    private final AiClientRouter aiClientRouter;
+    private final SummaryParser summaryParser;
+    private final AiProperties.Chunked props;
+
+    public ChunkedSummarizer(PromptBuilder promptBuilder, AiClientRouter aiClientRouter,
+                             SummaryParser summaryParser, AiProperties aiProperties) {
+        this.promptBuilder = promptBuilder;
+        this.aiClientRouter = aiClientRouter;
+        this.summaryParser = summaryParser;
+        this.props = aiProperties.getChunked();
+    }
+
+    /** 요약 대상 문서 (페이지별 텍스트) */
+    public record DocText(int docId, String title, List<PageText> pages) {}
+
+    /** 한 문서의 연속된 페이지 묶음 */
+    record Part(int docId, String title, List<PageText> pages) {
+        int firstPage() {
+            return pages.get(0).pageNo();
+        }
+
+        int lastPage() {
+            return pages.get(pages.size() - 1).pageNo();
+        }
+    }
+
+    /** LLM 호출 1건 분량 (보통 한 문서의 일부, 짧은 문서는 여러 개) */
+    record Chunk(List<Part> parts) {
+        @Override
+        public String toString() {
+            StringJoiner sj = new StringJoiner(", ");
+            for (Part p : parts) sj.add(p.docId() + ":" + p.firstPage() + "-" + p.lastPage());
+            return sj.toString();
+        }
+    }
+
+    /** usage: 작업 단위 사용량 누적 (청크 호출마다 더해짐) */
+    public List<SummaryDto> summarize(List<DocText> docs, String modelType, String userPrompt, AiUsage usage) {
+        List<Chunk> chunks = split(docs, ModelOption.fromKey(modelType), userPrompt);
+        log.info("청크 요약 시작: docs={}, chunks={}", docs.size(), chunks.size());
+
+        AtomicInteger failed = new AtomicInteger();
+        List<List<SummaryDto>> partials = Flux.fromIterable(chunks)
+            .flatMapSequential(c -> summarizeChunk(c, modelType, userPrompt, usage, failed),
+                Math.max(1, props.getConcurrency()))
+            .collectList()
+            .block();
+
+        if (partials == null || (!chunks.isEmpty() && failed.get() == chunks.size())) {
+            throw new IllegalStateException("모든 청크 요약에 실패했습니다.");
+        }
+        return merge(partials);
+    }
+
+    /** 청크 하나 요약, 실패한 청크는 건너뛰고 나머지로 계속 진행 */
+    private Mono<List<SummaryDto>> summarizeChunk(Chunk c, String modelType, String userPrompt,
+                                                  AiUsage usage, AtomicInteger failed) {
+        List<String> blocks = new ArrayList<>(c.parts().size());
+        for (Part p : c.parts()) {
+            blocks.add(promptBuilder.formatDocBlock(p.docId(), p.title(), PageText.toLabelledText(p.pages())));
+        }
+        String prompt = promptBuilder.buildMultiDocPrompt(String.join("\n\n", blocks), userPrompt);
+
+        ModelOption model = ModelOption.fromKey(modelType);
+        return aiClientRouter.generateJsonArray(modelType, prompt, usage)
+            .map(json -> normalize(c, summaryParser.parse(json, model).items()))
+            .onErrorResume(e -> {
+                log.warn("청크 요약 실패: chunk=[{}], err={}", c, e.toString());
+                failed.incrementAndGet();
+                return Mono.just(List.of());
+            })
+            .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * 청크 분할 (문서 순서대로 페이지를 채움)
+     * - 청크 크기: 전체 토큰 / maxChunks, 최소 chunkTokens, 최대 maxChunkTokens와 모델 본문 한도 중 작은 값
+     * - 짧은 문서는 다음 문서와 같은 청크에 들어가고, 한 페이지가 청크보다 크면 앞부분만 사용
+     * - 최대 크기로도 maxChunks를 넘는 분량이면 문서별로 공평하게 나눈 몫만큼 앞 페이지부터 사용
+     */
+    List<Chunk> split(List<DocText> docs, ModelOption model, String userPrompt) {
+        TokenEstimator.Tokenizer tokenizer = model.getTokenizer();
+        int maxChunks = Math.max(1, props.getMaxChunks());
+        int limit = Math.min(props.getMaxChunkTokens(),
+            promptBuilder.modelBudget(model, model.estimateTokens(promptBuilder.buildMultiDocPrompt("", userPrompt))));
+        limit = Math.max(1, limit);
+
+        // 문서별 페이지 토큰 (라벨/DOC 머리글 포함)
+        int[][] costs = new int[docs.size()][];
+        int[] headers = new int[docs.size()];
+        int[] demand = new int[docs.size()];
+        long total = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            DocText d = docs.get(i);
+            costs[i] = PromptBuilder.pageCosts(d.pages(), tokenizer);
+            headers[i] = model.estimateTokens(promptBuilder.formatDocBlock(d.docId(), d.title(), ""));
+            long sum = headers[i];
+            for (int c : costs[i]) sum += Math.min(c, Math.max(1, limit - headers[i]));
+            demand[i] = (int) Math.min(Integer.MAX_VALUE, sum);
+            total += demand[i];
+        }
+
+        // 최대 크기로도 넘치면 문서별 몫만 남김 (페이지 경계 손실만큼 여유)
+        int[] allowed = demand;
+        long capacity = (long) maxChunks * limit * 9 / 10;
+        if (total > capacity) {
+            allowed = PromptBuilder.fairShares(demand, (int) Math.min(Integer.MAX_VALUE, capacity));
+        }
+        int target = (int) Math.min(limit, Math.max(Math.min(props.getChunkTokens(), limit),
+            (Math.min(total, capacity) + maxChunks - 1) / maxChunks));
+
+        List<Chunk> chunks = pack(docs, costs, headers, allowed, target, tokenizer);
+        if (chunks.size() > maxChunks && target < limit) {
+            // 페이지 경계 때문에 넘친 경우 최대 크기로 다시
+            chunks = pack(docs, costs, headers, allowed, limit, tokenizer);
+        }
+        if (chunks.size() > maxChunks) {
+            log.warn("청크 수 상한으로 뒤쪽 청크 제외: {}개 중 {}개 사용, 제외 [{}]",
+                chunks.size(), maxChunks, chunks.get(maxChunks));
+            chunks = new ArrayList<>(chunks.subList(0, maxChunks));
+        }
+        for (int i = 0; i < docs.size(); i++) {
+            if (allowed[i] < demand[i]) {
+                log.warn("청크 수 상한으로 일부 페이지 제외: docsId={}, {}/{} 토큰만 사용",
+                    docs.get(i).docId(), allowed[i], demand[i]);
+            }
+        }
+        return chunks;
+    }
+
+    /** 문서 순서대로 target 토큰까지 페이지를 채워 청크 생성 (문서별 allowed 토큰까지만) */
+    private List<Chunk> pack(List<DocText> docs, int[][] costs, int[] headers, int[] allowed, int target,
+                             TokenEstimator.Tokenizer tokenizer) {
+        List<Chunk> chunks = new ArrayList<>();
+        List<Part> parts = new ArrayList<>();
+        int size = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            DocText d = docs.get(i);
+            int remaining = allowed[i] - headers[i];
+            List<PageText> pages = new ArrayList<>();
+            for (int p = 0; p < d.pages().size() && remaining > 0; p++) {
+                PageText page = d.pages().get(p);
+                int cost = costs[i][p];
+                int room = Math.max(1, target - headers[i]);
+                if (cost > room) {
+                    page = PromptBuilder.cut(page, room, tokenizer);
+                    cost = room;
+                }
+                if (cost > remaining) {
+                    page = PromptBuilder.cut(page, remaining, tokenizer);
+                    cost = remaining;
+                }
+                // 현재 청크에 이 페이지(새 문서면 머리글 포함)가 안 들어가면 청크를 닫음
+                int header = pages.isEmpty() ? headers[i] : 0;
+                if (size + header + cost > target && (size > 0 || !pages.isEmpty())) {
+                    if (!pages.isEmpty()) parts.add(new Part(d.docId(), d.title(), pages));
+                    chunks.add(new Chunk(parts));
+                    parts = new ArrayList<>();
+                    pages = new ArrayList<>();
+                    size = 0;
+                    header = headers[i];
+                }
+                pages.add(page);
+                size += header + cost;
+                remaining -= cost;
+            }
+            if (!pages.isEmpty()) parts.add(new Part(d.docId(), d.title(), pages));
+        }
+        if (!parts.isEmpty()) chunks.add(new Chunk(parts));
+        return chunks;
+    }
+
+    /**
+     * 청크 안의 문서로 docsId를 맞추고, 범위를 벗어난 페이지 번호는 해당 문서 부분의 범위로 보정
+     * - 한 문서만 든 청크는 docsId 고정, 여러 문서면 모델이 준 docsId가 청크에 없을 때 첫 문서로
+     */
+    private List<SummaryDto> normalize(Chunk c, List<SummaryDto> items) {
+        for (SummaryDto item : items) {
+            Part part = c.parts().get(0);
+            for (Part p : c.parts()) {
+                if (item.getDocsId() != null && p.docId() == item.getDocsId()) {
+                    part = p;
+                    break;
+                }
+            }
+            item.setDocsId(part.docId());
+            Integer page = item.getPageNumber();
+            if (page == null || page < part.firstPage()) {
+                item.setPageNumber(part.firstPage());
+            } else if (page > part.lastPage()) {
+                item.setPageNumber(part.lastPage());
+            }
+        }
+        return items;
+    }
+
+    /** 부분 결과 병합 (청크 순서 유지, 같은 문서의 같은 인용/문장은 1건만) */
+    List<SummaryDto> merge(List<List<SummaryDto>> partials) {
+        Map<String, SummaryDto> merged = new LinkedHashMap<>();
+        for (List<SummaryDto> list : partials) {
+            for (SummaryDto item : list) {
+                String basis = item.getOriginalQuote() != null && !item.getOriginalQuote().isBlank()
+                    ? item.getOriginalQuote() : item.getSummarySentence();
+                if (basis == null || basis.isBlank()) continue;
+                merged.putIfAbsent(item.getDocsId() + ":" + normalizeText(basis), item);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static String normalizeText(String s) {
+        return s.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+}
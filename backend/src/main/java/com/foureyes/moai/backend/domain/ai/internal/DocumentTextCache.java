@@ -0,0 +1,150 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.util.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PDF 추출 텍스트 2단 캐시 (fileKey + ETag 기준)
+ * - 1단: 인메모리 LRU (문자 수 기준 용량 제한)
+ * - 2단: Redis (gzip + base64, TTL)
+ * 같은 문서를 다시 요약할 때 B2 다운로드와 PDFBox 파싱을 생략한다.
+ */
+@Slf4j
+@Component
+public class DocumentTextCache {
+
+    private static final String REDIS_KEY_PREFIX = "ai-text:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AiProperties.TextCache props;
+    private final LruCache<String, String> memory;
+
+    private final Counter memoryHit;
+    private final Counter memoryMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+    private final Counter loads;
+
+    public DocumentTextCache(StringRedisTemplate redisTemplate, AiProperties aiProperties, MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.props = aiProperties.getTextCache();
+        this.memory = new LruCache<>(props.getMemoryMaxChars(), String::length);
+
+        this.memoryHit = requests(registry, "memory", "hit");
+        this.memoryMiss = requests(registry, "memory", "miss");
+        this.redisHit = requests(registry, "redis", "hit");
+        this.redisMiss = requests(registry, "redis", "miss");
+        this.loads = Counter.builder("ai.text.cache.loads")
+            .description("캐시 미스로 S3 다운로드 + PDF 추출을 수행한 횟수")
+            .register(registry);
+        FunctionCounter.builder("ai.text.cache.evictions", memory, LruCache::evictionCount)
+            .tag("tier", "memory")
+            .register(registry);
+        Gauge.builder("ai.text.cache.size", memory, LruCache::size)
+            .tag("tier", "memory")
+            .register(registry);
+        Gauge.builder("ai.text.cache.chars", memory, LruCache::weight)
+            .tag("tier", "memory")
+            .register(registry);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader로 추출 후 양쪽 캐시에 저장
+     */
+    public String getOrLoad(String fileKey, String eTag, Callable<String> loader) throws Exception {
+        String cacheKey = cacheKey(fileKey, eTag);
+
+        String text = memory.get(cacheKey);
+        if (text != null) {
+            memoryHit.increment();
+            return text;
+        }
+        memoryMiss.increment();
+
+        text = readRedis(cacheKey);
+        if (text != null) {
+            redisHit.increment();
+            memory.put(cacheKey, text);
+            return text;
+        }
+        if (props.isRedisEnabled()) redisMiss.increment();
+
+        loads.increment();
+        text = loader.call();
+        memory.put(cacheKey, text);
+        writeRedis(cacheKey, text);
+        return text;
+    }
+
+    /** Redis 장애는 캐시 미스로 취급 (요약 자체는 계속 진행) */
+    private String readRedis(String cacheKey) {
+        if (!props.isRedisEnabled()) return null;
+        try {
+            String encoded = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + cacheKey);
+            return encoded != null ? decompress(encoded) : null;
+        } catch (Exception e) {
+            log.warn("텍스트 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String cacheKey, String text) {
+        if (!props.isRedisEnabled()) return;
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + cacheKey, compress(text), props.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("텍스트 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("ai.text.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static String cacheKey(String fileKey, String eTag) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest((fileKey + "|" + eTag).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String compress(String text) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(text.length());
+        try (GZIPOutputStream gz = new GZIPOutputStream(bos)) {
+            gz.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getEncoder().encodeToString(bos.toByteArray());
+    }
+
+    private static String decompress(String encoded) throws IOException {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        try (GZIPInputStream gz = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gz.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
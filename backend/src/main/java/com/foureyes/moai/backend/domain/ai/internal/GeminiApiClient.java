@@ -1,11 +1,16 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -13,39 +18,93 @@ import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GeminiApiClient {
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
 
     @Value("${GMS_API_KEY}")
     private String geminiApiKey;
 
+    // 공급자 전용 커넥션 풀/타임아웃이 설정된 클라이언트 (WebClientConfig)
+    public GeminiApiClient(@Qualifier("geminiWebClient") WebClient webClient, ObjectMapper objectMapper) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+    }
+
     /** Gemini 호출 (풀 URL + key 쿼리) */
-    public Mono<String> generateContent(String fullApiUrl, String prompt) {
+    public Mono<AiCompletion> generateContent(String fullApiUrl, String prompt) {
         Map<String, Object> requestBody = Map.of(
             "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt))))
         );
 
         log.info("Gemini 호출: {}", fullApiUrl);
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return webClient.post()
+                .uri(fullApiUrl + "?key=" + geminiApiKey)
+                .bodyValue(requestBody)
+                .exchangeToMono(response -> {
+                    // 응답 헤더 도착 시점 = TTFB
+                    long ttfb = System.nanoTime() - started;
+                    if (response.statusCode().isError()) return response.createError();
+                    return response.bodyToMono(JsonNode.class).map(body -> toCompletion(body, ttfb));
+                });
+        });
+    }
+
+    /** Gemini 스트리밍 호출 (streamGenerateContent + alt=sse), 텍스트 조각을 순서대로 방출 */
+    public Flux<AiCompletion> streamContent(String fullStreamUrl, String prompt) {
+        Map<String, Object> requestBody = Map.of(
+            "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt))))
+        );
+
+        log.info("Gemini 스트리밍 호출: {}", fullStreamUrl);
         return webClient.post()
-            .uri(fullApiUrl + "?key=" + geminiApiKey)
+            .uri(fullStreamUrl + "?alt=sse&key=" + geminiApiKey)
+            .accept(MediaType.TEXT_EVENT_STREAM)
             .bodyValue(requestBody)
             .retrieve()
-            .bodyToMono(JsonNode.class)
-            .map(this::extractTextFromGeminiResponse);
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+            .mapNotNull(ServerSentEvent::data)
+            .map(this::extractChunkFromGeminiStream)
+            .filter(chunk -> !chunk.text().isEmpty() || chunk.usage() != null);
     }
 
-    /** Gemini 응답에서 텍스트(JSON 문자열) 추출 */
+    /** 스트리밍 청크의 텍스트 조각 + 누적 토큰 수 (텍스트가 없으면 빈 문자열) */
+    private AiCompletion extractChunkFromGeminiStream(String data) {
+        try {
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode text = chunk.path("candidates").path(0).path("content").path("parts").path(0).path("text");
+            return AiCompletion.chunk(text.isTextual() ? text.asText() : "", usageOf(chunk));
+        } catch (Exception e) {
+            log.warn("Gemini 스트리밍 청크 파싱 실패: {}", e.getMessage());
+            return AiCompletion.chunk("", null);
+        }
+    }
+
+    private AiCompletion toCompletion(JsonNode response, long ttfbNanos) {
+        String text = extractTextFromGeminiResponse(response);
+        return new AiCompletion(text != null ? text : "[]", usageOf(response), text == null, ttfbNanos);
+    }
+
+    /** Gemini 응답에서 텍스트(JSON 문자열) 추출, 구조가 다르면 null */
     private String extractTextFromGeminiResponse(JsonNode response) {
         try {
             String raw = response.get("candidates").get(0).get("content").get("parts").get(0).get("text").asText();
-            return raw.trim()
-                .replace("```json", "")
-                .replace("```", "");
+            return raw; // 코드펜스는 SummaryParser가 건너뜀
         } catch (Exception e) {
             log.warn("Gemini 응답 파싱 실패, 빈 배열로 대체");
-            return "[]";
+            return null;
         }
     }
+
+    /** usageMetadata (promptTokenCount / candidatesTokenCount) */
+    private static AiCompletion.Usage usageOf(JsonNode response) {
+        JsonNode usage = response.path("usageMetadata");
+        if (usage.isMissingNode()) return null;
+        return new AiCompletion.Usage(
+            usage.path("promptTokenCount").asLong(0),
+            usage.path("candidatesTokenCount").asLong(0));
+    }
 }
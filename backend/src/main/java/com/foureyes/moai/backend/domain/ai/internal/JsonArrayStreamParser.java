@@ -0,0 +1,60 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 응답용 증분 JSON 배열 파서
+ * - 조각(delta)을 받을 때마다 닫는 중괄호까지 완성된 최상위 객체 문자열을 돌려줌
+ * - 객체 밖의 문자('[', ',', ']', 코드펜스, 공백 등)는 무시
+ * - 문자열 리터럴 안의 중괄호/이스케이프는 구조로 보지 않음
+ * 스트림 하나당 인스턴스 하나 (스레드 안전하지 않음)
+ */
+public class JsonArrayStreamParser {
+
+    private final StringBuilder current = new StringBuilder();
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    public List<String> feed(String delta) {
+        List<String> completed = new ArrayList<>();
+        if (delta == null) return completed;
+
+        for (int i = 0; i < delta.length(); i++) {
+            char c = delta.charAt(i);
+            if (depth == 0) {
+                // 객체 시작 전 문자는 버림
+                if (c == '{') {
+                    depth = 1;
+                    current.append(c);
+                }
+                continue;
+            }
+
+            current.append(c);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                completed.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        return completed;
+    }
+
+    /** 끝나지 않은 객체가 남아 있는지 (응답이 중간에 잘린 경우) */
+    public boolean hasPartial() {
+        return depth > 0;
+    }
+}
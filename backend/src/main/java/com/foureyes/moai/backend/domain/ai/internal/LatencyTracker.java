@@ -0,0 +1,85 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 모델별 최근 호출 지연 (고정 크기 링 버퍼, 기록 시각 + 성공 여부 포함)
+ * - AiTelemetry가 호출(시도)마다 기록, 스트리밍 호출도 포함
+ * - AiClientRouter: 헤징 지연 기준(성공 호출 분위수), 표본이 적으면 값을 주지 않음
+ * - ModelHealth: 시간 창 집계(window)로 오류율과 지연
+ */
+@Component
+public class LatencyTracker {
+
+    private static final int CAPACITY = 256;
+
+    private final Map<ModelOption, Samples> samples = new EnumMap<>(ModelOption.class);
+
+    public LatencyTracker() {
+        for (ModelOption m : ModelOption.values()) samples.put(m, new Samples());
+    }
+
+    /** calls: 창 안의 호출 수, percentileNanos: 성공 호출이 없으면 0 */
+    public record Window(int calls, int failures, long percentileNanos) {}
+
+    public void record(ModelOption model, long nanos) {
+        record(model, true, nanos);
+    }
+
+    public void record(ModelOption model, boolean success, long nanos) {
+        samples.get(model).add(System.nanoTime(), success, nanos);
+    }
+
+    /** 성공 호출 지연의 분위수 (버퍼 전체 기준) */
+    public Optional<Duration> percentile(ModelOption model, double p, int minSamples) {
+        Window w = window(new ModelOption[]{model}, Long.MIN_VALUE, p);
+        int successes = w.calls() - w.failures();
+        if (successes == 0 || successes < minSamples) return Optional.empty();
+        return Optional.of(Duration.ofNanos(w.percentileNanos()));
+    }
+
+    /** since(System.nanoTime 기준) 이후 기록된 호출만 여러 모델을 합쳐 집계, 분위수는 성공 호출만 */
+    public Window window(ModelOption[] models, long since, double p) {
+        int calls = 0;
+        int failures = 0;
+        long[] latencies = new long[models.length * CAPACITY];
+        int n = 0;
+        for (ModelOption m : models) {
+            Samples s = samples.get(m);
+            synchronized (s) {
+                for (int i = 0; i < s.count; i++) {
+                    if (since != Long.MIN_VALUE && s.at[i] - since < 0) continue;
+                    calls++;
+                    if (s.ok[i]) latencies[n++] = s.nanos[i];
+                    else failures++;
+                }
+            }
+        }
+        if (n == 0) return new Window(calls, failures, 0);
+        Arrays.sort(latencies, 0, n);
+        int i = (int) Math.ceil(p * n) - 1;
+        return new Window(calls, failures, latencies[Math.max(0, Math.min(n - 1, i))]);
+    }
+
+    private static class Samples {
+        private final long[] at = new long[CAPACITY];
+        private final long[] nanos = new long[CAPACITY];
+        private final boolean[] ok = new boolean[CAPACITY];
+        private int index;
+        private int count;
+
+        synchronized void add(long now, boolean success, long latency) {
+            at[index] = now;
+            nanos[index] = latency;
+            ok[index] = success;
+            index = (index + 1) % CAPACITY;
+            if (count < CAPACITY) count++;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 모델별 최근 호출 상태 (LatencyTracker 기록을 시간 창으로 집계)
+ * - 자동 모델 선택용: 창 안의 호출만으로 오류율과 성공 호출 p95 지연 계산
+ * - 공급자 단위는 해당 공급자 모델을 합쳐서 계산
+ */
+@Component
+public class ModelHealth {
+
+    private final LatencyTracker latencies;
+    private final Duration window;
+
+    public ModelHealth(LatencyTracker latencies, AiProperties aiProperties) {
+        this.latencies = latencies;
+        this.window = aiProperties.getModelSelection().getWindow();
+    }
+
+    /** calls: 창 안의 호출 수, p95Nanos: 성공 호출이 없으면 0 */
+    public record Snapshot(int calls, int failures, long p95Nanos) {
+
+        public double errorRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+    }
+
+    public Snapshot snapshot(ModelOption model) {
+        return summarize(new ModelOption[]{model});
+    }
+
+    public Snapshot snapshot(AiProvider provider) {
+        return summarize(Arrays.stream(ModelOption.values())
+            .filter(m -> m.getProvider() == provider)
+            .toArray(ModelOption[]::new));
+    }
+
+    private Snapshot summarize(ModelOption[] models) {
+        LatencyTracker.Window w = latencies.window(models, System.nanoTime() - window.toNanos(), 0.95);
+        return new Snapshot(w.calls(), w.failures(), w.percentileNanos());
+    }
+}
@@ -6,17 +6,44 @@ import lombok.Getter;
 @Getter
 public enum ModelOption {
 
-    GEMINI_20_FLASH_LITE("gemini-2.0-flash-lite", AiProvider.GEMINI),
-    GEMINI_20_FLASH("gemini-2.0-flash", AiProvider.GEMINI),
-    GPT_4O("gpt-4o", AiProvider.OPENAI),
-    GPT_4O_MINI("gpt-4o-mini", AiProvider.OPENAI);
+    // 단가: 100만 토큰당 USD (입력, 출력) - 공개 정가 기준 추정치
+    // 한도: 컨텍스트 윈도우(입력+출력), 최대 출력 토큰
+    GEMINI_20_FLASH_LITE("gemini-2.0-flash-lite", AiProvider.GEMINI, 0.075, 0.30,
+        1_048_576, 8_192, TokenEstimator.Tokenizer.GEMINI),
+    GEMINI_20_FLASH("gemini-2.0-flash", AiProvider.GEMINI, 0.10, 0.40,
+        1_048_576, 8_192, TokenEstimator.Tokenizer.GEMINI),
+    GPT_4O("gpt-4o", AiProvider.OPENAI, 2.50, 10.00,
+        128_000, 16_384, TokenEstimator.Tokenizer.O200K),
+    GPT_4O_MINI("gpt-4o-mini", AiProvider.OPENAI, 0.15, 0.60,
+        128_000, 16_384, TokenEstimator.Tokenizer.O200K);
 
     private final String modelId;
     private final AiProvider provider;
+    private final double inputUsdPerMillion;
+    private final double outputUsdPerMillion;
+    private final int contextTokens;
+    private final int maxOutputTokens;
+    private final TokenEstimator.Tokenizer tokenizer;
 
-    ModelOption(String modelId, AiProvider provider) {
+    ModelOption(String modelId, AiProvider provider, double inputUsdPerMillion, double outputUsdPerMillion,
+                int contextTokens, int maxOutputTokens, TokenEstimator.Tokenizer tokenizer) {
         this.modelId = modelId;
         this.provider = provider;
+        this.inputUsdPerMillion = inputUsdPerMillion;
+        this.outputUsdPerMillion = outputUsdPerMillion;
+        this.contextTokens = contextTokens;
+        this.maxOutputTokens = maxOutputTokens;
+        this.tokenizer = tokenizer;
+    }
+
+    /** 이 모델 토크나이저 기준 추정 토큰 수 */
+    public int estimateTokens(CharSequence text) {
+        return TokenEstimator.count(text, tokenizer);
+    }
+
+    /** 토큰 수 → 예상 비용(USD) */
+    public double estimateCostUsd(long promptTokens, long completionTokens) {
+        return (promptTokens * inputUsdPerMillion + completionTokens * outputUsdPerMillion) / 1_000_000.0;
     }
 
     /** 키(ENUM명 or 실제 모델ID)로 찾기 */
@@ -26,4 +53,14 @@ public enum ModelOption {
         }
         throw new IllegalArgumentException("Unknown model key: " + key);
     }
+
+    /** 다른 공급자의 비슷한 등급 모델 (장애 전환/헤징용) */
+    public ModelOption counterpart() {
+        return switch (this) {
+            case GEMINI_20_FLASH_LITE -> GPT_4O_MINI;
+            case GEMINI_20_FLASH -> GPT_4O;
+            case GPT_4O -> GEMINI_20_FLASH;
+            case GPT_4O_MINI -> GEMINI_20_FLASH_LITE;
+        };
+    }
 }
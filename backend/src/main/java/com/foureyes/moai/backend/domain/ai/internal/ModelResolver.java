@@ -1,5 +1,6 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
+import com.foureyes.moai.backend.commons.config.AiProperties;
 import com.foureyes.moai.backend.commons.exception.CustomException;
 import com.foureyes.moai.backend.commons.exception.ErrorCode;
 import org.springframework.stereotype.Component;
@@ -7,13 +8,27 @@ import org.springframework.stereotype.Component;
 @Component
 public class ModelResolver {
 
-    private static final String GMS_PROXY_BASE = "https://gms.ssafy.io/gmsapi/";
     private static final String GEMINI_HOST_PATH = "generativelanguage.googleapis.com/v1beta/models/";
     private static final String OPENAI_PATH = "api.openai.com/v1/chat/completions";
 
+    // 자동 선택 요청 키 (요청 단계에서 ModelSelector가 실제 모델로 바꿈)
+    public static final String AUTO = "AUTO";
+
+    // GMS 프록시 주소 (부하 테스트에서는 로컬 스텁 서버로 교체)
+    private final String gmsBase;
+
+    public ModelResolver(AiProperties aiProperties) {
+        String base = aiProperties.getGms().getBaseUrl();
+        this.gmsBase = base.endsWith("/") ? base : base + "/";
+    }
+
+    public boolean isAuto(String requested) {
+        return requested != null && AUTO.equalsIgnoreCase(requested.trim());
+    }
+
     /**
      * 프론트에서 넘어온 modelType이 없거나 잘못되면 즉시 400.
-     * (기존처럼 기본값 사용하지 않음)
+     * (기존처럼 기본값 사용하지 않음, AUTO는 isAuto로 먼저 걸러야 함)
      */
     public ModelOption resolveOption(String requested) {
         if (requested == null || requested.isBlank()) {
@@ -29,11 +44,16 @@ public class ModelResolver {
 
     // 제미니 generateContent (GMS 프록시 경유)
     public String buildGeminiApiUrl(String geminiModelId) {
-        return GMS_PROXY_BASE + GEMINI_HOST_PATH + geminiModelId + ":generateContent";
+        return gmsBase + GEMINI_HOST_PATH + geminiModelId + ":generateContent";
+    }
+
+    // 제미니 streamGenerateContent (GMS 프록시 경유, alt=sse는 클라이언트에서 부착)
+    public String buildGeminiStreamUrl(String geminiModelId) {
+        return gmsBase + GEMINI_HOST_PATH + geminiModelId + ":streamGenerateContent";
     }
 
     // 오픈AI chat.completions (GMS 프록시 경유)
     public String openAiCompletionsUrl() {
-        return GMS_PROXY_BASE + OPENAI_PATH;
+        return gmsBase + OPENAI_PATH;
     }
 }
@@ -0,0 +1,132 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * modelType=AUTO 요청의 모델 선택
+ * - 추정 프롬프트가 작으면 경량 모델(flash-lite/4o-mini), 크면 표준 모델(flash/4o) 중에서 고름
+ * - 후보 중 최근 창의 오류율/p95가 기준을 넘은 모델이나 공급자는 제외, 나머지는 예상 비용 + p95 지연 환산 비용이 가장 낮은 쪽
+ * - 선호 등급이 모두 제외되면 다른 등급, 그것도 없으면 상태와 무관하게 가장 싼 모델 (라우터 전환/재시도에 맡김)
+ * - 결정은 ai.model.auto{model, outcome}으로 집계하고 사유 문자열은 요약본에 저장
+ */
+@Slf4j
+@Component
+public class ModelSelector {
+
+    private static final int REASON_MAX = 255;
+    private static final Set<ModelOption> LIGHT =
+        EnumSet.of(ModelOption.GEMINI_20_FLASH_LITE, ModelOption.GPT_4O_MINI);
+
+    private final ModelHealth health;
+    private final AiProperties.ModelSelection props;
+    private final AiProperties.Prompt promptProps;
+    private final AiProperties.Chunked chunkedProps;
+    private final MeterRegistry registry;
+
+    public ModelSelector(ModelHealth health, AiProperties aiProperties, MeterRegistry registry) {
+        this.health = health;
+        this.props = aiProperties.getModelSelection();
+        this.promptProps = aiProperties.getPrompt();
+        this.chunkedProps = aiProperties.getChunked();
+        this.registry = registry;
+    }
+
+    /** 선택한 모델과 사유 (요약본 model_selection 컬럼) */
+    public record Selection(ModelOption option, String reason) {}
+
+    /**
+     * 문서 페이지 수로 추정한 호출 1건의 프롬프트 토큰
+     * - 단일 호출은 PromptBuilder 예산(문서 수 × tokensPerDoc, 최대 maxContextTokens)을 넘지 않음
+     * - 청크 모드는 호출마다 청크 하나만 들어감
+     */
+    public int estimatePromptTokens(List<Integer> pageCounts, SummaryMode mode) {
+        long tokens = 0;
+        for (Integer pages : pageCounts) {
+            int p = pages != null && pages > 0 ? pages : props.getDefaultPageCount();
+            tokens += (long) p * props.getTokensPerPage();
+        }
+        long budget = mode == SummaryMode.CHUNKED
+            ? chunkedProps.getChunkTokens()
+            : Math.min((long) pageCounts.size() * promptProps.getTokensPerDoc(), promptProps.getMaxContextTokens());
+        return (int) Math.min(tokens, budget);
+    }
+
+    public Selection select(int promptTokens) {
+        boolean small = promptTokens <= props.getSmallPromptTokens();
+        List<ModelOption> preferred = new ArrayList<>();
+        List<ModelOption> others = new ArrayList<>();
+        for (ModelOption m : ModelOption.values()) {
+            if (promptTokens + m.getMaxOutputTokens() > m.getContextTokens()) continue;
+            (LIGHT.contains(m) == small ? preferred : others).add(m);
+        }
+
+        List<String> skipped = new ArrayList<>();
+        String outcome = small ? "small_prompt" : "large_prompt";
+        ModelOption chosen = cheapestHealthy(preferred, promptTokens, skipped);
+        if (chosen == null) {
+            outcome = "fallback";
+            chosen = cheapestHealthy(others, promptTokens, skipped);
+        }
+        if (chosen == null) {
+            outcome = "all_degraded";
+            List<ModelOption> all = new ArrayList<>(preferred);
+            all.addAll(others);
+            chosen = all.stream()
+                .min((a, b) -> Double.compare(expectedCost(a, promptTokens), expectedCost(b, promptTokens)))
+                .orElse(ModelOption.GEMINI_20_FLASH);
+        }
+
+        registry.counter("ai.model.auto", "model", chosen.name(), "outcome", outcome).increment();
+        String reason = "AUTO " + outcome + " ~" + promptTokens + " tokens"
+            + (skipped.isEmpty() ? "" : ", skipped " + String.join(", ", skipped));
+        if (reason.length() > REASON_MAX) reason = reason.substring(0, REASON_MAX);
+        log.info("AI 모델 자동 선택: {} ({})", chosen, reason);
+        return new Selection(chosen, reason);
+    }
+
+    /** 상태가 괜찮은 후보 중 점수(예상 비용 + 지연 환산)가 가장 낮은 모델 */
+    private ModelOption cheapestHealthy(List<ModelOption> candidates, int promptTokens, List<String> skipped) {
+        ModelOption best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (ModelOption m : candidates) {
+            ModelHealth.Snapshot model = health.snapshot(m);
+            String degraded = degraded(model);
+            if (degraded == null) degraded = degraded(health.snapshot(m.getProvider()));
+            if (degraded != null) {
+                skipped.add(m.name() + "(" + degraded + ")");
+                continue;
+            }
+            double p95Seconds = model.calls() >= props.getMinSamples() ? model.p95Nanos() / 1e9 : 0;
+            double score = expectedCost(m, promptTokens) + p95Seconds * props.getLatencyUsdPerSecond();
+            if (score < bestScore) {
+                best = m;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /** 표본이 충분할 때만 판단, 정상이면 null */
+    private String degraded(ModelHealth.Snapshot s) {
+        if (s.calls() < props.getMinSamples()) return null;
+        if (s.errorRate() > props.getMaxErrorRate()) {
+            return "error " + Math.round(s.errorRate() * 100) + "%";
+        }
+        if (s.p95Nanos() > props.getDegradedP95().toNanos()) {
+            return "p95 " + s.p95Nanos() / 1_000_000 + "ms";
+        }
+        return null;
+    }
+
+    private double expectedCost(ModelOption m, int promptTokens) {
+        return m.estimateCostUsd(promptTokens, Math.min(props.getExpectedOutputTokens(), m.getMaxOutputTokens()));
+    }
+}
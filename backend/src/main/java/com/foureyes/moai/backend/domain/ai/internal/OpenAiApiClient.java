@@ -1,30 +1,82 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OpenAiApiClient {
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
 
     @Value("${GMS_API_KEY}")
     private String openAiApiKey;
 
+    // 공급자 전용 커넥션 풀/타임아웃이 설정된 클라이언트 (WebClientConfig)
+    public OpenAiApiClient(@Qualifier("openAiWebClient") WebClient webClient, ObjectMapper objectMapper) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+    }
+
     /** OpenAI chat.completions (풀 URL, Bearer 헤더) */
-    public Mono<String> chatCompletions(String fullApiUrl, String modelId, String prompt) {
-        Map<String, Object> body = Map.of(
+    public Mono<AiCompletion> chatCompletions(String fullApiUrl, String modelId, String prompt) {
+        Map<String, Object> body = requestBody(modelId, prompt);
+
+        log.info("OpenAI 호출: {}", fullApiUrl);
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return webClient.post()
+                .uri(fullApiUrl)
+                .headers(h -> h.setBearerAuth(openAiApiKey))
+                .bodyValue(body)
+                .exchangeToMono(response -> {
+                    // 응답 헤더 도착 시점 = TTFB
+                    long ttfb = System.nanoTime() - started;
+                    if (response.statusCode().isError()) return response.createError();
+                    return response.bodyToMono(JsonNode.class).map(json -> toCompletion(json, ttfb));
+                });
+        });
+    }
+
+    /** OpenAI 스트리밍 호출 (stream=true), delta.content 조각을 순서대로 방출 */
+    public Flux<AiCompletion> streamChatCompletions(String fullApiUrl, String modelId, String prompt) {
+        Map<String, Object> body = new HashMap<>(requestBody(modelId, prompt));
+        body.put("stream", true);
+        // 마지막 청크에 usage 포함
+        body.put("stream_options", Map.of("include_usage", true));
+
+        log.info("OpenAI 스트리밍 호출: {}", fullApiUrl);
+        return webClient.post()
+            .uri(fullApiUrl)
+            .headers(h -> h.setBearerAuth(openAiApiKey))
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(body)
+            .retrieve()
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+            .mapNotNull(ServerSentEvent::data)
+            .takeWhile(data -> !"[DONE]".equals(data.trim()))
+            .map(this::extractChunkFromOpenAiStream)
+            .filter(chunk -> !chunk.text().isEmpty() || chunk.usage() != null);
+    }
+
+    private Map<String, Object> requestBody(String modelId, String prompt) {
+        return Map.of(
             "model", modelId,
             "messages", List.of(
                 Map.of("role", "system",
@@ -34,29 +86,42 @@ public class OpenAiApiClient {
             "max_tokens", 4000,
             "temperature", 0.3
         );
+    }
 
-        log.info("OpenAI 호출: {}", fullApiUrl);
-
+    /** 스트리밍 청크의 delta.content (role 전용/종료 청크는 빈 문자열) + usage(마지막 청크) */
+    private AiCompletion extractChunkFromOpenAiStream(String data) {
+        try {
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+            return AiCompletion.chunk(content.isTextual() ? content.asText() : "", usageOf(chunk));
+        } catch (Exception e) {
+            log.warn("OpenAI 스트리밍 청크 파싱 실패: {}", e.getMessage());
+            return AiCompletion.chunk("", null);
+        }
+    }
 
-        return webClient.post()
-            .uri(fullApiUrl)
-            .headers(h -> h.setBearerAuth(openAiApiKey))
-            .bodyValue(body)
-            .retrieve()
-            .bodyToMono(JsonNode.class)
-            .map(this::extractTextFromOpenAiResponse);
+    private AiCompletion toCompletion(JsonNode response, long ttfbNanos) {
+        String text = extractTextFromOpenAiResponse(response);
+        return new AiCompletion(text != null ? text : "[]", usageOf(response), text == null, ttfbNanos);
     }
 
-    /** OpenAI 응답 텍스트 추출 → JSON Array 문자열 가정 */
+    /** OpenAI 응답 텍스트 추출 → JSON Array 문자열 가정, 구조가 다르면 null */
     private String extractTextFromOpenAiResponse(JsonNode response) {
         try {
             String raw = response.get("choices").get(0).get("message").get("content").asText();
-            return raw.trim()
-                .replace("```json", "")
-                .replace("```", "");
+            return raw; // 코드펜스는 SummaryParser가 건너뜀
         } catch (Exception e) {
             log.warn("OpenAI 응답 파싱 실패, 빈 배열로 대체");
-            return "[]";
+            return null;
         }
     }
+
+    /** usage (prompt_tokens / completion_tokens) */
+    private static AiCompletion.Usage usageOf(JsonNode response) {
+        JsonNode usage = response.path("usage");
+        if (!usage.isObject()) return null;
+        return new AiCompletion.Usage(
+            usage.path("prompt_tokens").asLong(0),
+            usage.path("completion_tokens").asLong(0));
+    }
 }
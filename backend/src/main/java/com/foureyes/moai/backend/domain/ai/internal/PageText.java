@@ -0,0 +1,47 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** PDF 한 페이지의 추출 텍스트 (pageNo는 1부터) */
+public record PageText(int pageNo, String text) {
+
+    private static final Pattern LABEL = Pattern.compile("--- Page (\\d+) --- ");
+
+    /** 프롬프트용 "--- Page N --- ..." 라벨 텍스트로 합치기 */
+    public static String toLabelledText(List<PageText> pages) {
+        int size = 0;
+        for (PageText p : pages) size += p.text().length() + 24;
+        StringBuilder sb = new StringBuilder(size);
+        for (PageText p : pages) {
+            sb.append("--- Page ").append(p.pageNo()).append(" --- ")
+                .append(p.text()).append(" ");
+        }
+        return sb.toString();
+    }
+
+    /** 라벨 텍스트(캐시 저장 형식)를 다시 페이지 단위로 분리 */
+    public static List<PageText> parseLabelled(String labelled) {
+        List<PageText> pages = new ArrayList<>();
+        if (labelled == null || labelled.isEmpty()) return pages;
+
+        Matcher m = LABEL.matcher(labelled);
+        int prevPage = -1;
+        int prevStart = 0;
+        while (m.find()) {
+            if (prevPage > 0) pages.add(new PageText(prevPage, trimSeparator(labelled, prevStart, m.start())));
+            prevPage = Integer.parseInt(m.group(1));
+            prevStart = m.end();
+        }
+        if (prevPage > 0) pages.add(new PageText(prevPage, trimSeparator(labelled, prevStart, labelled.length())));
+        return pages;
+    }
+
+    // toLabelledText가 붙인 페이지 뒤 공백 1칸 제거
+    private static String trimSeparator(String s, int start, int end) {
+        if (end > start && s.charAt(end - 1) == ' ') end--;
+        return s.substring(start, end);
+    }
+}
@@ -0,0 +1,91 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 여러 문서의 다운로드/추출을 가상 스레드로 병렬 실행
+ * - 요청당 동시 실행 수 제한 (Semaphore)
+ * - 전체 제한 시간 (deadline)
+ * - 결과 순서는 입력 순서 그대로
+ * - 하나라도 실패하면 나머지 작업은 취소
+ */
+@Slf4j
+@Component
+public class ParallelExtractor {
+
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R apply(T input) throws Exception;
+    }
+
+    private final AiProperties.Extraction props;
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-extract-", 0).factory());
+
+    public ParallelExtractor(AiProperties aiProperties) {
+        this.props = aiProperties.getExtraction();
+    }
+
+    public <T, R> List<R> extractAll(List<T> inputs, Task<T, R> task) throws Exception {
+        Semaphore permits = new Semaphore(Math.max(1, props.getMaxConcurrency()));
+        long deadline = System.nanoTime() + props.getDeadline().toNanos();
+
+        CompletionService<Indexed<R>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Indexed<R>>> futures = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final int index = i;
+            final T input = inputs.get(i);
+            futures.add(completion.submit(() -> {
+                permits.acquire();
+                try {
+                    return new Indexed<>(index, task.apply(input));
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        @SuppressWarnings("unchecked")
+        R[] results = (R[]) new Object[inputs.size()];
+        try {
+            for (int done = 0; done < inputs.size(); done++) {
+                long remaining = deadline - System.nanoTime();
+                Future<Indexed<R>> f = completion.poll(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+                if (f == null) {
+                    throw new TimeoutException("문서 추출 제한 시간(" + props.getDeadline() + ")을 초과했습니다.");
+                }
+                Indexed<R> r = f.get();
+                results[r.index()] = r.value();
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) throw ex;
+            throw e;
+        } catch (TimeoutException | InterruptedException e) {
+            cancelAll(futures);
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            throw e;
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> f : futures) f.cancel(true);
+    }
+
+    private record Indexed<R>(int index, R value) {}
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
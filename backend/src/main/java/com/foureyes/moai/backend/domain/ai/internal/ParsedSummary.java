@@ -0,0 +1,15 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+
+import java.util.List;
+
+/**
+ * 요약 응답 파싱 결과
+ * - items: 화면/후처리용 DTO
+ * - json: AiSummaryPayload.summaryJson에 그대로 저장할 배열 (items와 같은 순서, 같은 항목)
+ * - truncated: 응답이 중간에 잘려 완성된 항목만 남긴 경우
+ */
+public record ParsedSummary(List<SummaryDto> items, ArrayNode json, boolean truncated) {
+}
@@ -1,31 +1,102 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
+import com.foureyes.moai.backend.commons.config.AiProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Component;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * PDF 텍스트 추출기
+ * - 입력 스트림은 PDFBox scratch file로 받아서 힙 사용량 상한 유지 (최대 100MB 업로드 대비)
+ * - 페이지 시작/끝 콜백으로 한 번의 순회에서 페이지별 텍스트 수집
+ * - 문자 예산에 도달하면 남은 페이지는 처리하지 않음
+ */
 @Slf4j
 @Component
 public class PdfTextExtractor {
 
+    private final AiProperties.Extraction props;
+
+    public PdfTextExtractor(AiProperties aiProperties) {
+        this.props = aiProperties.getExtraction();
+    }
+
     /** PDF에서 페이지 라벨과 함께 텍스트 추출 */
     public String extractTextWithPages(InputStream inputStream, String fileName) throws Exception {
+        return PageText.toLabelledText(extractPages(inputStream, fileName, props.getMaxChars()));
+    }
+
+    /** 페이지별 텍스트 추출 (maxChars 도달 시 조기 종료) */
+    public List<PageText> extractPages(InputStream inputStream, String fileName, int maxChars) throws IOException {
         log.info("PDF 텍스트 추출 시작: {}", fileName);
-        StringBuilder fullText = new StringBuilder();
-        try (PDDocument document = PDDocument.load(inputStream)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            for (int pageNum = 1; pageNum <= document.getNumberOfPages(); pageNum++) {
-                stripper.setStartPage(pageNum);
-                stripper.setEndPage(pageNum);
-                String pageText = stripper.getText(document);
-                fullText.append("--- Page ").append(pageNum).append(" --- ")
-                    .append(pageText).append(" ");
+        long started = System.nanoTime();
+
+        try (PDDocument document = PDDocument.load(inputStream, memoryUsageSetting())) {
+            PageCollectingStripper stripper = new PageCollectingStripper(maxChars);
+            stripper.writeText(document, stripper.buffer);
+
+            log.info("PDF 텍스트 추출 완료: {} ({} / {} pages, {} chars, {} ms{})",
+                fileName, stripper.pages.size(), document.getNumberOfPages(), stripper.buffer.getBuffer().length(),
+                (System.nanoTime() - started) / 1_000_000,
+                stripper.budgetReached ? ", 문자 예산 도달" : "");
+            return stripper.pages;
+        }
+    }
+
+    private MemoryUsageSetting memoryUsageSetting() {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(props.getMaxMainMemoryBytes());
+        if (props.getTempDir() != null && !props.getTempDir().isBlank()) {
+            setting.setTempDir(new File(props.getTempDir()));
+        }
+        return setting;
+    }
+
+    /**
+     * startPage/endPage 콜백으로 페이지 경계를 잡는 스트리퍼
+     * - 페이지마다 start/end를 다시 지정해 getText를 반복 호출하지 않음 (페이지 트리 1회 순회)
+     */
+    private static class PageCollectingStripper extends PDFTextStripper {
+
+        private final int maxChars;
+        private final StringWriter buffer = new StringWriter();
+        private final List<PageText> pages = new ArrayList<>();
+        private int pageStart;
+        private boolean budgetReached;
+
+        PageCollectingStripper(int maxChars) throws IOException {
+            this.maxChars = maxChars;
+        }
+
+        @Override
+        public void processPage(PDPage page) throws IOException {
+            if (budgetReached) return;
+            super.processPage(page);
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            pageStart = buffer.getBuffer().length();
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            StringBuffer sb = buffer.getBuffer();
+            // 예산을 넘긴 페이지는 예산 지점까지만 자름
+            int end = Math.min(sb.length(), Math.max(pageStart, maxChars));
+            pages.add(new PageText(getCurrentPageNo(), sb.substring(pageStart, end)));
+            if (sb.length() >= maxChars) {
+                budgetReached = true;
             }
         }
-        log.info("PDF 텍스트 추출 완료: {}", fileName);
-        return fullText.toString();
     }
 }
@@ -1,12 +1,37 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Component
 public class PromptBuilder {
 
+    // 페이지 라벨("--- Page N --- ") + 구분 공백
+    private static final int LABEL_TOKENS = 8;
+
+    private final AiProperties.Retrieval retrieval;
+    private final AiProperties.Prompt promptProps;
+    private final DistributionSummary relevantTokens;
+    private final DistributionSummary fairTokens;
+
+    public PromptBuilder(AiProperties aiProperties, MeterRegistry registry) {
+        this.retrieval = aiProperties.getRetrieval();
+        this.promptProps = aiProperties.getPrompt();
+        this.relevantTokens = contextSummary(registry, "bm25");
+        this.fairTokens = contextSummary(registry, "fair");
+    }
+
     /** 멀티 문서 프롬프트 (사용자 프롬프트 병합) */
     public String buildMultiDocPrompt(String joinedDocBlocks, String userPrompt) {
         String base = """
@@ -55,10 +80,225 @@ public class PromptBuilder {
                """.formatted(docsId, safeName, textWithPages);
     }
 
-    /** 문자 단위 컷오프 */
-    public String clip(String text, int maxChars) {
-        if (text == null) return "";
-        if (text.length() <= maxChars) return text;
-        return text.substring(0, maxChars) + "\n... [TRUNCATED]";
+    /**
+     * 문서 목록 → 모델 토큰 예산에 맞춘 전체 프롬프트 (단일 호출 요약용)
+     * - 예산: 문서 수 × tokensPerDoc (최대 maxContextTokens), 모델 컨텍스트에서 출력/지침 몫을 뺀 값 이내
+     * - 검색 사용 시 관련 페이지 위주로 채우고, 아니면 문서별로 공평하게 나눠 앞부분부터 채움
+     */
+    public String buildMultiDocPrompt(List<ChunkedSummarizer.DocText> docs, String userPrompt, ModelOption model) {
+        long started = System.nanoTime();
+        TokenEstimator.Tokenizer tokenizer = model.getTokenizer();
+
+        // 지침 + DOC 블록 머리글은 예산과 별도로 고정 비용
+        int overhead = model.estimateTokens(buildMultiDocPrompt("", userPrompt));
+        for (ChunkedSummarizer.DocText d : docs) {
+            overhead += model.estimateTokens(formatDocBlock(d.docId(), d.title(), ""));
+        }
+        int budget = contextBudget(model, docs.size(), overhead);
+
+        int[][] costs = new int[docs.size()][];
+        for (int i = 0; i < docs.size(); i++) costs[i] = pageCosts(docs.get(i).pages(), tokenizer);
+
+        List<List<PageText>> selected = retrieval.isEnabled()
+            ? selectRelevant(docs, costs, userPrompt, budget, tokenizer)
+            : selectFair(docs, costs, budget, tokenizer);
+
+        List<String> blocks = new ArrayList<>(docs.size());
+        int used = 0;
+        int pages = 0;
+        int total = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            ChunkedSummarizer.DocText d = docs.get(i);
+            List<PageText> chosen = selected.get(i);
+            chosen.sort(Comparator.comparingInt(PageText::pageNo));
+            String text = PageText.toLabelledText(chosen);
+            if (chosen.size() < d.pages().size() || isCut(chosen, d)) text += "\n... [TRUNCATED]";
+            used += model.estimateTokens(text);
+            pages += chosen.size();
+            total += d.pages().size();
+            blocks.add(formatDocBlock(d.docId(), d.title(), text));
+        }
+        (retrieval.isEnabled() ? relevantTokens : fairTokens).record(used);
+        log.info("프롬프트 구성: model={}, docs={}, pages {}/{}, 본문 {}토큰 (예산 {}, 지침 {}), {} ms",
+            model.getModelId(), docs.size(), pages, total, used, budget, overhead,
+            (System.nanoTime() - started) / 1_000_000);
+
+        return buildMultiDocPrompt(String.join("\n\n", blocks), userPrompt);
+    }
+
+    /** 문서 본문에 쓸 수 있는 토큰 수 */
+    int contextBudget(ModelOption model, int docCount, int overhead) {
+        long configured = Math.min((long) promptProps.getTokensPerDoc() * docCount, promptProps.getMaxContextTokens());
+        return (int) Math.min(modelBudget(model, overhead), configured);
+    }
+
+    /** 모델 컨텍스트에서 응답 몫과 지침(overhead)을 빼고 본문에 쓸 수 있는 토큰 수 (청크 크기 상한에도 사용) */
+    int modelBudget(ModelOption model, int overhead) {
+        int reserved = Math.min(model.getMaxOutputTokens(), promptProps.getReservedOutputTokens());
+        // 추정 오차만큼 모델 한도에는 여유를 둠
+        long modelLimit = (long) ((model.getContextTokens() - reserved) * 0.9) - overhead;
+        return (int) Math.max(0, modelLimit);
+    }
+
+    /**
+     * 관련 페이지 선별 (BM25)
+     * - 모든 문서의 페이지를 한 색인으로 보고 질의(userPrompt)와의 점수 계산
+     * - 문서별 점수 순위대로 번갈아 한 페이지씩 예산이 찰 때까지 채움 (한 문서가 독점하지 않도록)
+     * - 질의와 겹치는 페이지가 없는 문서는 앞 페이지부터 채움
+     * - 관련 페이지를 다 넣고도 예산이 남으면 나머지 페이지를 읽는 순서대로 채움 (일부만 일치하는 문서)
+     */
+    private List<List<PageText>> selectRelevant(List<ChunkedSummarizer.DocText> docs, int[][] costs, String query,
+                                                int budget, TokenEstimator.Tokenizer tokenizer) {
+        List<PageText> all = new ArrayList<>();
+        for (ChunkedSummarizer.DocText d : docs) all.addAll(d.pages());
+        double[] scores = Bm25PageRanker.score(all, query);
+
+        // 문서별 후보 순위 + 순위 밖 페이지(원래 순서)
+        List<List<Candidate>> ranked = new ArrayList<>(docs.size());
+        List<List<Candidate>> rest = new ArrayList<>(docs.size());
+        int offset = 0;
+        for (int doc = 0; doc < docs.size(); doc++) {
+            List<PageText> pages = docs.get(doc).pages();
+            List<Candidate> candidates = new ArrayList<>(pages.size());
+            boolean matched = false;
+            for (int i = 0; i < pages.size(); i++) {
+                double s = scores[offset + i];
+                matched |= s > 0;
+                candidates.add(new Candidate(pages.get(i), costs[doc][i], s));
+            }
+            offset += pages.size();
+            List<Candidate> unmatched = new ArrayList<>();
+            if (matched) {
+                for (Iterator<Candidate> it = candidates.iterator(); it.hasNext(); ) {
+                    Candidate c = it.next();
+                    if (c.score() <= 0) {
+                        unmatched.add(c);
+                        it.remove();
+                    }
+                }
+                candidates.sort(Comparator.comparingDouble(Candidate::score).reversed()
+                    .thenComparingInt(c -> c.page().pageNo()));
+            }
+            ranked.add(candidates);
+            rest.add(unmatched);
+        }
+
+        List<List<PageText>> selected = emptySelection(docs.size());
+        int remaining = fillRoundRobin(ranked, selected, budget, tokenizer);
+        fillRoundRobin(rest, selected, remaining, tokenizer);
+        return selected;
+    }
+
+    /**
+     * 문서별 후보 목록에서 같은 순위끼리 번갈아 한 페이지씩 채우고 남은 예산을 돌려줌
+     * - 문서에서 처음 고르는 페이지가 예산보다 길면 잘라서라도 포함
+     */
+    private int fillRoundRobin(List<List<Candidate>> lists, List<List<PageText>> selected, int budget,
+                               TokenEstimator.Tokenizer tokenizer) {
+        int minPartial = promptProps.getMinPartialTokens();
+        int remaining = budget;
+        for (int rank = 0; remaining > minPartial; rank++) {
+            boolean any = false;
+            for (int i = 0; i < lists.size() && remaining > minPartial; i++) {
+                if (rank >= lists.get(i).size()) continue;
+                any = true;
+                Candidate c = lists.get(i).get(rank);
+                if (c.cost() <= remaining) {
+                    selected.get(i).add(c.page());
+                    remaining -= c.cost();
+                } else if (selected.get(i).isEmpty()) {
+                    selected.get(i).add(cut(c.page(), remaining, tokenizer));
+                    remaining = 0;
+                }
+            }
+            if (!any) break;
+        }
+        return remaining;
+    }
+
+    /**
+     * 문서별 공평 배분 후 앞 페이지부터 채움
+     * - 짧은 문서는 필요한 만큼만 쓰고 남은 몫을 긴 문서끼리 다시 나눔
+     */
+    private List<List<PageText>> selectFair(List<ChunkedSummarizer.DocText> docs, int[][] costs, int budget,
+                                            TokenEstimator.Tokenizer tokenizer) {
+        int[] demand = new int[docs.size()];
+        for (int i = 0; i < docs.size(); i++) {
+            for (int c : costs[i]) demand[i] += c;
+        }
+        int[] shares = fairShares(demand, budget);
+
+        List<List<PageText>> selected = emptySelection(docs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            List<PageText> pages = docs.get(i).pages();
+            int remaining = shares[i];
+            for (int p = 0; p < pages.size(); p++) {
+                if (costs[i][p] <= remaining) {
+                    selected.get(i).add(pages.get(p));
+                    remaining -= costs[i][p];
+                    continue;
+                }
+                if (remaining > promptProps.getMinPartialTokens()) {
+                    selected.get(i).add(cut(pages.get(p), remaining, tokenizer));
+                }
+                break;
+            }
+        }
+        return selected;
+    }
+
+    /** 수요가 작은 순으로 남은 예산을 균등 분할 (max-min fair) */
+    static int[] fairShares(int[] demand, int budget) {
+        Integer[] order = new Integer[demand.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(i -> demand[i]));
+
+        int[] shares = new int[demand.length];
+        int remaining = budget;
+        for (int k = 0; k < order.length; k++) {
+            int i = order[k];
+            shares[i] = Math.min(demand[i], remaining / (order.length - k));
+            remaining -= shares[i];
+        }
+        return shares;
+    }
+
+    /** 페이지별 추정 토큰 (페이지 라벨 포함) */
+    static int[] pageCosts(List<PageText> pages, TokenEstimator.Tokenizer tokenizer) {
+        int[] costs = new int[pages.size()];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = TokenEstimator.count(pages.get(i).text(), tokenizer) + LABEL_TOKENS;
+        }
+        return costs;
+    }
+
+    /** 라벨 포함 tokens 안에 들어가도록 페이지 앞부분만 남김 */
+    static PageText cut(PageText page, int tokens, TokenEstimator.Tokenizer tokenizer) {
+        return new PageText(page.pageNo(), TokenEstimator.clip(page.text(), tokens - LABEL_TOKENS, tokenizer));
+    }
+
+    /** 마지막 페이지가 잘려서 들어갔는지 */
+    private static boolean isCut(List<PageText> chosen, ChunkedSummarizer.DocText d) {
+        if (chosen.isEmpty()) return !d.pages().isEmpty();
+        PageText last = chosen.get(chosen.size() - 1);
+        for (PageText p : d.pages()) {
+            if (p.pageNo() == last.pageNo()) return p.text().length() != last.text().length();
+        }
+        return false;
+    }
+
+    private static List<List<PageText>> emptySelection(int size) {
+        List<List<PageText>> selected = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) selected.add(new ArrayList<>());
+        return selected;
+    }
+
+    private record Candidate(PageText page, int cost, double score) {}
+
+    private static DistributionSummary contextSummary(MeterRegistry registry, String strategy) {
+        return DistributionSummary.builder("ai.prompt.context.tokens")
+            .description("단일 호출 프롬프트에 넣은 문서 본문 추정 토큰 수")
+            .tag("strategy", strategy)
+            .register(registry);
     }
 }
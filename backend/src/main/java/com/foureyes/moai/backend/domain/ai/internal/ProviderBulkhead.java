@@ -0,0 +1,108 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공급자별 동시 호출 상한 (세마포어 벌크헤드)
+ * - 자리가 있으면 바로 호출, 없으면 boundedElastic에서 maxWait까지 대기
+ * - 대기 초과 시 ProviderUnavailableException (라우터가 대응 모델로 전환)
+ * - 구독마다 Lease 하나: 완료/실패/취소 어느 쪽이든 한 번만 반납, 취소 뒤에 받은 자리는 바로 돌려줌
+ */
+@Component
+public class ProviderBulkhead {
+
+    private final AiProperties.Bulkhead props;
+    private final Map<AiProvider, Semaphore> permits = new EnumMap<>(AiProvider.class);
+    private final Map<AiProvider, Counter> rejected = new EnumMap<>(AiProvider.class);
+
+    public ProviderBulkhead(AiProperties aiProperties, MeterRegistry registry) {
+        this.props = aiProperties.getBulkhead();
+        for (AiProvider provider : AiProvider.values()) {
+            Semaphore semaphore = new Semaphore(props.getMaxConcurrentPerProvider());
+            permits.put(provider, semaphore);
+            Gauge.builder("ai.client.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .tag("provider", provider.name())
+                .register(registry);
+            rejected.put(provider, Counter.builder("ai.client.bulkhead.rejected")
+                .tag("provider", provider.name())
+                .register(registry));
+        }
+    }
+
+    public <T> Mono<T> wrap(AiProvider provider, Mono<T> call) {
+        return Mono.defer(() -> {
+            Lease lease = new Lease(permits.get(provider));
+            return acquire(provider, lease)
+                .then(call)
+                .doFinally(signal -> lease.close());
+        });
+    }
+
+    public <T> Flux<T> wrap(AiProvider provider, Flux<T> call) {
+        return Flux.defer(() -> {
+            Lease lease = new Lease(permits.get(provider));
+            return acquire(provider, lease)
+                .thenMany(call)
+                .doFinally(signal -> lease.close());
+        });
+    }
+
+    private Mono<Void> acquire(AiProvider provider, Lease lease) {
+        return Mono.defer(() -> {
+            if (lease.semaphore.tryAcquire()) {
+                lease.grant();
+                return Mono.<Void>empty();
+            }
+            return Mono.fromCallable(() -> {
+                    if (!lease.semaphore.tryAcquire(props.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                        rejected.get(provider).increment();
+                        throw new ProviderUnavailableException(provider, "동시 호출 상한");
+                    }
+                    lease.grant();
+                    return Boolean.TRUE;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                // 취소로 대기 스레드가 깨어나면 결과를 받을 구독자가 없으므로 오류를 버림
+                .onErrorResume(InterruptedException.class, e -> Mono.empty())
+                .then();
+        });
+    }
+
+    /**
+     * 구독 1건이 가진 자리 (OPEN → HELD → CLOSED)
+     * - 닫힌 뒤에 자리를 받으면(대기 중 취소) 바로 반납, 닫을 때 들고 있으면 반납
+     */
+    private static final class Lease {
+        private static final int OPEN = 0;
+        private static final int HELD = 1;
+        private static final int CLOSED = 2;
+
+        final Semaphore semaphore;
+        private final AtomicInteger state = new AtomicInteger(OPEN);
+
+        Lease(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        void grant() {
+            if (!state.compareAndSet(OPEN, HELD)) semaphore.release();
+        }
+
+        void close() {
+            if (state.getAndSet(CLOSED) == HELD) semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공급자 단위 서킷브레이커 (최근 N회 결과 기반)
+ * - CLOSED: 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 halfOpenCalls회가 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class ProviderCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String name;
+    private final AiProperties.Resilience.Breaker props;
+
+    // 최근 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int index;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public ProviderCircuitBreaker(String name, AiProperties.Resilience.Breaker props) {
+        this.name = name;
+        this.props = props;
+        this.window = new boolean[Math.max(1, props.getWindowSize())];
+    }
+
+    /** 호출 허용 여부 (허용되면 반드시 onSuccess/onFailure/onIgnored 중 하나로 마무리) */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < props.getOpenDuration().toNanos()) return false;
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) return false;
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= props.getHalfOpenCalls()) transition(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= props.getMinimumCalls()
+            && failures * 100 >= props.getFailureRatePercent() * recorded) {
+            transition(State.OPEN);
+        }
+    }
+
+    /** 결과 없이 끝난 호출 (헤징에서 진 쪽 취소 등) */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) halfOpenPermits++;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == window.length) {
+            if (window[index]) failures--;
+        } else {
+            recorded++;
+        }
+        window[index] = failed;
+        if (failed) failures++;
+        index = (index + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        log.warn("서킷브레이커 상태 변경: {} {} -> {}", name, state, next);
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenPermits = props.getHalfOpenCalls();
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                index = 0;
+                recorded = 0;
+                failures = 0;
+            }
+        }
+    }
+}
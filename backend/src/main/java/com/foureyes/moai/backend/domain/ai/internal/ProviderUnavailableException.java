@@ -0,0 +1,13 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+/** 서킷브레이커/벌크헤드 때문에 공급자 호출을 보내지 않은 경우 */
+public class ProviderUnavailableException extends RuntimeException {
+
+    public ProviderUnavailableException(AiProvider provider) {
+        this(provider, "서킷브레이커 OPEN");
+    }
+
+    public ProviderUnavailableException(AiProvider provider, String reason) {
+        super("AI 공급자 일시 차단(" + reason + "): " + provider);
+    }
+}
@@ -0,0 +1,108 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 요약 항목의 originalQuote를 추출 텍스트에서 찾아 위치를 기록
+ * - 찾으면 quoteStart/quoteEnd(해당 페이지 추출 텍스트 기준 문자 오프셋)와 quoteMatch(EXACT|FUZZY) 추가
+ * - 모델이 준 pageNumber가 틀렸으면 실제 페이지로 고침
+ * - 못 찾으면 quoteMatch=NOT_FOUND만 남기고 나머지는 그대로 둠
+ * - 결과는 ai.summary.quote{result=exact|fuzzy|not_found}, 페이지 보정은 ai.summary.quote.page.corrected로 집계
+ */
+@Slf4j
+@Component
+public class QuoteAnchorer {
+
+    private final AiProperties.Quote props;
+    private final ObjectMapper objectMapper;
+    private final Counter exact;
+    private final Counter fuzzy;
+    private final Counter notFound;
+    private final Counter pageCorrected;
+
+    public QuoteAnchorer(AiProperties aiProperties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.props = aiProperties.getQuote();
+        this.objectMapper = objectMapper;
+        this.exact = results(registry, "exact");
+        this.fuzzy = results(registry, "fuzzy");
+        this.notFound = results(registry, "not_found");
+        this.pageCorrected = Counter.builder("ai.summary.quote.page.corrected")
+            .description("인용구 위치와 달라 실제 페이지로 고친 pageNumber 수")
+            .register(registry);
+    }
+
+    /** 요약 작업 문서로 색인 생성 (비활성화면 null → 아래 메서드는 아무것도 안 함) */
+    public QuoteIndex index(List<ChunkedSummarizer.DocText> docs) {
+        if (!props.isEnabled()) return null;
+        long started = System.nanoTime();
+        QuoteIndex index = QuoteIndex.build(docs);
+        log.debug("인용구 색인 생성: docs={}, {} ms", docs.size(), (System.nanoTime() - started) / 1_000_000);
+        return index;
+    }
+
+    /** 배열의 모든 항목 처리 */
+    public void anchorAll(JsonNode items, QuoteIndex index) {
+        if (index == null || items == null) return;
+        long started = System.nanoTime();
+        int found = 0;
+        for (JsonNode item : items) {
+            if (item instanceof ObjectNode node && anchor(node, index)) found++;
+        }
+        log.info("인용구 위치 확인: {}/{} items, {} ms", found, items.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /** 항목 하나 처리 (스트리밍 중 항목별 호출), 찾았으면 true */
+    public boolean anchor(ObjectNode node, QuoteIndex index) {
+        if (index == null) return false;
+
+        SummaryDto item;
+        try {
+            item = objectMapper.treeToValue(node, SummaryDto.class);
+        } catch (Exception e) {
+            return false;
+        }
+        if (item.getDocsId() == null) {
+            notFound.increment();
+            node.put("quoteMatch", "NOT_FOUND");
+            return false;
+        }
+
+        Optional<QuoteIndex.Match> match =
+            index.find(item.getDocsId(), item.getOriginalQuote(), item.getPageNumber(), props.getMaxErrorRate());
+        if (match.isEmpty()) {
+            notFound.increment();
+            node.put("quoteMatch", "NOT_FOUND");
+            return false;
+        }
+
+        QuoteIndex.Match m = match.get();
+        (m.exact() ? exact : fuzzy).increment();
+        if (item.getPageNumber() == null || item.getPageNumber() != m.pageNo()) {
+            pageCorrected.increment();
+            // 예전 snake_case 응답이면 같은 키를 고쳐야 역직렬화 때 값이 겹치지 않음
+            node.put(node.has("page_number") && !node.has("pageNumber") ? "page_number" : "pageNumber", m.pageNo());
+        }
+        node.put("quoteStart", m.start());
+        node.put("quoteEnd", m.end());
+        node.put("quoteMatch", m.exact() ? "EXACT" : "FUZZY");
+        return true;
+    }
+
+    private static Counter results(MeterRegistry registry, String result) {
+        return Counter.builder("ai.summary.quote")
+            .description("요약 인용구 원문 위치 확인 결과")
+            .tag("result", result)
+            .register(registry);
+    }
+}
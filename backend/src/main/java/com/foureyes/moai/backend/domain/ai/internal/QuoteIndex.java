@@ -0,0 +1,380 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요약 인용구(originalQuote) 위치 검색용 색인 (요약 작업 1건 동안만 사용)
+ * - 공백 연속은 한 칸, 영문은 소문자, 따옴표/대시는 ASCII로 정규화한 텍스트에서 검색 (모델이 줄바꿈/띄어쓰기를 자주 바꿈)
+ * - 정규화 위치 → 원본 페이지 텍스트 위치 매핑을 함께 보관해 결과는 원본 페이지 기준 오프셋으로 반환
+ * - 후보 위치는 문자 3-gram 해시 버킷 색인(버킷별 위치 배열, 선형 시간 구축)으로 찾고, 정확 일치 → 편집 거리 순으로 검증
+ */
+public final class QuoteIndex {
+
+    private static final int Q = 3;
+    // 페이지 경계 (인용구에는 나오지 않는 문자라 페이지를 넘는 일치를 막음)
+    private static final char PAGE_BREAK = '\u0001';
+    // 근사 검색 시 투표에 쓰는 위치 수 상한 (드문 3-gram부터 사용, 흔한 조사/공백 조합은 자연히 빠짐)
+    private static final int VOTE_BUDGET = 1_024;
+    // 편집 거리 검증할 후보 구간 수
+    private static final int MAX_CANDIDATES = 4;
+    // 편집 거리 계산은 인용구 길이 × 구간 길이라 너무 긴 인용구는 정확 일치만 시도
+    private static final int MAX_FUZZY_LENGTH = 2_000;
+    private static final int MIN_QUOTE_LENGTH = 4;
+    // 페이지 전체 비교 허용 크기 (인용구 길이 × 페이지 길이, 수 ms 이내)
+    private static final long MAX_PAGE_CELLS = 2_000_000;
+
+    /** 원본 페이지 텍스트 기준 [start, end) */
+    public record Match(int pageNo, int start, int end, boolean exact) {}
+
+    private final Map<Integer, DocIndex> docs;
+
+    private QuoteIndex(Map<Integer, DocIndex> docs) {
+        this.docs = docs;
+    }
+
+    public static QuoteIndex build(List<ChunkedSummarizer.DocText> docs) {
+        Map<Integer, DocIndex> map = new HashMap<>();
+        for (ChunkedSummarizer.DocText d : docs) map.put(d.docId(), new DocIndex(d.pages()));
+        return new QuoteIndex(map);
+    }
+
+    /**
+     * 인용구 위치 찾기
+     * - pageHint 페이지의 일치를 우선, 없으면 문서 전체에서 첫 일치
+     * - 정확히 없으면 편집 거리 ≤ 길이 × maxErrorRate 인 가장 가까운 구간
+     */
+    public Optional<Match> find(int docId, String quote, Integer pageHint, double maxErrorRate) {
+        DocIndex doc = docs.get(docId);
+        if (doc == null || quote == null) return Optional.empty();
+        String q = trimQuote(normalize(quote, null));
+        if (q.length() < MIN_QUOTE_LENGTH) return Optional.empty();
+
+        int exact = doc.findExact(q, pageHint);
+        if (exact >= 0) return Optional.of(doc.toMatch(exact, exact + q.length(), true));
+
+        if (q.length() > MAX_FUZZY_LENGTH || maxErrorRate <= 0) return Optional.empty();
+        int maxErrors = Math.max(1, (int) (q.length() * maxErrorRate));
+        return doc.findFuzzy(q, maxErrors, pageHint);
+    }
+
+    /** 정규화 (origPos가 있으면 정규화 위치마다 원본 위치 기록) */
+    static String normalize(String text, IntList origPos) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = true; // 앞 공백 제거
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                if (!space) {
+                    sb.append(' ');
+                    if (origPos != null) origPos.add(i);
+                    space = true;
+                }
+                continue;
+            }
+            sb.append(fold(c));
+            if (origPos != null) origPos.add(i);
+            space = false;
+        }
+        if (!sb.isEmpty() && sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 1);
+            if (origPos != null) origPos.removeLast();
+        }
+        return sb.toString();
+    }
+
+    private static char fold(char c) {
+        return switch (c) {
+            case '‘', '’', '‛', '′' -> '\'';
+            case '“', '”', '‟', '″' -> '"';
+            case '‐', '‑', '‒', '–', '—', '−' -> '-';
+            case '·', '•', '∙' -> '.';
+            default -> Character.toLowerCase(c);
+        };
+    }
+
+    /** 모델이 붙이는 앞뒤 따옴표/말줄임표 제거 */
+    private static String trimQuote(String q) {
+        int start = 0;
+        int end = q.length();
+        while (start < end && isDecoration(q.charAt(start))) start++;
+        while (end > start && isDecoration(q.charAt(end - 1))) end--;
+        return q.substring(start, end);
+    }
+
+    private static boolean isDecoration(char c) {
+        return c == '"' || c == '\'' || c == '.' || c == '…' || c == ' ';
+    }
+
+    private static int gram(CharSequence s, int i) {
+        return ((s.charAt(i) * 31 + s.charAt(i + 1)) * 31 + s.charAt(i + 2)) * 0x9E3779B1;
+    }
+
+    /** 문서 1개: 페이지를 PAGE_BREAK로 이어 붙인 정규화 텍스트 + 3-gram 색인 */
+    private static final class DocIndex {
+        private final String text;
+        private final int[] pageStarts;
+        private final int[] pageNos;
+        // 정규화 위치 → 해당 페이지 원본 텍스트 위치 (PAGE_BREAK 자리는 페이지 원본 길이)
+        private final int[] origPos;
+        // 3-gram 해시 상위 비트 → 버킷, 버킷 i의 위치는 positions[bucketStarts[i] .. bucketStarts[i + 1])
+        private final int shift;
+        private final int[] bucketStarts;
+        private final int[] positions;
+
+        DocIndex(List<PageText> pages) {
+            StringBuilder sb = new StringBuilder();
+            IntList orig = new IntList();
+            pageStarts = new int[pages.size()];
+            pageNos = new int[pages.size()];
+            for (int p = 0; p < pages.size(); p++) {
+                PageText page = pages.get(p);
+                pageStarts[p] = sb.length();
+                pageNos[p] = page.pageNo();
+                sb.append(normalize(page.text(), orig));
+                sb.append(PAGE_BREAK);
+                orig.add(page.text().length());
+            }
+            text = sb.toString();
+            origPos = orig.toArray();
+
+            // 버킷별 개수 → 누적합 → 위치 채우기 (버킷 안 위치는 오름차순)
+            int bits = Math.max(4, 32 - Integer.numberOfLeadingZeros(text.length()));
+            shift = 32 - bits;
+            bucketStarts = new int[(1 << bits) + 1];
+            for (int i = 0; i + Q <= text.length(); i++) {
+                if (indexable(i)) bucketStarts[(gram(text, i) >>> shift) + 1]++;
+            }
+            for (int b = 1; b < bucketStarts.length; b++) bucketStarts[b] += bucketStarts[b - 1];
+            positions = new int[bucketStarts[bucketStarts.length - 1]];
+            int[] fill = Arrays.copyOf(bucketStarts, bucketStarts.length - 1);
+            for (int i = 0; i + Q <= text.length(); i++) {
+                if (indexable(i)) positions[fill[gram(text, i) >>> shift]++] = i;
+            }
+        }
+
+        private boolean indexable(int i) {
+            return text.charAt(i) != PAGE_BREAK && text.charAt(i + 1) != PAGE_BREAK && text.charAt(i + 2) != PAGE_BREAK;
+        }
+
+        /** 같은 버킷의 다른 3-gram(해시 충돌) 걸러내기 */
+        private boolean sameGram(int pos, String q, int i) {
+            return text.charAt(pos) == q.charAt(i) && text.charAt(pos + 1) == q.charAt(i + 1)
+                && text.charAt(pos + 2) == q.charAt(i + 2);
+        }
+
+        /** 정확 일치 시작 위치 (가장 드문 3-gram 위치만 확인) */
+        int findExact(String q, Integer pageHint) {
+            int rarest = -1;
+            int from = 0;
+            int to = Integer.MAX_VALUE;
+            for (int i = 0; i + Q <= q.length(); i++) {
+                int bucket = gram(q, i) >>> shift;
+                int lo = bucketStarts[bucket];
+                int hi = bucketStarts[bucket + 1];
+                if (hi - lo < to - from) {
+                    rarest = i;
+                    from = lo;
+                    to = hi;
+                    if (hi == lo) return -1;
+                }
+            }
+            if (rarest < 0) {
+                // 3글자 미만은 여기 오지 않지만 혹시 몰라 단순 검색
+                return text.indexOf(q);
+            }
+
+            int first = -1;
+            int hintPage = pageIndex(pageHint);
+            for (int k = from; k < to; k++) {
+                int start = positions[k] - rarest;
+                if (start < 0 || !text.startsWith(q, start)) continue;
+                if (hintPage < 0 || pageOf(start) == hintPage) return start;
+                if (first < 0 || start < first) first = start;
+            }
+            return first;
+        }
+
+        /**
+         * 근사 일치
+         * - 인용구 3-gram이 나온 위치로 시작점(대각선)에 투표 → 표가 많은 구간만 편집 거리로 검증
+         * - 드문 3-gram부터 VOTE_BUDGET만큼만 투표해서 흔한 글자 조합이 많은 문서에서도 시간이 일정
+         */
+        Optional<Match> findFuzzy(String q, int maxErrors, Integer pageHint) {
+            Integer[] order = new Integer[q.length() - Q + 1];
+            int[] buckets = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+                buckets[i] = gram(q, i) >>> shift;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> bucketStarts[buckets[i] + 1] - bucketStarts[buckets[i]]));
+
+            Map<Integer, Integer> votes = new HashMap<>();
+            int used = 0;
+            for (int i : order) {
+                int lo = bucketStarts[buckets[i]];
+                int hi = bucketStarts[buckets[i] + 1];
+                if (used > 0 && used + (hi - lo) > VOTE_BUDGET) break;
+                used += hi - lo;
+                for (int k = lo; k < hi; k++) {
+                    if (!sameGram(positions[k], q, i)) continue;
+                    // 삽입/삭제로 조금 밀린 위치도 같은 구간으로 모음
+                    votes.merge(Math.floorDiv(positions[k] - i, 16), 1, Integer::sum);
+                }
+            }
+            int hintPage = pageIndex(pageHint);
+            char[] quote = q.toCharArray();
+            if (votes.isEmpty()) return alignOnPage(quote, maxErrors, hintPage);
+
+            Match best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int diagonal : topVoted(votes)) {
+                int windowStart = Math.max(0, diagonal * 16 - maxErrors);
+                int windowEnd = Math.min(text.length(), diagonal * 16 + 16 + q.length() + maxErrors);
+                int[] hit = align(quote, windowStart, windowEnd);
+                if (hit[2] > maxErrors) continue;
+                // 표가 가장 많은 구간이 통과하고 페이지도 맞으면 나머지 후보는 볼 필요 없음
+                if (best == null && (hintPage < 0 || pageOf(hit[0]) == hintPage)) {
+                    return Optional.of(toMatch(hit[0], hit[1], false));
+                }
+                boolean better = hit[2] < bestDistance
+                    || (hit[2] == bestDistance && hintPage >= 0 && pageOf(hit[0]) == hintPage);
+                if (better) {
+                    bestDistance = hit[2];
+                    best = toMatch(hit[0], hit[1], false);
+                }
+            }
+            // 흔한 글자 조합뿐이라 투표가 흩어진 경우: 모델이 준 페이지 전체와 직접 비교
+            return best != null ? Optional.of(best) : alignOnPage(quote, maxErrors, hintPage);
+        }
+
+        private Optional<Match> alignOnPage(char[] quote, int maxErrors, int page) {
+            if (page < 0) return Optional.empty();
+            int from = pageStarts[page];
+            int to = page + 1 < pageStarts.length ? pageStarts[page + 1] - 1 : text.length() - 1;
+            if ((long) (to - from) * quote.length > MAX_PAGE_CELLS) return Optional.empty();
+            int[] hit = align(quote, from, to);
+            return hit[2] <= maxErrors ? Optional.of(toMatch(hit[0], hit[1], false)) : Optional.empty();
+        }
+
+        /** 표가 많은 구간 MAX_CANDIDATES개 (표 대부분은 흩어진 잡음이라 전체 정렬 대신 한 번 훑어 고름) */
+        private static List<Integer> topVoted(Map<Integer, Integer> votes) {
+            int[] keys = new int[MAX_CANDIDATES];
+            int[] counts = new int[MAX_CANDIDATES];
+            int size = 0;
+            for (Map.Entry<Integer, Integer> e : votes.entrySet()) {
+                int v = e.getValue();
+                if (size == MAX_CANDIDATES && v <= counts[size - 1]) continue;
+                int i = size < MAX_CANDIDATES ? size++ : size - 1;
+                while (i > 0 && counts[i - 1] < v) {
+                    keys[i] = keys[i - 1];
+                    counts[i] = counts[i - 1];
+                    i--;
+                }
+                keys[i] = e.getKey();
+                counts[i] = v;
+            }
+            List<Integer> top = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) top.add(keys[i]);
+            return top;
+        }
+
+        /**
+         * 인용구 전체를 구간 [from, to)의 임의 부분 문자열과 맞추는 편집 거리 (앞뒤 여백은 무료)
+         * - 각 칸에 일치 시작 위치를 같이 들고 다녀서 한 번에 [start, end, distance] 반환
+         */
+        private int[] align(char[] q, int from, int to) {
+            int w = to - from;
+            char[] window = new char[w];
+            text.getChars(from, to, window, 0);
+            int[] prev = new int[w + 1];
+            int[] cur = new int[w + 1];
+            int[] prevStart = new int[w + 1];
+            int[] curStart = new int[w + 1];
+            for (int j = 0; j <= w; j++) prevStart[j] = from + j;
+
+            for (int i = 1; i <= q.length; i++) {
+                char qc = q[i - 1];
+                cur[0] = i;
+                curStart[0] = from;
+                for (int j = 1; j <= w; j++) {
+                    int diag = prev[j - 1] + (window[j - 1] == qc ? 0 : 1);
+                    int up = prev[j] + 1;
+                    int left = cur[j - 1] + 1;
+                    if (diag <= up && diag <= left) {
+                        cur[j] = diag;
+                        curStart[j] = prevStart[j - 1];
+                    } else if (up <= left) {
+                        cur[j] = up;
+                        curStart[j] = prevStart[j];
+                    } else {
+                        cur[j] = left;
+                        curStart[j] = curStart[j - 1];
+                    }
+                }
+                int[] swap = prev;
+                prev = cur;
+                cur = swap;
+                swap = prevStart;
+                prevStart = curStart;
+                curStart = swap;
+            }
+
+            int end = 0;
+            for (int j = 1; j <= w; j++) {
+                if (prev[j] < prev[end]) end = j;
+            }
+            return new int[]{prevStart[end], from + end, prev[end]};
+        }
+
+        /** 정규화 구간 → 원본 페이지 오프셋 */
+        Match toMatch(int start, int end, boolean exact) {
+            // 근사 일치 시작이 페이지 경계 문자에 걸리면 다음 페이지부터
+            if (text.charAt(start) == PAGE_BREAK && start + 1 < text.length()) start++;
+            int page = pageOf(start);
+            int pageEnd = page + 1 < pageStarts.length ? pageStarts[page + 1] - 1 : text.length() - 1;
+            // 근사 일치가 페이지 경계를 넘으면 시작 페이지 끝까지로 자름
+            int last = Math.max(start, Math.min(end, pageEnd) - 1);
+            int origEnd = last >= pageEnd ? origPos[pageEnd] : origPos[last] + 1;
+            return new Match(pageNos[page], origPos[start], origEnd, exact);
+        }
+
+        private int pageOf(int pos) {
+            int i = Arrays.binarySearch(pageStarts, pos);
+            return i >= 0 ? i : -i - 2;
+        }
+
+        private int pageIndex(Integer pageNo) {
+            if (pageNo == null) return -1;
+            for (int i = 0; i < pageNos.length; i++) {
+                if (pageNos[i] == pageNo) return i;
+            }
+            return -1;
+        }
+
+    }
+
+    /** 박싱 없는 int 목록 */
+    static final class IntList {
+        private int[] values = new int[256];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        void removeLast() {
+            size--;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.dto.response.SidebarSummariesResponse;
+import com.foureyes.moai.backend.domain.ai.event.AiSummaryChangedEvent;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryDocumentRepository;
+import com.foureyes.moai.backend.domain.document.event.DocumentDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 사이드바 읽기 모델 (스터디별 그룹핑 + 중복 제거가 끝난 응답을 Redis에 저장)
+ * - 값: {version, model}, 버전 키는 요약본/문서 변경 이벤트마다 커밋 후 INCR
+ * - 조회 시 저장된 version이 현재 버전과 다르면 미스 → DB에서 다시 만들어 현재 버전으로 저장
+ *   (변경 전에 DB를 읽은 재생성이 변경 후에 저장돼도 버전이 달라 쓰이지 않음)
+ * - 버전 키는 TTL 없음 (만료 후 1부터 다시 세면 예전 스냅샷과 버전이 겹칠 수 있음)
+ * - Redis 장애는 미스로 취급하고 DB 결과를 그대로 반환
+ */
+@Slf4j
+@Component
+public class SidebarCache {
+
+    private static final String MODEL_KEY_PREFIX = "ai-sidebar:";
+    private static final String VERSION_KEY_PREFIX = "ai-sidebar-ver:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AiSummaryDocumentRepository aiSummaryDocumentRepository;
+    private final AiProperties.Sidebar props;
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter invalidations;
+
+    public SidebarCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                        AiSummaryDocumentRepository aiSummaryDocumentRepository,
+                        AiProperties aiProperties, MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.aiSummaryDocumentRepository = aiSummaryDocumentRepository;
+        this.props = aiProperties.getSidebar();
+
+        this.hit = requests(registry, "hit");
+        this.miss = requests(registry, "miss");
+        this.invalidations = Counter.builder("ai.sidebar.cache.invalidations")
+            .description("요약본/문서 변경으로 무효화한 사용자 사이드바 수")
+            .register(registry);
+    }
+
+    private record Snapshot(long version, SidebarSummariesResponse model) {}
+
+    /** 현재 버전의 스냅샷이 있으면 반환, 없으면 loader로 만들어 저장 */
+    public SidebarSummariesResponse get(int ownerId, Supplier<SidebarSummariesResponse> loader) {
+        if (!props.isCacheEnabled()) return loader.get();
+
+        long version;
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                .multiGet(List.of(VERSION_KEY_PREFIX + ownerId, MODEL_KEY_PREFIX + ownerId));
+            version = values != null && values.get(0) != null ? Long.parseLong(values.get(0)) : 0L;
+            String raw = values != null ? values.get(1) : null;
+            if (raw != null) {
+                Snapshot snapshot = objectMapper.readValue(raw, Snapshot.class);
+                if (snapshot.version() == version) {
+                    hit.increment();
+                    return snapshot.model();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("사이드바 캐시 조회 실패: ownerId={}, {}", ownerId, e.getMessage());
+            return loader.get();
+        }
+
+        miss.increment();
+        SidebarSummariesResponse model = loader.get();
+        try {
+            redisTemplate.opsForValue().set(MODEL_KEY_PREFIX + ownerId,
+                objectMapper.writeValueAsString(new Snapshot(version, model)), props.getTtl());
+        } catch (Exception e) {
+            log.warn("사이드바 캐시 저장 실패: ownerId={}, {}", ownerId, e.getMessage());
+        }
+        return model;
+    }
+
+    /** 요약본 생성/수정/삭제: 커밋된 경우에만 무효화 (트랜잭션 밖 발행이면 바로) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummaryChanged(AiSummaryChangedEvent event) {
+        invalidate(List.of(event.ownerId()));
+    }
+
+    /** 문서 삭제: 연결이 지워지기 전에 영향받는 소유자를 찾아 두고 커밋 후 무효화 */
+    @EventListener
+    public void onDocumentDeleted(DocumentDeletedEvent event) {
+        if (!props.isCacheEnabled()) return;
+        List<Integer> owners = aiSummaryDocumentRepository.findOwnerIdsByDocumentId(event.documentId());
+        if (owners.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(owners);
+                }
+            });
+        } else {
+            invalidate(owners);
+        }
+    }
+
+    private void invalidate(Collection<Integer> ownerIds) {
+        if (!props.isCacheEnabled()) return;
+        for (int ownerId : ownerIds) {
+            try {
+                redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + ownerId);
+                invalidations.increment();
+            } catch (Exception e) {
+                // 실패하면 TTL이 지날 때까지 이전 사이드바가 보일 수 있음
+                log.warn("사이드바 캐시 무효화 실패: ownerId={}, {}", ownerId, e.getMessage());
+            }
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("ai.sidebar.cache")
+            .description("사이드바 읽기 모델 조회 결과")
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import java.util.List;
+
+/**
+ * 워커로 넘기는 요약 작업 단위
+ * - 권한 검증과 fileKey 조회는 요청 스레드에서 끝내고, 워커는 DB 조회 없이 바로 실행
+ * - studyId: 스케줄러 대기열 구분용 (문서가 여러 스터디에 걸치면 가장 작은 studyId)
+ */
+public record SummaryJob(
+    int summaryId,
+    int ownerId,
+    int studyId,
+    List<Doc> docs,
+    String modelType,
+    String promptType,
+    SummaryMode mode
+) {
+
+    public record Doc(int docId, String title, String fileKey) {
+
+        /** 로그/프롬프트용 표시 이름 */
+        public String displayName() {
+            return title != null ? title : "document-" + docId;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+/**
+ * 요약 방식
+ * - SINGLE: 모델 토큰 예산 안에서 질의 관련 페이지(BM25) 위주로 채워 한 번에 요약 (기본, 검색을 끄면 문서별 공평한 몫만큼 앞 페이지부터)
+ * - CHUNKED: 페이지 단위 청크로 나눠 병렬 요약 후 병합 (긴 문서용)
+ */
+public enum SummaryMode {
+    SINGLE,
+    CHUNKED;
+
+    /** null/빈 값이면 SINGLE, 모르는 값이면 IllegalArgumentException */
+    public static SummaryMode fromKey(String key) {
+        if (key == null || key.isBlank()) return SINGLE;
+        for (SummaryMode m : values()) {
+            if (m.name().equalsIgnoreCase(key.trim())) return m;
+        }
+        throw new IllegalArgumentException("Unknown summary mode: " + key);
+    }
+}
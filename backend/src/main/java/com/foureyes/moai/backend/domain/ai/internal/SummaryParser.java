@@ -1,30 +1,111 @@
 package com.foureyes.moai.backend.domain.ai.internal;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 모델 응답 → 요약 항목 파서 (Jackson 스트리밍)
+ * - 코드펜스나 앞쪽 잡문자는 문자열을 고치지 않고 첫 '[' 또는 '{' 위치부터 읽어서 건너뜀
+ * - 배열 원소를 하나씩 트리로 읽어 DTO 목록과 저장용 배열을 한 번에 만듦
+ * - 응답이 잘렸거나 배열 뒤에 잡문자가 붙어도 완성된 객체까지는 살림
+ * - 결과는 ai.summary.parse{provider, model, result=success|truncated|failure}로 집계
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SummaryParser {
 
     private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
 
-    /** JSON → List<SummaryDto> */
-    public List<SummaryDto> parse(String jsonResponse) {
+    /** JSON → ParsedSummary (완성된 항목이 하나도 없고 JSON 시작도 못 찾으면 실패) */
+    public ParsedSummary parse(String response, ModelOption model) {
+        int start = jsonStart(response);
+        if (start < 0) {
+            log.error("AI 응답에서 JSON을 찾지 못함: {}", abbreviate(response));
+            count(model, "failure");
+            throw new RuntimeException("AI 응답 파싱에 실패했습니다.");
+        }
+
+        List<SummaryDto> items = new ArrayList<>();
+        ArrayNode json = objectMapper.createArrayNode();
+        boolean truncated = false;
+
+        StringReader reader = new StringReader(response);
         try {
-            List<SummaryDto> list = objectMapper.readValue(jsonResponse, new TypeReference<>() {});
-            log.info("AI 응답 파싱 완료 ({} items)", list.size());
-            return list;
-        } catch (Exception e) {
-            log.error("AI 응답 JSON 파싱 실패: {}", jsonResponse, e);
+            reader.skip(start);
+            try (JsonParser p = objectMapper.getFactory().createParser(reader)) {
+                JsonToken first = p.nextToken();
+                if (first == JsonToken.START_OBJECT) {
+                    // 배열 없이 객체 하나만 온 경우
+                    add(p.readValueAsTree(), items, json);
+                } else {
+                    JsonToken t;
+                    while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) {
+                        if (t == JsonToken.START_OBJECT) {
+                            add(p.readValueAsTree(), items, json);
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                    truncated = t == null;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 잘린 응답/깨진 원소: 그 전까지 완성된 항목만 사용
+            truncated = true;
+            log.warn("AI 응답 JSON이 중간에 깨짐, 완성된 {}개 항목만 사용: {}", items.size(), e.getOriginalMessage());
+        } catch (IOException e) {
+            count(model, "failure");
             throw new RuntimeException("AI 응답 파싱에 실패했습니다.", e);
         }
+
+        log.info("AI 응답 파싱 완료 ({} items{})", items.size(), truncated ? ", 잘린 응답" : "");
+        count(model, truncated ? "truncated" : "success");
+        return new ParsedSummary(items, json, truncated);
+    }
+
+    private void add(JsonNode node, List<SummaryDto> items, ArrayNode json) {
+        if (node == null || !node.isObject()) return;
+        try {
+            items.add(objectMapper.treeToValue(node, SummaryDto.class));
+            json.add(node);
+        } catch (JsonProcessingException e) {
+            log.warn("AI 응답 항목 변환 실패, 건너뜀: {}", e.getOriginalMessage());
+        }
+    }
+
+    private void count(ModelOption model, String result) {
+        registry.counter("ai.summary.parse",
+            "provider", model.getProvider().name(), "model", model.name(), "result", result).increment();
+    }
+
+    /** 코드펜스 등을 건너뛴 첫 JSON 시작 위치 */
+    private static int jsonStart(String s) {
+        if (s == null) return -1;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '[' || c == '{') return i;
+        }
+        return -1;
+    }
+
+    private static String abbreviate(String s) {
+        if (s == null) return "null";
+        return s.length() <= 500 ? s : s.substring(0, 500) + "...";
     }
 }
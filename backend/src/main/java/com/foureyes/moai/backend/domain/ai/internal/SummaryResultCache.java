@@ -0,0 +1,147 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.util.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 요약 결과 캐시 + single-flight
+ * - 키: 정렬된 (docId, ETag) 목록 + 모델 + 정규화된 프롬프트 + 요약 방식
+ * - 같은 키의 요청이 동시에 들어오면 LLM 호출은 1번만 하고 나머지는 결과를 공유
+ * - 빈 결과(클라이언트 폴백 "[]")는 캐시하지 않음
+ */
+@Component
+public class SummaryResultCache {
+
+    private final AiProperties.ResultCache props;
+    private final LruCache<String, JsonNode> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter coalesced;
+    private final Counter llmCallsAvoided;
+
+    public SummaryResultCache(AiProperties aiProperties, MeterRegistry registry) {
+        this.props = aiProperties.getResultCache();
+        this.cache = new LruCache<>(props.getMaxChars(), node -> node.toString().length(), props.getTtl());
+
+        this.hit = requests(registry, "hit");
+        this.miss = requests(registry, "miss");
+        this.coalesced = requests(registry, "coalesced");
+        this.llmCallsAvoided = Counter.builder("ai.summary.cache.llm.avoided")
+            .description("캐시 적중 또는 동시 요청 병합으로 생략한 LLM 요약 호출 수")
+            .register(registry);
+        FunctionCounter.builder("ai.summary.cache.evictions", cache, LruCache::evictionCount)
+            .register(registry);
+        Gauge.builder("ai.summary.cache.size", cache, LruCache::size)
+            .register(registry);
+        Gauge.builder("ai.summary.cache.inflight", inFlight, Map::size)
+            .register(registry);
+    }
+
+    /** 캐시 키에 들어가는 문서 버전 */
+    public record DocVersion(int docId, String eTag) {}
+
+    public static String key(List<DocVersion> docs, String modelType, String promptType, SummaryMode mode) {
+        StringBuilder sb = new StringBuilder();
+        docs.stream()
+            .sorted(Comparator.comparingInt(DocVersion::docId))
+            .forEach(d -> sb.append(d.docId()).append(':').append(d.eTag()).append(','));
+        sb.append('|').append(normalize(modelType))
+            .append('|').append(normalize(promptType))
+            .append('|').append(mode);
+        return sha256(sb.toString());
+    }
+
+    /**
+     * 캐시에 있으면 사본 반환, 같은 키가 진행 중이면 그 결과를 기다림, 둘 다 아니면 loader 실행
+     */
+    public JsonNode getOrCompute(String key, Callable<JsonNode> loader) throws Exception {
+        if (!props.isEnabled()) return loader.call();
+
+        JsonNode cached = cache.get(key);
+        if (cached != null) {
+            hit.increment();
+            llmCallsAvoided.increment();
+            return cached.deepCopy();
+        }
+
+        CompletableFuture<JsonNode> mine = new CompletableFuture<>();
+        CompletableFuture<JsonNode> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalesced.increment();
+            llmCallsAvoided.increment();
+            JsonNode shared = await(leader);
+            return shared != null ? shared.deepCopy() : null;
+        }
+
+        try {
+            // 조회와 등록 사이에 앞선 작업이 끝났을 수 있음
+            cached = cache.get(key);
+            if (cached != null) {
+                hit.increment();
+                llmCallsAvoided.increment();
+                mine.complete(cached);
+                return cached.deepCopy();
+            }
+
+            miss.increment();
+            JsonNode result = loader.call();
+            if (result != null && result.isArray() && !result.isEmpty()) {
+                cache.put(key, result.deepCopy());
+            }
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 선행 작업 실패는 대기 중인 요청에도 그대로 전달 */
+    private static JsonNode await(CompletableFuture<JsonNode> leader) throws Exception {
+        try {
+            return leader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("ai.summary.cache.requests")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static String normalize(String s) {
+        if (s == null) return "";
+        return s.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
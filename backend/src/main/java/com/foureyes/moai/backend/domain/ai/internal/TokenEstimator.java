@@ -0,0 +1,126 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+/**
+ * 모델별 토큰 수 추정 (프롬프트 예산 계산용, 네트워크 호출 없음)
+ * - 문자 종류(영문 단어/숫자/공백/기호/한글/한자/가나)별 연속 구간을 한 번 훑으며 토크나이저별 계수로 합산
+ * - 계수는 실제 응답 usage(prompt_tokens)와 비교해 맞춘 값이고, 예산을 넘기지 않도록 약간 크게 잡음
+ * - 문자 수로 자르면 한글 문서는 토큰이 영문보다 훨씬 많아 컨텍스트를 넘기거나 절반만 쓰게 됨
+ */
+public final class TokenEstimator {
+
+    /** 토크나이저 계열 (ModelOption마다 지정) */
+    public enum Tokenizer {
+        // GPT-4o 계열 BPE: 숫자는 3자리씩, 한글은 자주 쓰는 음절 조합이 병합됨
+        O200K(6, 3, 0.8, 1.1, 0.9, 0.4),
+        // Gemini SentencePiece: 숫자는 한 자리씩, 한글/한자 어휘가 더 많아 토큰이 적음
+        GEMINI(6, 1, 0.6, 0.9, 0.7, 0.35);
+
+        // 영문 단어는 이 길이마다 1토큰 (짧은 단어는 대부분 1토큰)
+        private final int charsPerWordPiece;
+        private final int digitsPerToken;
+        // 아래는 문자 1개당 토큰 수
+        private final double hangul;
+        private final double han;
+        private final double kana;
+        private final double otherLetter;
+
+        Tokenizer(int charsPerWordPiece, int digitsPerToken, double hangul, double han, double kana,
+                  double otherLetter) {
+            this.charsPerWordPiece = charsPerWordPiece;
+            this.digitsPerToken = digitsPerToken;
+            this.hangul = hangul;
+            this.han = han;
+            this.kana = kana;
+            this.otherLetter = otherLetter;
+        }
+    }
+
+    private TokenEstimator() {}
+
+    /** 추정 토큰 수 */
+    public static int count(CharSequence text, Tokenizer tokenizer) {
+        if (text == null || text.isEmpty()) return 0;
+        return (int) Math.ceil(scan(text, tokenizer, Double.MAX_VALUE).tokens);
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens 이하인 가장 긴 앞부분 (가능하면 공백/줄바꿈 경계에서 자름)
+     * - 잘리지 않으면 원문 그대로 반환
+     */
+    public static String clip(String text, int maxTokens, Tokenizer tokenizer) {
+        if (text == null) return "";
+        Scan scan = scan(text, tokenizer, maxTokens);
+        if (scan.end >= text.length()) return text;
+
+        int end = scan.end;
+        // 단어 중간에서 끊지 않도록 가까운 공백까지 되돌림 (너무 멀면 그대로)
+        for (int i = end; i > Math.max(0, end - 40); i--) {
+            if (Character.isWhitespace(text.charAt(i - 1))) {
+                end = i;
+                break;
+            }
+        }
+        return text.substring(0, end);
+    }
+
+    private static final class Scan {
+        int end;
+        double tokens;
+    }
+
+    /** 앞에서부터 구간 단위로 합산, 다음 구간을 더하면 limit를 넘는 위치에서 멈춤 */
+    private static Scan scan(CharSequence text, Tokenizer t, double limit) {
+        Scan scan = new Scan();
+        int n = text.length();
+        int i = 0;
+        while (i < n) {
+            char c = text.charAt(i);
+            int start = i;
+            double cost;
+            if (isAsciiLetter(c)) {
+                while (i < n && isAsciiLetter(text.charAt(i))) i++;
+                cost = 1 + (i - start - 1) / t.charsPerWordPiece;
+            } else if (c >= '0' && c <= '9') {
+                while (i < n && text.charAt(i) >= '0' && text.charAt(i) <= '9') i++;
+                cost = (i - start + t.digitsPerToken - 1) / t.digitsPerToken;
+            } else if (c == ' ') {
+                // 단어 앞 공백 하나는 다음 토큰에 붙고, 연속 공백만 따로 토큰이 됨
+                while (i < n && text.charAt(i) == ' ') i++;
+                cost = i - start > 1 ? 1 : 0;
+            } else if (c == '\n' || c == '\r' || c == '\t') {
+                while (i < n && (text.charAt(i) == '\n' || text.charAt(i) == '\r' || text.charAt(i) == '\t')) i++;
+                cost = 1;
+            } else if (c < 0x80) {
+                // 같은 기호 반복("---", "...")은 몇 개씩 묶임
+                while (i < n && text.charAt(i) == c) i++;
+                cost = (i - start + 3) / 4;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n) {
+                // 이모지 등 보조 평면 문자
+                i += 2;
+                cost = 2;
+            } else {
+                i++;
+                cost = perChar(c, t);
+            }
+
+            if (scan.tokens + cost > limit) break;
+            scan.tokens += cost;
+            scan.end = i;
+        }
+        return scan;
+    }
+
+    private static double perChar(char c, Tokenizer t) {
+        if ((c >= 0xAC00 && c <= 0xD7A3) || (c >= 0x1100 && c <= 0x11FF) || (c >= 0x3130 && c <= 0x318F)) {
+            return t.hangul;
+        }
+        if ((c >= 0x4E00 && c <= 0x9FFF) || (c >= 0x3400 && c <= 0x4DBF)) return t.han;
+        if (c >= 0x3040 && c <= 0x30FF) return t.kana;
+        if (Character.isLetter(c)) return t.otherLetter;
+        return 1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
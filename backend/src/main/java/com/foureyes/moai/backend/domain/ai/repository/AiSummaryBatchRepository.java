@@ -0,0 +1,10 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface AiSummaryBatchRepository extends JpaRepository<AiSummaryBatch, Integer> {
+    Optional<AiSummaryBatch> findByIdAndOwner_Id(int id, int ownerId);
+}
@@ -13,7 +13,7 @@ public interface AiSummaryDocumentRepository extends JpaRepository<AiSummaryDocu
     long deleteBySummary_Id(int summaryId);
 
     @Query("""
-        select new com.foureyes.moai.backend.domain.ai.dto.query.SidebarRow(
+        select distinct new com.foureyes.moai.backend.domain.ai.dto.query.SidebarRow(
             s.id, s.title, s.description, s.modelType, s.promptType, s.createdAt,
             sg.id, sg.name, sg.imageUrl
         )
@@ -22,10 +22,14 @@ public interface AiSummaryDocumentRepository extends JpaRepository<AiSummaryDocu
         join Document d on d.id = sd.document.id
         join StudyGroup sg on sg.id = d.studyGroup.id
         where s.owner.id = :ownerId
-        order by s.createdAt desc
+        order by s.createdAt desc, s.id desc
     """)
     List<SidebarRow> findSidebarRows(@Param("ownerId") int ownerId);
 
     List<AiSummaryDocument> findBySummary_Id(int summaryId);
 
+    // 문서가 연결된 요약본의 소유자 (문서 삭제 시 사이드바 무효화 대상)
+    @Query("select distinct sd.summary.owner.id from AiSummaryDocument sd where sd.document.id = :documentId")
+    List<Integer> findOwnerIdsByDocumentId(@Param("documentId") int documentId);
+
 }
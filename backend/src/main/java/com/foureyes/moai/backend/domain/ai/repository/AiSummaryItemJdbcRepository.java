@@ -0,0 +1,73 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요약 항목 일괄 저장 (JPA IDENTITY 전략은 배치 INSERT가 안 되므로 JDBC 배치 사용)
+ * - MySQL은 rewriteBatchedStatements=true여야 배치가 다중 VALUES 한 문장으로 전송됨 (hikari data-source-properties)
+ * - 호출 측 트랜잭션에 참여 (summaryJson 갱신과 같이 커밋/롤백)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AiSummaryItemJdbcRepository {
+
+    private static final int BATCH_SIZE = 200;
+    private static final String DELETE_SQL = "DELETE FROM ai_summary_items WHERE summary_id = ?";
+    private static final String INSERT_SQL = """
+        INSERT INTO ai_summary_items
+            (summary_id, ordinal, docs_id, page_number, sentence, quote, quote_start, quote_end, quote_match)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 기존 항목을 지우고 summaryJson 배열 순서대로 다시 저장, 저장한 항목 수 반환 */
+    public int replaceAll(int summaryId, JsonNode summaryJson) {
+        jdbcTemplate.update(DELETE_SQL, summaryId);
+        if (summaryJson == null || !summaryJson.isArray() || summaryJson.isEmpty()) return 0;
+
+        List<SummaryDto> items = new ArrayList<>(summaryJson.size());
+        for (JsonNode node : summaryJson) {
+            try {
+                items.add(objectMapper.treeToValue(node, SummaryDto.class));
+            } catch (Exception e) {
+                // 변환이 안 되는 항목도 순서(ordinal)는 유지
+                log.warn("요약 항목 변환 실패, 빈 항목으로 저장: summaryId={}, {}", summaryId, e.getMessage());
+                items.add(new SummaryDto());
+            }
+        }
+
+        int[] ordinal = {0};
+        jdbcTemplate.batchUpdate(INSERT_SQL, items, BATCH_SIZE, (ps, item) -> {
+            ps.setInt(1, summaryId);
+            ps.setInt(2, ordinal[0]++);
+            setInteger(ps, 3, item.getDocsId());
+            setInteger(ps, 4, item.getPageNumber());
+            ps.setString(5, item.getSummarySentence());
+            ps.setString(6, item.getOriginalQuote());
+            setInteger(ps, 7, item.getQuoteStart());
+            setInteger(ps, 8, item.getQuoteEnd());
+            ps.setString(9, item.getQuoteMatch());
+        });
+        return items.size();
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.INTEGER);
+        else ps.setInt(index, value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AiSummaryItemRepository extends JpaRepository<AiSummaryItem, Long> {
+    // 키셋 페이지네이션: ordinal > after 부터 (uq_summary_item 인덱스 범위 스캔)
+    List<AiSummaryItem> findBySummaryIdAndOrdinalGreaterThanOrderByOrdinal(int summaryId, int after, Pageable pageable);
+
+    // 문서별 필터 (idx_summary_item_doc)
+    List<AiSummaryItem> findBySummaryIdAndDocsIdAndOrdinalGreaterThanOrderByOrdinal(
+        int summaryId, int docsId, int after, Pageable pageable);
+
+    boolean existsBySummaryId(int summaryId);
+
+    // 요약본 삭제 시 항목 일괄 삭제 (호출 측 트랜잭션 안에서 실행)
+    @Modifying
+    @Query("delete from AiSummaryItem i where i.summaryId = :summaryId")
+    int deleteBySummaryId(@Param("summaryId") int summaryId);
+}
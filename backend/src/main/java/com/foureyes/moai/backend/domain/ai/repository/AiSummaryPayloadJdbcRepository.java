@@ -0,0 +1,55 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ai_summaries.summary_json(분리 전 컬럼) → ai_summary_payloads 이동
+ * - 분리 전 컬럼은 ddl-auto=update가 지우지 않아 기존 DB에만 남아 있음 (새 DB는 컬럼 자체가 없음)
+ * - 복사 후 원본은 NULL로 비워 공간 회수, 중복 실행해도 결과 동일 (INSERT IGNORE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiSummaryPayloadJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'ai_summaries' AND column_name = 'summary_json'
+            """, Integer.class);
+        return count != null && count > 0;
+    }
+
+    /** 아직 옮기지 않은 요약본 id (id 키셋) */
+    public List<Integer> findLegacyIds(int after, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM ai_summaries WHERE id > ? AND summary_json IS NOT NULL ORDER BY id LIMIT ?",
+            Integer.class, after, limit);
+    }
+
+    /** 옮기기 전 JSON 문자열 (없으면 null) */
+    public String findLegacyJson(int summaryId) {
+        List<String> rows = jdbcTemplate.queryForList(
+            "SELECT summary_json FROM ai_summaries WHERE id = ? AND summary_json IS NOT NULL",
+            String.class, summaryId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /** id가 (fromExclusive, toInclusive] 범위인 요약본 이동, 복사한 행 수 반환 (호출 측 트랜잭션) */
+    public int moveRange(int fromExclusive, int toInclusive) {
+        int copied = jdbcTemplate.update("""
+            INSERT IGNORE INTO ai_summary_payloads (summary_id, summary_json)
+            SELECT id, summary_json FROM ai_summaries
+            WHERE id > ? AND id <= ? AND summary_json IS NOT NULL
+            """, fromExclusive, toInclusive);
+        jdbcTemplate.update(
+            "UPDATE ai_summaries SET summary_json = NULL WHERE id > ? AND id <= ? AND summary_json IS NOT NULL",
+            fromExclusive, toInclusive);
+        return copied;
+    }
+}
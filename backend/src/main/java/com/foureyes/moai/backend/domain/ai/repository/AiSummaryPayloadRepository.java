@@ -0,0 +1,14 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AiSummaryPayloadRepository extends JpaRepository<AiSummaryPayload, Integer> {
+    // 요약본 삭제 시 (deleteById는 JSON까지 읽은 뒤 지우므로 직접 DELETE)
+    @Modifying
+    @Query("delete from AiSummaryPayload p where p.summaryId = :summaryId")
+    int deleteBySummaryId(@Param("summaryId") int summaryId);
+}
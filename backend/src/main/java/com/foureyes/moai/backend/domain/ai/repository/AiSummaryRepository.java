@@ -1,13 +1,114 @@
 package com.foureyes.moai.backend.domain.ai.repository;
 
+import com.foureyes.moai.backend.domain.ai.dto.query.BatchItemRow;
+import com.foureyes.moai.backend.domain.ai.dto.query.DashboardRow;
 import com.foureyes.moai.backend.domain.ai.entity.AiSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AiSummaryRepository extends JpaRepository<AiSummary, Integer> {
-    List<AiSummary> findByOwner_IdOrderByCreatedAtDesc(int ownerId);
+    // 대시보드 첫 페이지 (idx_summary_owner_created 범위 스캔, summaryJson은 읽지 않음)
+    @Query("""
+        select new com.foureyes.moai.backend.domain.ai.dto.query.DashboardRow(
+            s.id, s.title, s.description, s.createdAt
+        )
+        from AiSummary s
+        where s.owner.id = :ownerId
+        order by s.createdAt desc, s.id desc
+    """)
+    List<DashboardRow> findDashboardRows(@Param("ownerId") int ownerId, Pageable pageable);
+
+    // 대시보드 다음 페이지: 커서 (createdAt, id) 이후부터
+    @Query("""
+        select new com.foureyes.moai.backend.domain.ai.dto.query.DashboardRow(
+            s.id, s.title, s.description, s.createdAt
+        )
+        from AiSummary s
+        where s.owner.id = :ownerId
+          and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id))
+        order by s.createdAt desc, s.id desc
+    """)
+    List<DashboardRow> findDashboardRowsAfter(@Param("ownerId") int ownerId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") int id,
+                                              Pageable pageable);
     Optional<AiSummary> findByIdAndOwner_Id(int id, int ownerId);
 
+    // 워커에서 상태만 갱신 (엔티티 로딩 없이 단건 UPDATE)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update AiSummary s set s.status = :status, s.errorMessage = :errorMessage, s.updatedAt = :now
+        where s.id = :id
+        """)
+    int updateStatus(@Param("id") int id,
+                     @Param("status") AiSummary.Status status,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("now") LocalDateTime now);
+
+    // 이 인스턴스가 가진 대기/실행 중 작업의 임대 연장
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AiSummary s set s.updatedAt = :now where s.workerId = :workerId and s.status in :from")
+    int touchByWorker(@Param("workerId") String workerId,
+                      @Param("from") Collection<AiSummary.Status> from,
+                      @Param("now") LocalDateTime now);
+
+    // 재시작한 인스턴스 자신의 중단된 작업 정리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update AiSummary s set s.status = :status, s.errorMessage = :errorMessage, s.updatedAt = :now
+        where s.workerId = :workerId and s.status in :from
+        """)
+    int updateStatusByWorker(@Param("workerId") String workerId,
+                             @Param("from") Collection<AiSummary.Status> from,
+                             @Param("status") AiSummary.Status status,
+                             @Param("errorMessage") String errorMessage,
+                             @Param("now") LocalDateTime now);
+
+    // 임대가 끊긴 작업 정리 (소유 인스턴스가 죽었거나 worker_id 도입 전 작업)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update AiSummary s set s.status = :status, s.errorMessage = :errorMessage, s.updatedAt = :now
+        where s.status in :from and coalesce(s.updatedAt, s.createdAt) < :staleBefore
+        """)
+    int updateStatusIfStale(@Param("from") Collection<AiSummary.Status> from,
+                            @Param("staleBefore") LocalDateTime staleBefore,
+                            @Param("status") AiSummary.Status status,
+                            @Param("errorMessage") String errorMessage,
+                            @Param("now") LocalDateTime now);
+
+    // 일괄 요청의 문서별 요약본 상태 (문서 순서 = 요약본 생성 순서)
+    @Query("""
+        select new com.foureyes.moai.backend.domain.ai.dto.query.BatchItemRow(
+            s.id, sd.document.id, s.title, s.status, s.errorMessage
+        )
+        from AiSummary s
+        join AiSummaryDocument sd on sd.summary.id = s.id
+        where s.batchId = :batchId
+        order by s.id
+    """)
+    List<BatchItemRow> findBatchRows(@Param("batchId") int batchId);
+
+    // 항목 테이블 백필 대상 (완료됐는데 ai_summary_items가 없는 요약본, id 키셋)
+    @Query("""
+        select s.id from AiSummary s
+        where s.id > :after
+          and (s.status = com.foureyes.moai.backend.domain.ai.entity.AiSummary.Status.DONE or s.status is null)
+          and exists (select 1 from AiSummaryPayload p where p.summaryId = s.id)
+          and not exists (select 1 from AiSummaryItem i where i.summaryId = s.id)
+        order by s.id
+        """)
+    List<Integer> findIdsWithoutItems(@Param("after") int after, Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package com.foureyes.moai.backend.domain.ai.repository;
+
+import com.foureyes.moai.backend.domain.ai.entity.AiUsageDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface AiUsageDailyRepository extends JpaRepository<AiUsageDaily, Integer> {
+    Optional<AiUsageDaily> findByUserIdAndUsageDate(int userId, LocalDate usageDate);
+
+    // 동시에 끝난 작업끼리 덮어쓰지 않도록 조회 없이 DB에서 누적 (MySQL upsert)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        insert into ai_usage_daily
+            (user_id, usage_date, summary_count, call_count, prompt_tokens, completion_tokens, cost_usd)
+        values (:userId, :usageDate, 1, :calls, :promptTokens, :completionTokens, :costUsd)
+        on duplicate key update
+            summary_count = summary_count + 1,
+            call_count = call_count + values(call_count),
+            prompt_tokens = prompt_tokens + values(prompt_tokens),
+            completion_tokens = completion_tokens + values(completion_tokens),
+            cost_usd = cost_usd + values(cost_usd)
+        """, nativeQuery = true)
+    int accumulate(@Param("userId") int userId,
+                   @Param("usageDate") LocalDate usageDate,
+                   @Param("calls") long calls,
+                   @Param("promptTokens") long promptTokens,
+                   @Param("completionTokens") long completionTokens,
+                   @Param("costUsd") BigDecimal costUsd);
+}
@@ -2,12 +2,16 @@ package com.foureyes.moai.backend.domain.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryBatchRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.EditAiSummaryRequest;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryBatchResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryResponseDto;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryStatusResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.CreateAiSummaryResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.DashboardSummariesResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.SidebarSummariesResponse;
+import com.foureyes.moai.backend.domain.ai.dto.response.SummaryItemsResponse;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Mono;
 
@@ -19,9 +23,14 @@ import java.util.List;
 public interface AiService {
 
     CreateAiSummaryResponse createSummary(int ownerId, CreateAiSummaryRequest req);
-    DashboardSummariesResponse getDashboardList(int ownerId);
+    CreateAiSummaryResponse createSummaryStreaming(int ownerId, CreateAiSummaryRequest req, SummaryStreamListener listener);
+    DashboardSummariesResponse getDashboardList(int ownerId, String cursor, int size);
     SidebarSummariesResponse getSidebarList(int ownerId);
     void deleteSummary(int ownerId, int summaryId);
     void editSummary(int userId, int summaryId, EditAiSummaryRequest request);
     AiSummaryResponseDto getSummaryDetail(int userId, int summaryId);
+    SummaryItemsResponse getSummaryItems(int userId, int summaryId, Integer docsId, int after, int size);
+    AiSummaryStatusResponse getSummaryStatus(int userId, int summaryId);
+    AiSummaryBatchResponse createBatch(int ownerId, CreateAiSummaryBatchRequest req);
+    AiSummaryBatchResponse getBatch(int userId, int batchId);
 }
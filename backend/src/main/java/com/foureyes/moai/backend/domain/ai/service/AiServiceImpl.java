@@ -1,35 +1,57 @@
 
 package com.foureyes.moai.backend.domain.ai.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.foureyes.moai.backend.commons.config.AiProperties;
 import com.foureyes.moai.backend.commons.exception.CustomException;
 import com.foureyes.moai.backend.commons.exception.ErrorCode;
 import com.foureyes.moai.backend.commons.util.StorageService;
 import com.foureyes.moai.backend.domain.ai.dto.DocsItem;
+import com.foureyes.moai.backend.domain.ai.dto.query.BatchItemRow;
+import com.foureyes.moai.backend.domain.ai.dto.query.DashboardRow;
 import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryBatchRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.CreateAiSummaryRequest;
 import com.foureyes.moai.backend.domain.ai.dto.request.EditAiSummaryRequest;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryBatchResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryResponseDto;
+import com.foureyes.moai.backend.domain.ai.dto.response.AiSummaryStatusResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.CreateAiSummaryResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.DashboardSummariesResponse;
 import com.foureyes.moai.backend.domain.ai.dto.response.SidebarSummariesResponse;
+import com.foureyes.moai.backend.domain.ai.dto.response.SummaryItemsResponse;
 import com.foureyes.moai.backend.domain.ai.entity.AiSummary;
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryBatch;
 import com.foureyes.moai.backend.domain.ai.entity.AiSummaryDocument;
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryItem;
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryPayload;
+import com.foureyes.moai.backend.domain.ai.event.AiSummaryChangedEvent;
 import com.foureyes.moai.backend.domain.ai.internal.*;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryBatchRepository;
 import com.foureyes.moai.backend.domain.ai.repository.AiSummaryDocumentRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryItemJdbcRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryItemRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryPayloadRepository;
 import com.foureyes.moai.backend.domain.ai.repository.AiSummaryRepository;
 import com.foureyes.moai.backend.domain.document.entity.Document;
+import com.foureyes.moai.backend.domain.document.repository.CategoryRepository;
+import com.foureyes.moai.backend.domain.document.repository.DocumentCategoryRepository;
 import com.foureyes.moai.backend.domain.document.repository.DocumentRepository;
 import com.foureyes.moai.backend.domain.document.service.DocumentService;
 import com.foureyes.moai.backend.domain.user.entity.User;
 import com.foureyes.moai.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
@@ -38,29 +60,55 @@ import java.util.*;
 @RequiredArgsConstructor
 public class AiServiceImpl implements AiService {
 
+    // 요약 항목 페이지 최대 크기
+    private static final int MAX_ITEM_PAGE_SIZE = 200;
+    // 대시보드 페이지 최대 크기
+    private static final int MAX_DASHBOARD_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final DocumentRepository documentRepository;
     private final AiSummaryRepository aiSummaryRepository;
     private final AiSummaryDocumentRepository aiSummaryDocumentRepository;
+    private final AiSummaryItemRepository aiSummaryItemRepository;
+    private final AiSummaryItemJdbcRepository aiSummaryItemJdbcRepository;
+    private final AiSummaryPayloadRepository aiSummaryPayloadRepository;
+    private final AiSummaryPayloadMigration aiSummaryPayloadMigration;
+    private final AiSummaryBatchRepository aiSummaryBatchRepository;
+    private final CategoryRepository categoryRepository;
+    private final DocumentCategoryRepository documentCategoryRepository;
 
     private final DocumentService documentService;
     private final StorageService storageService;
 
-    // 역할별 컴포넌트
-    private final PdfTextExtractor pdfTextExtractor;
-    private final PromptBuilder promptBuilder;
     private final ModelResolver modelResolver;
-    private final GeminiApiClient geminiApiClient;
-    private final SummaryParser summaryParser;
-    private final ObjectMapper objectMapper;
-
-    private final AiClientRouter aiClientRouter;
+    private final ModelSelector modelSelector;
+    private final AiSummaryWorker aiSummaryWorker;
+    private final AiSummaryBatchDispatcher aiSummaryBatchDispatcher;
+    private final AiRateLimiter aiRateLimiter;
+    private final AiUsageService aiUsageService;
+    private final AiProperties aiProperties;
+    private final SidebarCache sidebarCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CreateAiSummaryResponse createSummary(int ownerId, CreateAiSummaryRequest req) {
+        return createSummaryStreaming(ownerId, req, SummaryStreamListener.NONE);
+    }
+
+    @Override
+    public CreateAiSummaryResponse createSummaryStreaming(int ownerId, CreateAiSummaryRequest req,
+                                                          SummaryStreamListener listener) {
         if (req.getFileId() == null || req.getFileId().isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
+        // 모델 키는 요청 단계에서 검증 (잘못되면 400), AUTO는 문서 크기를 확인한 뒤 고름
+        boolean autoModel = modelResolver.isAuto(req.getModelType());
+        ModelOption option = autoModel ? null : modelResolver.resolveOption(req.getModelType());
+        SummaryMode mode = resolveMode(req.getSummaryMode());
+
+        if (!aiSummaryWorker.hasCapacity()) {
+            throw new CustomException(ErrorCode.AI_SUMMARY_QUEUE_FULL);
+        }
 
         User owner = userRepository.findById(ownerId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -71,84 +119,308 @@ public class AiServiceImpl implements AiService {
         List<Document> docs = documentRepository.findAllById(docIds);
         if (docs.size() != docIds.size()) throw new CustomException(ErrorCode.DOCUMENT_NOT_FOUND);
 
-        try {
-            List<String> docBlocks = new ArrayList<>(docs.size());
-            for (Document d : docs) {
-                String key = documentService.getDocumentKeyIfAllowed(ownerId, d.getId());
-                try (InputStream in = storageService.openDocumentStream(key)) {
-                    String text = pdfTextExtractor.extractTextWithPages(in, Optional.ofNullable(d.getTitle()).orElse("document-" + d.getId()));
-                    String clipped = promptBuilder.clip(text, 12000);
-                    docBlocks.add(promptBuilder.formatDocBlock(d.getId(), d.getTitle(), clipped));
-                }
+        // 권한 검증 + fileKey 확보는 요청 스레드에서 처리 (쿼리 1번)
+        Map<Integer, String> keys = documentService.getDocumentKeysIfAllowed(ownerId, docIds);
+        List<SummaryJob.Doc> jobDocs = new ArrayList<>(docs.size());
+        for (Document d : docs) {
+            jobDocs.add(new SummaryJob.Doc(d.getId(), d.getTitle(), keys.get(d.getId())));
+        }
+
+        ModelSelector.Selection selection = autoModel
+            ? modelSelector.select(modelSelector.estimatePromptTokens(
+                docs.stream().map(Document::getPageCount).toList(), mode))
+            : null;
+        if (selection != null) option = selection.option();
+        // 이후 단계(워커/라우터/결과 캐시)는 실제 모델 키로 처리
+        String modelType = selection != null ? option.getModelId() : req.getModelType();
+
+        // 사용자별 일일 토큰/비용 한도 (초과 시 429 + 다음 날까지 Retry-After)
+        // 요청 한도보다 먼저 확인해야 거절될 요청이 토큰 버킷을 소모하지 않음
+        aiUsageService.checkDailyQuota(ownerId);
+        // 사용자/스터디/모델 단위 요청 한도 (초과 시 429 + Retry-After)
+        Set<Integer> studyIds = new HashSet<>();
+        for (Document d : docs) studyIds.add(d.getStudyGroup().getId());
+        aiRateLimiter.acquire(ownerId, studyIds, option);
+
+        AiSummary summary = AiSummary.builder()
+            .owner(owner)
+            .title(Optional.ofNullable(req.getTitle()).orElse("").trim())
+            .description(Optional.ofNullable(req.getDescription()).orElse("").trim())
+            .modelType(modelType)
+            .modelSelection(selection != null ? selection.reason() : null)
+            .promptType(Optional.ofNullable(req.getPromptType()).orElse("").trim())
+            .status(AiSummary.Status.QUEUED)
+            .workerId(aiSummaryWorker.instanceId())
+            .build();
+        aiSummaryRepository.save(summary);
+
+        for (Document d : docs) {
+            if (!aiSummaryDocumentRepository.existsBySummary_IdAndDocument_Id(summary.getId(), d.getId())) {
+                aiSummaryDocumentRepository.save(
+                    AiSummaryDocument.builder().summary(summary).document(d).build()
+                );
+            }
+        }
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(ownerId, summary.getId()));
+
+        CreateAiSummaryResponse response = CreateAiSummaryResponse.builder()
+            .summary_id(summary.getId())
+            .title(summary.getTitle())
+            .description(summary.getDescription())
+            .model_type(summary.getModelType())
+            .model_selection(summary.getModelSelection())
+            .prompt_type(summary.getPromptType())
+            .status(summary.getStatus().name())
+            .build();
+
+        // 커밋 이후에 워커로 넘겨야 워커가 QUEUED 레코드를 볼 수 있음
+        // (생성 알림을 먼저 보내야 스트리밍 항목보다 앞에 도착)
+        SummaryJob job = new SummaryJob(summary.getId(), ownerId, Collections.min(studyIds), jobDocs,
+            modelType, req.getPromptType(), mode);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                listener.onCreated(response);
+                aiSummaryWorker.submit(job, listener);
             }
-            String joinedBlocks = String.join("\n\n", docBlocks);
+        });
 
-            String prompt = promptBuilder.buildMultiDocPrompt(joinedBlocks, req.getPromptType());
+        return response;
+    }
 
-            String summaryJson = aiClientRouter
-                    .generateJsonArray(req.getModelType(), prompt)
-                    .block();
-            List<SummaryDto> parsed = summaryParser.parse(summaryJson);
-            log.info("AI 요약 파싱 결과: {} items", parsed.size());
+    @Override
+    public AiSummaryBatchResponse createBatch(int ownerId, CreateAiSummaryBatchRequest req) {
+        boolean byCategory = req.getCategoryId() != null;
+        boolean byFiles = req.getFileId() != null && !req.getFileId().isEmpty();
+        if (byCategory == byFiles) throw new CustomException(ErrorCode.INVALID_REQUEST);
 
-            AiSummary summary = AiSummary.builder()
-                .owner(owner)
-                .title(Optional.ofNullable(req.getTitle()).orElse("").trim())
-                .description(Optional.ofNullable(req.getDescription()).orElse("").trim())
-                .modelType(req.getModelType())
-                .promptType(Optional.ofNullable(req.getPromptType()).orElse("").trim())
-                .summaryJson(objectMapper.readTree(summaryJson))
-                .build();
-            aiSummaryRepository.save(summary);
+        boolean autoModel = modelResolver.isAuto(req.getModelType());
+        ModelOption option = autoModel ? null : modelResolver.resolveOption(req.getModelType());
+        SummaryMode mode = resolveMode(req.getSummaryMode());
+
+        if (!aiSummaryWorker.hasCapacity()) {
+            throw new CustomException(ErrorCode.AI_SUMMARY_QUEUE_FULL);
+        }
 
+        User owner = userRepository.findById(ownerId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 대상 문서: 카테고리면 매핑 테이블 조회 1번, 문서 목록이면 ID 조회 1번
+        List<Document> docs;
+        if (byCategory) {
+            if (!categoryRepository.existsById(req.getCategoryId())) {
+                throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+            docs = documentCategoryRepository.findDocumentsByCategoryId(req.getCategoryId());
+        } else {
+            List<Integer> docIds = req.getFileId().stream()
+                .filter(Objects::nonNull).distinct().toList();
+            docs = documentRepository.findAllById(docIds);
+            if (docs.size() != docIds.size()) throw new CustomException(ErrorCode.DOCUMENT_NOT_FOUND);
+            docs = docs.stream().sorted(Comparator.comparingInt(Document::getId)).toList();
+        }
+        if (docs.isEmpty() || docs.size() > aiProperties.getBatch().getMaxDocuments()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        // 권한 검증 + fileKey 확보 (전체 문서를 쿼리 1번으로)
+        Map<Integer, String> keys = documentService.getDocumentKeysIfAllowed(ownerId,
+            docs.stream().map(Document::getId).toList());
+
+        // AUTO면 문서마다 크기에 맞춰 따로 고름
+        Map<Integer, ModelSelector.Selection> selections = new HashMap<>();
+        if (autoModel) {
             for (Document d : docs) {
-                if (!aiSummaryDocumentRepository.existsBySummary_IdAndDocument_Id(summary.getId(), d.getId())) {
-                    aiSummaryDocumentRepository.save(
-                        AiSummaryDocument.builder().summary(summary).document(d).build()
-                    );
-                }
+                selections.put(d.getId(), modelSelector.select(
+                    modelSelector.estimatePromptTokens(Collections.singletonList(d.getPageCount()), mode)));
             }
+            // 모델 단위 한도는 첫 문서 모델 기준 (일괄 요청 1건으로 계산하는 것과 같은 근사)
+            option = selections.get(docs.get(0).getId()).option();
+        }
 
-            return CreateAiSummaryResponse.builder()
-                .summary_id(summary.getId())
+        // 일일 사용량 한도를 먼저 확인한 뒤 요청 한도는 일괄 요청 1건으로 계산
+        // (문서 수는 maxDocuments와 일일 사용량 한도로 제한)
+        aiUsageService.checkDailyQuota(ownerId);
+        Set<Integer> studyIds = new HashSet<>();
+        for (Document d : docs) studyIds.add(d.getStudyGroup().getId());
+        aiRateLimiter.acquire(ownerId, studyIds, option);
+
+        String description = Optional.ofNullable(req.getDescription()).orElse("").trim();
+        String promptType = Optional.ofNullable(req.getPromptType()).orElse("").trim();
+        AiSummaryBatch batch = aiSummaryBatchRepository.save(AiSummaryBatch.builder()
+            .owner(owner)
+            .categoryId(req.getCategoryId())
+            .modelType(req.getModelType())
+            .promptType(promptType)
+            .total(docs.size())
+            .build());
+
+        // 문서마다 요약본 1개 (제목은 문서 제목)
+        List<SummaryJob> jobs = new ArrayList<>(docs.size());
+        List<AiSummaryBatchResponse.Item> items = new ArrayList<>(docs.size());
+        for (Document d : docs) {
+            ModelSelector.Selection selection = selections.get(d.getId());
+            String modelType = selection != null ? selection.option().getModelId() : req.getModelType();
+            AiSummary summary = aiSummaryRepository.save(AiSummary.builder()
+                .owner(owner)
+                .title(Optional.ofNullable(d.getTitle()).orElse("").trim())
+                .description(description)
+                .modelType(modelType)
+                .modelSelection(selection != null ? selection.reason() : null)
+                .promptType(promptType)
+                .status(AiSummary.Status.QUEUED)
+                .workerId(aiSummaryWorker.instanceId())
+                .batchId(batch.getId())
+                .build());
+            aiSummaryDocumentRepository.save(AiSummaryDocument.builder().summary(summary).document(d).build());
+
+            SummaryJob.Doc doc = new SummaryJob.Doc(d.getId(), d.getTitle(), keys.get(d.getId()));
+            jobs.add(new SummaryJob(summary.getId(), ownerId, d.getStudyGroup().getId(), List.of(doc),
+                modelType, req.getPromptType(), mode));
+            items.add(AiSummaryBatchResponse.Item.builder()
+                .summaryId(summary.getId())
+                .docsId(d.getId())
                 .title(summary.getTitle())
-                .description(summary.getDescription())
-                .model_type(summary.getModelType())
-                .prompt_type(summary.getPromptType())
-                .build();
+                .status(summary.getStatus().name())
+                .build());
+        }
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(ownerId, jobs.get(0).summaryId()));
+
+        // 커밋 이후에 넣어야 워커가 QUEUED 레코드를 볼 수 있음
+        int batchId = batch.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aiSummaryBatchDispatcher.start(batchId, jobs);
+            }
+        });
+
+        return AiSummaryBatchResponse.builder()
+            .batchId(batchId)
+            .total(docs.size())
+            .queued(docs.size())
+            .summaries(items)
+            .build();
+    }
 
-        } catch (CustomException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("AI 요약 생성 실패", e);
-            throw new RuntimeException("AI 요약 생성에 실패했습니다.", e);
+    @Override
+    @Transactional(readOnly = true)
+    public AiSummaryBatchResponse getBatch(int userId, int batchId) {
+        AiSummaryBatch batch = aiSummaryBatchRepository.findByIdAndOwner_Id(batchId, userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.SUMMARY_BATCH_NOT_FOUND));
+
+        List<BatchItemRow> rows = aiSummaryRepository.findBatchRows(batchId);
+        int[] counts = new int[AiSummary.Status.values().length];
+        List<AiSummaryBatchResponse.Item> items = new ArrayList<>(rows.size());
+        for (BatchItemRow r : rows) {
+            AiSummary.Status status = r.getStatus() != null ? r.getStatus() : AiSummary.Status.DONE;
+            counts[status.ordinal()]++;
+            items.add(AiSummaryBatchResponse.Item.builder()
+                .summaryId(r.getSummaryId())
+                .docsId(r.getDocsId())
+                .title(r.getTitle())
+                .status(status.name())
+                .errorMessage(r.getErrorMessage())
+                .build());
         }
+
+        // 요약본을 지운 문서는 목록에서 빠지므로 total은 요청 시점 문서 수
+        return AiSummaryBatchResponse.builder()
+            .batchId(batchId)
+            .total(batch.getTotal())
+            .queued(counts[AiSummary.Status.QUEUED.ordinal()])
+            .running(counts[AiSummary.Status.RUNNING.ordinal()])
+            .done(counts[AiSummary.Status.DONE.ordinal()])
+            .failed(counts[AiSummary.Status.FAILED.ordinal()])
+            .summaries(items)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AiSummaryStatusResponse getSummaryStatus(int userId, int summaryId) {
+        AiSummary summary = aiSummaryRepository.findByIdAndOwner_Id(summaryId, userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.SUMMARY_NOT_FOUND));
+
+        return AiSummaryStatusResponse.builder()
+            .summaryId(summary.getId())
+            .status(summary.getStatus().name())
+            .errorMessage(summary.getErrorMessage())
+            .modelType(summary.getModelType())
+            .modelSelection(summary.getModelSelection())
+            .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public DashboardSummariesResponse getDashboardList(int ownerId) {
-        var list = aiSummaryRepository.findByOwner_IdOrderByCreatedAtDesc(ownerId);
-        var items = list.stream()
-            .map(s -> DashboardSummariesResponse.Item.builder()
-                .summaryId(s.getId())
-                .title(s.getTitle())
-                .description(s.getDescription())
-                .createdAt(s.getCreatedAt())
+    public DashboardSummariesResponse getDashboardList(int ownerId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_DASHBOARD_PAGE_SIZE));
+        // 1건 더 읽어서 다음 페이지 유무 판단
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<DashboardRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = aiSummaryRepository.findDashboardRows(ownerId, page);
+        } else {
+            DashboardCursor c = DashboardCursor.decode(cursor);
+            rows = aiSummaryRepository.findDashboardRowsAfter(ownerId, c.createdAt(), c.id(), page);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+
+        var items = rows.stream()
+            .map(r -> DashboardSummariesResponse.Item.builder()
+                .summaryId(r.getSummaryId())
+                .title(r.getTitle())
+                .description(r.getDescription())
+                .createdAt(r.getCreatedAt())
                 .build())
             .toList();
 
+        // created_at이 없는 예전 행은 정렬상 맨 뒤라 거기서 끝냄
+        DashboardRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        String nextCursor = hasNext && last.getCreatedAt() != null
+            ? new DashboardCursor(last.getCreatedAt(), last.getSummaryId()).encode()
+            : null;
+
         return DashboardSummariesResponse.builder()
             .summaries(items)
+            .nextCursor(nextCursor)
             .build();
     }
 
+    /** 대시보드 키셋 커서 (createdAt, id), 클라이언트에는 불투명 문자열로 전달 */
+    private record DashboardCursor(LocalDateTime createdAt, int id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "," + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static DashboardCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int comma = raw.lastIndexOf(',');
+                return new DashboardCursor(LocalDateTime.parse(raw.substring(0, comma)),
+                    Integer.parseInt(raw.substring(comma + 1)));
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public SidebarSummariesResponse getSidebarList(int ownerId) {
+        return sidebarCache.get(ownerId, () -> loadSidebar(ownerId));
+    }
+
+    /** 캐시 미스 시 DB에서 사이드바 생성 (요약본-스터디 중복은 쿼리의 distinct로 제거됨) */
+    private SidebarSummariesResponse loadSidebar(int ownerId) {
         var rows = aiSummaryDocumentRepository.findSidebarRows(ownerId);
 
-        // studyId 기준 그룹핑 + 같은 summaryId 중복 제거
+        // studyId 기준 그룹핑
         Map<Integer, SidebarSummariesResponse.StudyBlock> studies = new LinkedHashMap<>();
         for (var r : rows) {
             var block = studies.computeIfAbsent(
@@ -161,20 +433,16 @@ public class AiServiceImpl implements AiService {
                     .build()
             );
 
-            boolean exists = block.getSummaries().stream()
-                .anyMatch(x -> x.getSummaryId() == r.getSummaryId());
-            if (!exists) {
-                block.getSummaries().add(
-                    SidebarSummariesResponse.SummaryItem.builder()
-                        .summaryId(r.getSummaryId())
-                        .title(r.getTitle())
-                        .description(r.getDescription())
-                        .modelType(r.getModelType())
-                        .promptType(r.getPromptType())
-                        .createdAt(r.getCreatedAt())
-                        .build()
-                );
-            }
+            block.getSummaries().add(
+                SidebarSummariesResponse.SummaryItem.builder()
+                    .summaryId(r.getSummaryId())
+                    .title(r.getTitle())
+                    .description(r.getDescription())
+                    .modelType(r.getModelType())
+                    .promptType(r.getPromptType())
+                    .createdAt(r.getCreatedAt())
+                    .build()
+            );
         }
 
         return SidebarSummariesResponse.builder()
@@ -192,8 +460,11 @@ public class AiServiceImpl implements AiService {
         }
 
         aiSummaryDocumentRepository.deleteBySummary_Id(summaryId);
+        aiSummaryItemRepository.deleteBySummaryId(summaryId);
+        aiSummaryPayloadRepository.deleteBySummaryId(summaryId);
 
         aiSummaryRepository.delete(summary);
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(ownerId, summaryId));
     }
 
     @Override
@@ -212,6 +483,7 @@ public class AiServiceImpl implements AiService {
         summary.setDescription(request.getDescription() != null ? request.getDescription().trim() : null);
 
         aiSummaryRepository.save(summary);
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(userId, summaryId));
     }
 
     @Override
@@ -226,9 +498,13 @@ public class AiServiceImpl implements AiService {
 
         List<AiSummaryDocument> links = aiSummaryDocumentRepository.findBySummary_Id(summaryId);
 
+        // 문서 키 + 권한은 한 번에 조회, URL은 캐시된 서명 재사용
+        Map<Integer, String> keys = documentService.getDocumentKeysIfAllowed(userId,
+            links.stream().map(link -> link.getDocument().getId()).toList());
+
         List<DocsItem> docsItems = links.stream().map(link -> {
             int docId = link.getDocument().getId();
-            String key = documentService.getDocumentKeyIfAllowed(userId, docId);
+            String key = keys.get(docId);
             String url = storageService.presignDocumentViewUrl(key, Duration.ofMinutes(40));
             return DocsItem.builder()
                 .docsId(docId)
@@ -237,8 +513,63 @@ public class AiServiceImpl implements AiService {
         }).toList();
 
         return AiSummaryResponseDto.builder()
-            .summaryJson(summary.getSummaryJson())
+            .summaryJson(loadSummaryJson(summaryId))
             .docses(docsItems)
             .build();
     }
+
+    @Override
+    public SummaryItemsResponse getSummaryItems(int userId, int summaryId, Integer docsId, int after, int size) {
+        AiSummary summary = aiSummaryRepository.findById(summaryId)
+            .orElseThrow(() -> new CustomException(ErrorCode.SUMMARY_NOT_FOUND));
+
+        // 소유자 권한 체크
+        if (summary.getOwner() == null || summary.getOwner().getId() != userId) {
+            throw new CustomException(ErrorCode.FORBIDDEN_SUMMARY_ACCESS);
+        }
+
+        // 백필이 아직 못 닿은 예전 요약본이면 이 요약본만 바로 펼쳐 저장
+        if (summary.getStatus() == AiSummary.Status.DONE && !aiSummaryItemRepository.existsBySummaryId(summaryId)) {
+            JsonNode summaryJson = loadSummaryJson(summaryId);
+            if (summaryJson != null) aiSummaryItemJdbcRepository.replaceAll(summaryId, summaryJson);
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_ITEM_PAGE_SIZE));
+        // 1건 더 읽어서 다음 페이지 유무 판단
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<AiSummaryItem> rows = docsId == null
+            ? aiSummaryItemRepository.findBySummaryIdAndOrdinalGreaterThanOrderByOrdinal(summaryId, after, page)
+            : aiSummaryItemRepository.findBySummaryIdAndDocsIdAndOrdinalGreaterThanOrderByOrdinal(
+                summaryId, docsId, after, page);
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+
+        List<SummaryDto> items = rows.stream()
+            .map(i -> new SummaryDto(i.getSentence(), i.getQuote(), i.getDocsId(), i.getPageNumber(),
+                i.getQuoteStart(), i.getQuoteEnd(), i.getQuoteMatch()))
+            .toList();
+
+        return SummaryItemsResponse.builder()
+            .summaryId(summaryId)
+            .items(items)
+            .nextCursor(hasNext ? rows.get(rows.size() - 1).getOrdinal() : null)
+            .build();
+    }
+
+    /** 요약 결과 JSON (분리 마이그레이션 전 요약본이면 이 자리에서 옮김, 결과가 없으면 null) */
+    private JsonNode loadSummaryJson(int summaryId) {
+        return aiSummaryPayloadRepository.findById(summaryId)
+            .map(AiSummaryPayload::getSummaryJson)
+            .orElseGet(() -> aiSummaryPayloadMigration.migrate(summaryId));
+    }
+
+    /** 요약 방식 키 검증 (비어 있으면 SINGLE) */
+    private SummaryMode resolveMode(String key) {
+        try {
+            return SummaryMode.fromKey(key);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
 }
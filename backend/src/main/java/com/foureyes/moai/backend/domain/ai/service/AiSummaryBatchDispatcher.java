@@ -0,0 +1,170 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.internal.AiWorkScheduler;
+import com.foureyes.moai.backend.domain.ai.internal.SummaryJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 요약 작업을 워커에 나눠 넣음
+ * - 일괄 요청마다 동시에 워커에 올라가는 문서 수를 concurrency개로 제한 (20개를 한꺼번에 넣어 대기열을 채우지 않도록)
+ * - 한 문서가 끝나면(성공/실패) 다음 문서를 넣고, 워커 대기열이 꽉 차 있으면 잠시 후 다시 시도
+ * - 여유를 확인한 뒤 제출 사이에 대기열이 차면 해당 문서부터 다시 대기 목록 앞에 넣고 재시도 (FAILED 처리하지 않음)
+ * - 문서는 BULK 레인으로 넣어서 다른 사용자의 단건 요약보다 먼저 워커를 차지하지 않음
+ * - 진행 중인 일괄 요청은 메모리에만 있으므로 재시작 시 남은 문서는 워커의 재시작 처리로 FAILED가 됨
+ */
+@Slf4j
+@Component
+public class AiSummaryBatchDispatcher {
+
+    private static final long RETRY_DELAY_MS = 1_000;
+
+    private final AiSummaryWorker aiSummaryWorker;
+    private final AiProperties.Batch props;
+    private final Map<Integer, Run> runs = new ConcurrentHashMap<>();
+
+    private final Counter completed;
+    private final Counter failed;
+
+    public AiSummaryBatchDispatcher(AiSummaryWorker aiSummaryWorker, AiProperties aiProperties, MeterRegistry registry) {
+        this.aiSummaryWorker = aiSummaryWorker;
+        this.props = aiProperties.getBatch();
+
+        this.completed = results(registry, "done");
+        this.failed = results(registry, "failed");
+        Gauge.builder("ai.batch.active", runs, Map::size)
+            .description("진행 중인 일괄 요약 요청 수")
+            .register(registry);
+        Gauge.builder("ai.batch.pending", this, AiSummaryBatchDispatcher::pendingCount)
+            .description("워커에 아직 넣지 않은 일괄 요약 문서 수")
+            .register(registry);
+    }
+
+    /** 일괄 요청 1건의 남은 작업 */
+    private static final class Run {
+        final int batchId;
+        final Deque<SummaryJob> pending;
+        int inFlight;
+        boolean retryScheduled;
+
+        Run(int batchId, List<SummaryJob> jobs) {
+            this.batchId = batchId;
+            this.pending = new ArrayDeque<>(jobs);
+        }
+    }
+
+    /** 일괄 요청 시작 (요약본 레코드가 커밋된 뒤 호출) */
+    public void start(int batchId, List<SummaryJob> jobs) {
+        Run run = new Run(batchId, jobs);
+        runs.put(batchId, run);
+        log.info("AI 일괄 요약 시작: batchId={}, 문서 {}건", batchId, jobs.size());
+        fill(run);
+    }
+
+    private void fill(Run run) {
+        List<SummaryJob> ready = new ArrayList<>();
+        boolean retry = false;
+        synchronized (run) {
+            while (run.inFlight < props.getConcurrency() && !run.pending.isEmpty()) {
+                if (!aiSummaryWorker.hasCapacity()) {
+                    retry = !run.retryScheduled;
+                    run.retryScheduled = true;
+                    break;
+                }
+                ready.add(run.pending.poll());
+                run.inFlight++;
+            }
+            if (run.pending.isEmpty() && run.inFlight == 0) {
+                runs.remove(run.batchId);
+                log.info("AI 일괄 요약 종료: batchId={}", run.batchId);
+            }
+        }
+
+        // 제출은 락 밖에서, 그 사이 다른 요청이 대기열을 채웠으면 남은 문서를 순서대로 되돌림
+        for (int i = 0; i < ready.size(); i++) {
+            if (aiSummaryWorker.trySubmit(ready.get(i), new Listener(run), AiWorkScheduler.Lane.BULK)) continue;
+            synchronized (run) {
+                for (int j = ready.size() - 1; j >= i; j--) {
+                    run.pending.addFirst(ready.get(j));
+                    run.inFlight--;
+                }
+                retry |= !run.retryScheduled;
+                run.retryScheduled = true;
+            }
+            log.info("AI 일괄 요약 대기열 초과로 재시도 예약: batchId={}, 문서 {}건", run.batchId, ready.size() - i);
+            break;
+        }
+        if (retry) {
+            CompletableFuture.delayedExecutor(RETRY_DELAY_MS, TimeUnit.MILLISECONDS).execute(() -> {
+                synchronized (run) {
+                    run.retryScheduled = false;
+                }
+                fill(run);
+            });
+        }
+    }
+
+    private void finished(Run run) {
+        synchronized (run) {
+            run.inFlight--;
+        }
+        fill(run);
+    }
+
+    private int pendingCount() {
+        int sum = 0;
+        for (Run run : runs.values()) {
+            synchronized (run) {
+                sum += run.pending.size();
+            }
+        }
+        return sum;
+    }
+
+    /** 문서 1건이 끝나면 다음 문서 투입 (항목 스트리밍은 필요 없음) */
+    private final class Listener implements SummaryStreamListener {
+
+        private final Run run;
+
+        Listener(Run run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean wantsItems() {
+            return false;
+        }
+
+        @Override
+        public void onComplete(int summaryId, int itemCount) {
+            completed.increment();
+            finished(run);
+        }
+
+        @Override
+        public void onError(int summaryId, String message) {
+            failed.increment();
+            finished(run);
+        }
+    }
+
+    private static Counter results(MeterRegistry registry, String result) {
+        return Counter.builder("ai.batch.summaries")
+            .description("일괄 요약 문서별 처리 결과")
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryItemJdbcRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryPayloadRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 항목 테이블 도입 전 요약본 백필 (ai_summary_payloads → ai_summary_items)
+ * - 기동 후 백그라운드 스레드 하나로 id 순서대로 batchSize개씩 처리, 배치 사이에 잠시 쉬어 DB 부하 분산
+ * - 요약본마다 짧은 트랜잭션이라 중간에 멈춰도 다음 기동 때 남은 것부터 이어서 처리
+ * - 백필 전에 상세 조회가 먼저 오면 AiServiceImpl이 그 요약본만 바로 펼쳐 저장
+ * - JSON 분리 마이그레이션(AiSummaryPayloadMigration)이 끝난 뒤 시작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummaryItemBackfill {
+
+    private final AiSummaryRepository aiSummaryRepository;
+    private final AiSummaryItemJdbcRepository aiSummaryItemJdbcRepository;
+    private final AiSummaryPayloadRepository aiSummaryPayloadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AiProperties aiProperties;
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!aiProperties.getItems().isBackfillEnabled()) return;
+        Thread.ofVirtual().name("ai-summary-item-backfill").start(this::run);
+    }
+
+    private void run() {
+        AiProperties.Items props = aiProperties.getItems();
+        int after = 0;
+        int summaries = 0;
+        long items = 0;
+        try {
+            while (true) {
+                List<Integer> ids = aiSummaryRepository.findIdsWithoutItems(after,
+                    PageRequest.of(0, props.getBackfillBatchSize()));
+                if (ids.isEmpty()) break;
+
+                for (int id : ids) {
+                    items += backfill(id);
+                }
+                summaries += ids.size();
+                after = ids.get(ids.size() - 1);
+                Thread.sleep(props.getBackfillPause().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("요약 항목 백필 중단: 마지막 summaryId={}", after, e);
+        }
+        if (summaries > 0) log.info("요약 항목 백필 완료: 요약본 {}건, 항목 {}건", summaries, items);
+    }
+
+    private int backfill(int summaryId) {
+        try {
+            Integer count = transactionTemplate.execute(tx -> aiSummaryPayloadRepository.findById(summaryId)
+                .map(p -> aiSummaryItemJdbcRepository.replaceAll(summaryId, p.getSummaryJson()))
+                .orElse(0));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            // 같은 요약본을 상세 조회가 먼저 펼친 경우 등 (uq_summary_item 충돌), 건너뛰고 계속
+            log.warn("요약 항목 백필 실패, 건너뜀: summaryId={}, {}", summaryId, e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryPayloadJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 요약 JSON 분리 마이그레이션 (ai_summaries.summary_json → ai_summary_payloads)
+ * - 기동 시 id 순서대로 BATCH_SIZE개씩 옮김 (범위마다 짧은 트랜잭션, 중단돼도 다음 기동 때 이어서)
+ * - 항목 백필(AiSummaryItemBackfill)이 payload를 읽으므로 그보다 먼저 실행
+ * - 옮기기 전에 상세 조회가 먼저 오면 그 요약본만 바로 옮김 (migrate)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummaryPayloadMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final AiSummaryPayloadJdbcRepository aiSummaryPayloadJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 분리 전 컬럼이 없거나 전부 옮겼으면 true (이후 단건 이동 생략)
+    private volatile boolean done;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAll() {
+        try {
+            if (!aiSummaryPayloadJdbcRepository.hasLegacyColumn()) {
+                done = true;
+                return;
+            }
+
+            long started = System.nanoTime();
+            int after = 0;
+            int moved = 0;
+            while (true) {
+                List<Integer> ids = aiSummaryPayloadJdbcRepository.findLegacyIds(after, BATCH_SIZE);
+                if (ids.isEmpty()) break;
+
+                int from = after;
+                int to = ids.get(ids.size() - 1);
+                Integer copied = transactionTemplate.execute(tx -> aiSummaryPayloadJdbcRepository.moveRange(from, to));
+                moved += copied != null ? copied : 0;
+                after = to;
+            }
+            done = true;
+            if (moved > 0) {
+                log.info("요약 JSON 분리 완료: {}건, {} ms", moved, (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (Exception e) {
+            log.error("요약 JSON 분리 중단 (다음 기동 때 이어서 진행)", e);
+        }
+    }
+
+    /** 아직 옮기지 않은 요약본 1건을 옮기고 JSON 반환 (호출 측 트랜잭션, 없으면 null) */
+    public JsonNode migrate(int summaryId) {
+        if (done) return null;
+        String raw = aiSummaryPayloadJdbcRepository.findLegacyJson(summaryId);
+        if (raw == null) return null;
+
+        aiSummaryPayloadJdbcRepository.moveRange(summaryId - 1, summaryId);
+        try {
+            return objectMapper.readTree(raw);
+        } catch (Exception e) {
+            log.warn("요약 JSON 파싱 실패: summaryId={}, {}", summaryId, e.getMessage());
+            return null;
+        }
+    }
+}
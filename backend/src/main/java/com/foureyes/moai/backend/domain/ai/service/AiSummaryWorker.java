@@ -0,0 +1,321 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.util.StorageService;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import com.foureyes.moai.backend.domain.ai.entity.AiSummary;
+import com.foureyes.moai.backend.domain.ai.entity.AiSummaryPayload;
+import com.foureyes.moai.backend.domain.ai.internal.*;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryItemJdbcRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryPayloadRepository;
+import com.foureyes.moai.backend.domain.ai.repository.AiSummaryRepository;
+import com.foureyes.moai.backend.domain.document.service.DocumentPageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 요약 비동기 워커
+ * - PDF 추출, LLM 호출, 파싱은 트랜잭션 밖에서 실행
+ * - 최종 결과 저장만 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiSummaryWorker {
+
+    private static final int ERROR_MESSAGE_MAX = 500;
+    private static final int WORKER_ID_MAX = 100;
+    private static final List<AiSummary.Status> ACTIVE = List.of(AiSummary.Status.QUEUED, AiSummary.Status.RUNNING);
+
+    private final AiSummaryRepository aiSummaryRepository;
+    private final AiSummaryItemJdbcRepository aiSummaryItemJdbcRepository;
+    private final AiSummaryPayloadRepository aiSummaryPayloadRepository;
+    private final StorageService storageService;
+
+    private final PdfTextExtractor pdfTextExtractor;
+    private final DocumentTextCache documentTextCache;
+    private final DocumentPageService documentPageService;
+    private final ParallelExtractor parallelExtractor;
+    private final PromptBuilder promptBuilder;
+    private final SummaryParser summaryParser;
+    private final AiClientRouter aiClientRouter;
+    private final ChunkedSummarizer chunkedSummarizer;
+    private final QuoteAnchorer quoteAnchorer;
+    private final SummaryResultCache summaryResultCache;
+    private final AiUsageService aiUsageService;
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+    private final AiWorkScheduler aiWorkScheduler;
+    private final AiProperties aiProperties;
+
+    private volatile String instanceId;
+
+    /** 요약본 worker_id에 기록할 이 인스턴스의 ID (ai.job.instance-id, 비어 있으면 호스트 이름) */
+    public String instanceId() {
+        String id = instanceId;
+        if (id == null) {
+            id = aiProperties.getJob().getInstanceId().trim();
+            if (id.isEmpty()) {
+                try {
+                    id = InetAddress.getLocalHost().getHostName();
+                } catch (UnknownHostException e) {
+                    id = "worker-" + UUID.randomUUID();
+                }
+            }
+            if (id.length() > WORKER_ID_MAX) id = id.substring(0, WORKER_ID_MAX);
+            instanceId = id;
+        }
+        return id;
+    }
+
+    /** 대기열에 여유가 있는지 (요청 단계에서 503 판단용) */
+    public boolean hasCapacity() {
+        return aiWorkScheduler.hasCapacity();
+    }
+
+    /** 작업 제출 (요약본 레코드가 커밋된 뒤 호출) */
+    public void submit(SummaryJob job) {
+        submit(job, SummaryStreamListener.NONE);
+    }
+
+    /** 작업 제출 + 진행 상황 콜백 (스트리밍 응답용, 레인은 작업 크기로 결정) */
+    public void submit(SummaryJob job, SummaryStreamListener listener) {
+        submit(job, listener, aiWorkScheduler.laneOf(job));
+    }
+
+    /** 레인을 지정해서 제출 (일괄 요청은 BULK), 대기열이 가득 차 있으면 바로 실패 처리 */
+    public void submit(SummaryJob job, SummaryStreamListener listener, AiWorkScheduler.Lane lane) {
+        if (!trySubmit(job, listener, lane)) {
+            log.warn("AI 요약 대기열 초과: summaryId={}", job.summaryId());
+            rejectQueueFull(job, listener);
+        }
+    }
+
+    /**
+     * 대기열이 가득 차 있으면 실패 처리 없이 false (일괄 요청처럼 나중에 다시 넣을 수 있는 호출 쪽용)
+     * - 등록된 뒤 워커 풀이 작업을 거부하면 그때는 실패 처리
+     */
+    public boolean trySubmit(SummaryJob job, SummaryStreamListener listener, AiWorkScheduler.Lane lane) {
+        AiWorkScheduler.Ticket ticket = new AiWorkScheduler.Ticket(
+            lane, job.studyId(), job.ownerId(), ModelOption.fromKey(job.modelType()).getProvider());
+        if (!aiWorkScheduler.submit(ticket, () -> run(job, listener), () -> rejectQueueFull(job, listener))) {
+            return false;
+        }
+        log.info("AI 요약 작업 등록: summaryId={}, lane={}, studyId={}", job.summaryId(), lane, job.studyId());
+        return true;
+    }
+
+    private void rejectQueueFull(SummaryJob job, SummaryStreamListener listener) {
+        String message = "요약 대기열이 가득 찼습니다.";
+        aiSummaryRepository.updateStatus(job.summaryId(), AiSummary.Status.FAILED, message, LocalDateTime.now());
+        listener.onError(job.summaryId(), message);
+    }
+
+    private void run(SummaryJob job, SummaryStreamListener listener) {
+        int summaryId = job.summaryId();
+        // 실행 중 삭제된 요약본이면 스킵
+        if (aiSummaryRepository.updateStatus(summaryId, AiSummary.Status.RUNNING, null, LocalDateTime.now()) == 0) {
+            log.info("AI 요약 작업 스킵(레코드 없음): summaryId={}", summaryId);
+            listener.onError(summaryId, "요약본이 삭제되었습니다.");
+            return;
+        }
+
+        AiUsage usage = new AiUsage();
+        try {
+            // ETag까지 확인해야 같은 버전의 문서인지 알 수 있으므로 결과 캐시 키 계산 전에 조회
+            List<Source> sources = parallelExtractor.extractAll(job.docs(), d ->
+                new Source(d, storageService.getDocumentETag(d.fileKey())));
+            String cacheKey = SummaryResultCache.key(
+                sources.stream().map(s -> new SummaryResultCache.DocVersion(s.doc().docId(), s.eTag())).toList(),
+                job.modelType(), job.promptType(), job.mode());
+
+            AtomicBoolean streamed = new AtomicBoolean(false);
+            JsonNode result = summaryResultCache.getOrCompute(cacheKey, () -> {
+                List<ChunkedSummarizer.DocText> texts = loadTexts(sources);
+                // 인용구 위치까지 확인한 결과를 캐시에 넣음
+                QuoteIndex quotes = quoteAnchorer.index(texts);
+                if (listener.wantsItems() && job.mode() != SummaryMode.CHUNKED) {
+                    streamed.set(true);
+                    return streamSingle(job, texts, listener, usage, quotes);
+                }
+                JsonNode computed = job.mode() == SummaryMode.CHUNKED
+                    ? summarizeChunked(job, texts, usage)
+                    : summarizeSingle(job, texts, usage);
+                quoteAnchorer.anchorAll(computed, quotes);
+                return computed;
+            });
+            complete(summaryId, result);
+
+            // 캐시 적중/청크 모드처럼 스트리밍하지 않은 결과는 완료 시점에 한꺼번에 전달
+            if (!streamed.get()) replay(result, listener);
+            listener.onComplete(summaryId, result.size());
+        } catch (Exception e) {
+            log.error("AI 요약 생성 실패: summaryId={}", summaryId, e);
+            String message = errorMessageOf(e);
+            aiSummaryRepository.updateStatus(summaryId, AiSummary.Status.FAILED, message, LocalDateTime.now());
+            listener.onError(summaryId, message);
+        } finally {
+            // 실패한 작업도 이미 호출한 만큼은 사용량에 포함 (캐시 적중이면 호출 0건이라 기록 없음)
+            aiUsageService.record(job.ownerId(), usage);
+        }
+    }
+
+    /** 토큰 예산에 맞춰 고른 페이지로 한 번의 호출로 요약 */
+    private JsonNode summarizeSingle(SummaryJob job, List<ChunkedSummarizer.DocText> texts, AiUsage usage) {
+        String prompt = buildSinglePrompt(job, texts);
+
+        String summaryJson = aiClientRouter
+            .generateJsonArray(job.modelType(), prompt, usage)
+            .block();
+        ParsedSummary parsed = summaryParser.parse(summaryJson, ModelOption.fromKey(job.modelType()));
+        log.info("AI 요약 파싱 결과: summaryId={}, {} items", job.summaryId(), parsed.items().size());
+
+        return parsed.json();
+    }
+
+    /**
+     * summarizeSingle의 스트리밍 버전
+     * - 객체 하나가 완성될 때마다 listener로 전달
+     * - 완성된 객체를 그대로 모아 저장 (전체 응답을 다시 파싱하지 않음, 잘린 뒷부분은 버림)
+     */
+    private JsonNode streamSingle(SummaryJob job, List<ChunkedSummarizer.DocText> texts,
+                                  SummaryStreamListener listener, AiUsage usage, QuoteIndex quotes) {
+        String prompt = buildSinglePrompt(job, texts);
+
+        JsonArrayStreamParser parser = new JsonArrayStreamParser();
+        ArrayNode items = objectMapper.createArrayNode();
+        aiClientRouter.streamJsonArray(job.modelType(), prompt, usage)
+            .doOnNext(delta -> {
+                for (String raw : parser.feed(delta)) {
+                    emitItem(raw, items, listener, quotes);
+                }
+            })
+            .blockLast();
+
+        if (parser.hasPartial()) {
+            log.warn("AI 스트리밍 응답이 객체 중간에서 끝남: summaryId={}", job.summaryId());
+        }
+        log.info("AI 스트리밍 요약 결과: summaryId={}, {} items", job.summaryId(), items.size());
+        return items;
+    }
+
+    private void emitItem(String raw, ArrayNode items, SummaryStreamListener listener, QuoteIndex quotes) {
+        try {
+            JsonNode node = objectMapper.readTree(raw);
+            if (node instanceof ObjectNode item) quoteAnchorer.anchor(item, quotes);
+            SummaryDto dto = objectMapper.treeToValue(node, SummaryDto.class);
+            items.add(node);
+            listener.onItem(dto);
+        } catch (Exception e) {
+            log.warn("AI 스트리밍 항목 파싱 실패, 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    private void replay(JsonNode result, SummaryStreamListener listener) throws Exception {
+        if (listener == SummaryStreamListener.NONE) return;
+        for (JsonNode node : result) {
+            listener.onItem(objectMapper.treeToValue(node, SummaryDto.class));
+        }
+    }
+
+    /** 모델 토큰 예산 안에서 문서별로 나눠 채운 프롬프트 */
+    private String buildSinglePrompt(SummaryJob job, List<ChunkedSummarizer.DocText> texts) {
+        return promptBuilder.buildMultiDocPrompt(texts, job.promptType(), ModelOption.fromKey(job.modelType()));
+    }
+
+    /** 전체 페이지를 청크로 나눠 요약 후 병합 */
+    private JsonNode summarizeChunked(SummaryJob job, List<ChunkedSummarizer.DocText> texts, AiUsage usage) {
+        List<SummaryDto> merged = chunkedSummarizer.summarize(texts, job.modelType(), job.promptType(), usage);
+        log.info("AI 청크 요약 병합 결과: summaryId={}, {} items", job.summaryId(), merged.size());
+
+        return objectMapper.valueToTree(merged);
+    }
+
+    /** 문서별 다운로드/추출은 병렬, 순서는 요청 순서 유지 */
+    private List<ChunkedSummarizer.DocText> loadTexts(List<Source> sources) throws Exception {
+        return parallelExtractor.extractAll(sources, s ->
+            new ChunkedSummarizer.DocText(s.doc().docId(), s.doc().title(), PageText.parseLabelled(loadText(s))));
+    }
+
+    /** 페이지 라벨 텍스트: 업로드 때 저장한 페이지 → 캐시 → B2에서 받아 추출 순 */
+    private String loadText(Source s) throws Exception {
+        SummaryJob.Doc d = s.doc();
+        Optional<List<PageText>> ingested = documentPageService.findIngestedPages(d.docId(), s.eTag());
+        if (ingested.isPresent() && !ingested.get().isEmpty()) {
+            return PageText.toLabelledText(ingested.get());
+        }
+        return documentTextCache.getOrLoad(d.fileKey(), s.eTag(), () -> {
+            try (InputStream in = storageService.openDocumentStream(d.fileKey())) {
+                return pdfTextExtractor.extractTextWithPages(in, d.displayName());
+            }
+        });
+    }
+
+    /** 요약 대상 문서 + 조회 시점의 ETag */
+    private record Source(SummaryJob.Doc doc, String eTag) {}
+
+    /** 최종 결과 저장 (짧은 트랜잭션, JSON/항목 테이블도 같이) */
+    private void complete(int summaryId, JsonNode summaryJson) {
+        transactionTemplate.executeWithoutResult(tx ->
+            aiSummaryRepository.findById(summaryId).ifPresent(summary -> {
+                aiSummaryPayloadRepository.save(new AiSummaryPayload(summaryId, summaryJson));
+                summary.setStatus(AiSummary.Status.DONE);
+                summary.setErrorMessage(null);
+                aiSummaryItemJdbcRepository.replaceAll(summaryId, summaryJson);
+            })
+        );
+        log.info("AI 요약 완료: summaryId={}", summaryId);
+    }
+
+    /**
+     * 재시작 시 이 인스턴스가 받았던 작업은 복구 불가하므로 실패 처리
+     * - 다른 인스턴스가 처리 중인 작업은 건드리지 않고, 임대가 끊긴 작업만 같이 정리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int count = aiSummaryRepository.updateStatusByWorker(instanceId(), ACTIVE,
+            AiSummary.Status.FAILED, "서버 재시작으로 작업이 중단되었습니다.", LocalDateTime.now());
+        if (count > 0) log.warn("중단된 AI 요약 작업 {}건 실패 처리: workerId={}", count, instanceId());
+        failAbandonedJobs();
+    }
+
+    /** 대기/실행 중 작업의 임대 연장 후, 임대가 끊긴 다른 인스턴스의 작업 정리 */
+    @Scheduled(initialDelayString = "${ai.job.heartbeat-interval:1m}", fixedDelayString = "${ai.job.heartbeat-interval:1m}")
+    public void heartbeat() {
+        aiSummaryRepository.touchByWorker(instanceId(), ACTIVE, LocalDateTime.now());
+        failAbandonedJobs();
+    }
+
+    private void failAbandonedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int count = aiSummaryRepository.updateStatusIfStale(ACTIVE,
+            now.minus(aiProperties.getJob().getLeaseTimeout()),
+            AiSummary.Status.FAILED, "작업을 처리하던 서버가 응답하지 않습니다.", now);
+        if (count > 0) log.warn("임대가 끊긴 AI 요약 작업 {}건 실패 처리", count);
+    }
+
+    private String errorMessageOf(Exception e) {
+        String msg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return msg.length() > ERROR_MESSAGE_MAX ? msg.substring(0, ERROR_MESSAGE_MAX) : msg;
+    }
+}
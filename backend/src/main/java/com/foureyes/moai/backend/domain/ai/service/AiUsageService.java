@@ -0,0 +1,68 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.exception.ErrorCode;
+import com.foureyes.moai.backend.commons.exception.RateLimitExceededException;
+import com.foureyes.moai.backend.domain.ai.entity.AiUsageDaily;
+import com.foureyes.moai.backend.domain.ai.internal.AiUsage;
+import com.foureyes.moai.backend.domain.ai.repository.AiUsageDailyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자별 일일 LLM 사용량 집계와 한도 확인
+ * - 기록: 요약 작업 종료 시 워커에서 호출 (실패해도 요약 결과에는 영향 없음)
+ * - 한도: 토큰 수 또는 추정 비용이 상한에 닿으면 다음 날 0시까지 429
+ */
+@Slf4j
+@Service
+public class AiUsageService {
+
+    private final AiUsageDailyRepository aiUsageDailyRepository;
+    private final AiProperties.Usage props;
+    private final ZoneId zone;
+
+    public AiUsageService(AiUsageDailyRepository aiUsageDailyRepository, AiProperties aiProperties) {
+        this.aiUsageDailyRepository = aiUsageDailyRepository;
+        this.props = aiProperties.getUsage();
+        this.zone = ZoneId.of(props.getZone());
+    }
+
+    /** 작업 1건의 사용량을 오늘 집계에 더함 (호출이 없었으면 생략) */
+    public void record(int userId, AiUsage usage) {
+        if (usage.calls() == 0) return;
+        try {
+            aiUsageDailyRepository.accumulate(userId, LocalDate.now(zone), usage.calls(),
+                usage.promptTokens(), usage.completionTokens(),
+                BigDecimal.valueOf(usage.costUsd()).setScale(6, RoundingMode.HALF_UP));
+        } catch (Exception e) {
+            log.warn("AI 사용량 집계 저장 실패: userId={}, err={}", userId, e.getMessage());
+        }
+    }
+
+    /** 오늘 사용량이 한도를 넘었으면 RateLimitExceededException (Retry-After = 다음 날 0시까지) */
+    public void checkDailyQuota(int userId) {
+        if (props.getDailyTokenQuota() <= 0 && props.getDailyCostQuotaUsd() <= 0) return;
+
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        AiUsageDaily today = aiUsageDailyRepository.findByUserIdAndUsageDate(userId, now.toLocalDate())
+            .orElse(null);
+        if (today == null) return;
+
+        long tokens = today.getPromptTokens() + today.getCompletionTokens();
+        boolean overTokens = props.getDailyTokenQuota() > 0 && tokens >= props.getDailyTokenQuota();
+        boolean overCost = props.getDailyCostQuotaUsd() > 0
+            && today.getCostUsd().doubleValue() >= props.getDailyCostQuotaUsd();
+        if (!overTokens && !overCost) return;
+
+        long untilMidnight = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(zone)).getSeconds();
+        throw new RateLimitExceededException(ErrorCode.AI_DAILY_QUOTA_EXCEEDED, Math.max(1L, untilMidnight));
+    }
+}
@@ -0,0 +1,34 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import com.foureyes.moai.backend.domain.ai.dto.response.CreateAiSummaryResponse;
+
+/**
+ * 요약 진행 상황 콜백 (SSE 등 스트리밍 응답용)
+ * - 워커 스레드에서 호출되므로 구현체는 전송 실패를 직접 처리해야 함
+ */
+public interface SummaryStreamListener {
+
+    /** 스트리밍이 필요 없는 일반 요청용 */
+    SummaryStreamListener NONE = new SummaryStreamListener() {
+        @Override
+        public boolean wantsItems() {
+            return false;
+        }
+    };
+
+    /** 항목을 생성되는 대로 받을지 (false면 워커가 스트리밍 호출을 쓰지 않음) */
+    default boolean wantsItems() {
+        return true;
+    }
+
+    /** 요약본 레코드가 커밋된 직후 (워커 등록 전) */
+    default void onCreated(CreateAiSummaryResponse created) {}
+
+    /** 요약 항목 1건 완성 */
+    default void onItem(SummaryDto item) {}
+
+    default void onComplete(int summaryId, int itemCount) {}
+
+    default void onError(int summaryId, String message) {}
+}
@@ -9,9 +9,11 @@ import com.foureyes.moai.backend.domain.document.dto.request.CreateDocumentReque
 import com.foureyes.moai.backend.domain.document.dto.request.EditCategoryRequest;
 import com.foureyes.moai.backend.domain.document.dto.request.EditDocumentRequest;
 import com.foureyes.moai.backend.domain.document.dto.response.DocumentListItemDto;
+import com.foureyes.moai.backend.domain.document.dto.response.DocumentPagesResponse;
 import com.foureyes.moai.backend.domain.document.dto.response.DocumentResponseDto;
 import com.foureyes.moai.backend.domain.document.dto.response.PresignedUrlResponse;
 import com.foureyes.moai.backend.domain.document.service.CategoryService;
+import com.foureyes.moai.backend.domain.document.service.DocumentPageService;
 import com.foureyes.moai.backend.domain.document.service.DocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -38,6 +40,7 @@ public class DocumentController {
     private final DocumentService documentService;
     private final StorageService storageService;
     private final CategoryService categoryService;
+    private final DocumentPageService documentPageService;
 
     private int extractUserIdFromToken(String bearerToken) {
         String token = bearerToken.replaceFirst("^Bearer ", "").trim();
@@ -95,6 +98,23 @@ public class DocumentController {
         return ResponseEntity.ok(new PresignedUrlResponse(url));
     }
 
+    @Operation(
+        summary = "문서 페이지 텍스트 미리보기",
+        description = "업로드 시 미리 추출해 둔 페이지 텍스트를 범위로 조회합니다. (최대 50페이지, 수집 전이면 빈 목록)",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/pages/{id}")
+    public ResponseEntity<DocumentPagesResponse> getPages(
+        @Parameter(hidden = true)
+        @RequestHeader("Authorization") String bearerToken,
+        @PathVariable int id,
+        @RequestParam(defaultValue = "1") int from,
+        @RequestParam(defaultValue = "10") int to
+    ) {
+        int userId = extractUserIdFromToken(bearerToken);
+        return ResponseEntity.ok(documentPageService.getPages(userId, id, from, to));
+    }
+
     @Operation(
         summary = "공부 자료 수정",
         description = "문서 접근 권한 확인 후 제목/설명/카테고리를 수정합니다.",
@@ -0,0 +1,12 @@
+package com.foureyes.moai.backend.domain.document.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DocumentKeyRow {
+    private int id;
+    private String fileKey;  // DB 컬럼 file_key
+    private boolean allowed; // 요청 사용자가 문서 스터디의 승인 멤버인지
+}
@@ -0,0 +1,34 @@
+package com.foureyes.moai.backend.domain.document.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentPagesResponse {
+
+    @Schema(description = "문서 ID")
+    private int documentId;
+
+    @Schema(description = "페이지 텍스트 수집 상태", allowableValues = {"PENDING", "RUNNING", "DONE", "FAILED"})
+    private String ingestStatus;
+
+    @Schema(description = "전체 페이지 수 (수집 전이면 null)")
+    private Integer pageCount;
+
+    @Schema(description = "요청 범위의 페이지 텍스트 (수집 전이면 빈 목록)")
+    private List<PageItem> pages;
+
+    @Getter
+    @AllArgsConstructor
+    public static class PageItem {
+        private int pageNo;
+        private String text;
+        private int charCount;
+    }
+}
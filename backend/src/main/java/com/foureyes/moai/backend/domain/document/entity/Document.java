@@ -36,9 +36,23 @@ public class Document {
     @Column(name = "file_key", nullable = false, length = 1024)
     private String fileKey;
 
+    // 페이지 텍스트 사전 추출 상태 (document_pages)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ingest_status", length = 20)
+    private IngestStatus ingestStatus;
+
+    // 추출에 사용한 원본 버전, 같으면 재추출 생략
+    @Column(name = "ingested_etag", length = 128)
+    private String ingestedETag;
+
+    @Column(name = "page_count")
+    private Integer pageCount;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private java.time.LocalDateTime createdAt;
 
     @Column(name = "updated_at", insertable = false, updatable = false)
     private java.time.LocalDateTime updatedAt;
+
+    public enum IngestStatus { PENDING, RUNNING, DONE, FAILED }
 }
@@ -0,0 +1,32 @@
+package com.foureyes.moai.backend.domain.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 업로드 후 미리 추출해 둔 페이지별 텍스트 (요약/검색/미리보기에서 PDF 재파싱 없이 사용)
+ */
+@Entity
+@Table(
+    name = "document_pages",
+    uniqueConstraints = @UniqueConstraint(name = "uq_document_page", columnNames = {"document_id", "page_no"})
+)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class DocumentPage {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "document_id", nullable = false)
+    private int documentId;
+
+    // 1부터 시작
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    @Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String text;
+
+    @Column(name = "char_count", nullable = false)
+    private int charCount;
+}
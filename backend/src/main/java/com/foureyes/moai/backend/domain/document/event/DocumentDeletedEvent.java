@@ -0,0 +1,6 @@
+package com.foureyes.moai.backend.domain.document.event;
+
+/**
+ * 문서 삭제 직전 발행 (삭제와 같은 트랜잭션, 연결 데이터가 아직 남아 있는 시점)
+ */
+public record DocumentDeletedEvent(int documentId, int studyId) {}
@@ -1,5 +1,6 @@
 package com.foureyes.moai.backend.domain.document.repository;
 
+import com.foureyes.moai.backend.domain.document.entity.Document;
 import com.foureyes.moai.backend.domain.document.entity.DocumentCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -16,6 +17,15 @@ public interface DocumentCategoryRepository extends JpaRepository<DocumentCatego
     // 카테고리에 연결된 모든 문서
     List<DocumentCategory> findByCategory_Id(int categoryId);
 
+    // 카테고리의 문서 엔티티 (문서마다 지연 로딩하지 않도록 한 번에)
+    @Query("""
+        select d from DocumentCategory dc
+        join dc.document d
+        where dc.category.id = :categoryId
+        order by d.id
+    """)
+    List<Document> findDocumentsByCategoryId(@Param("categoryId") int categoryId);
+
     // 중복 매핑 존재 여부 체크
     boolean existsByDocument_IdAndCategory_Id(int documentId, int categoryId);
 
@@ -0,0 +1,20 @@
+package com.foureyes.moai.backend.domain.document.repository;
+
+import com.foureyes.moai.backend.domain.document.entity.DocumentPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DocumentPageRepository extends JpaRepository<DocumentPage, Integer> {
+    List<DocumentPage> findByDocumentIdOrderByPageNo(int documentId);
+
+    List<DocumentPage> findByDocumentIdAndPageNoBetweenOrderByPageNo(int documentId, int fromPage, int toPage);
+
+    // 재수집/문서 삭제 시 기존 페이지 일괄 삭제 (호출 측 트랜잭션 안에서 실행)
+    @Modifying
+    @Query("delete from DocumentPage p where p.documentId = :documentId")
+    int deleteByDocumentId(@Param("documentId") int documentId);
+}
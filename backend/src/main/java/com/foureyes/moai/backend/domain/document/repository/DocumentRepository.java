@@ -1,13 +1,18 @@
 package com.foureyes.moai.backend.domain.document.repository;
 
+import com.foureyes.moai.backend.domain.document.dto.response.DocumentKeyRow;
 import com.foureyes.moai.backend.domain.document.dto.response.DocumentRow;
 import com.foureyes.moai.backend.domain.document.entity.Document;
+import com.foureyes.moai.backend.domain.study.entity.StudyMembership;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DocumentRepository extends JpaRepository<Document, Integer> {
@@ -32,4 +37,34 @@ public interface DocumentRepository extends JpaRepository<Document, Integer> {
                  d.updatedAt desc, d.createdAt desc
     """)
     List<DocumentRow> findListByStudyId(@Param("studyId") int studyId);
+
+    // 수집 워커에서 상태만 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Document d set d.ingestStatus = :status where d.id = :id")
+    int updateIngestStatus(@Param("id") int id, @Param("status") Document.IngestStatus status);
+
+    // 아직 수집되지 않은 문서 (컬럼 추가 전 문서는 null)
+    @Query("""
+        select d.id from Document d
+        where d.ingestStatus is null or d.ingestStatus in :statuses
+        order by d.id
+    """)
+    List<Integer> findIdsToIngest(@Param("statuses") Collection<Document.IngestStatus> statuses, Pageable pageable);
+
+    // 여러 문서의 fileKey + 멤버십 권한을 한 번에 (문서마다 findById + exists 하지 않도록)
+    @Query("""
+        select new com.foureyes.moai.backend.domain.document.dto.response.DocumentKeyRow(
+            d.id, d.fileKey,
+            case when exists (
+                select 1 from StudyMembership m
+                where m.userId = :userId and m.studyGroup.id = d.studyGroup.id and m.status = :status
+            ) then true else false end
+        )
+        from Document d
+        where d.id in :ids
+    """)
+    List<DocumentKeyRow> findKeysWithAccess(@Param("userId") int userId,
+                                            @Param("ids") Collection<Integer> ids,
+                                            @Param("status") StudyMembership.Status status);
 }
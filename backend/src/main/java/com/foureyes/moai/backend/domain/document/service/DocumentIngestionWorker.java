@@ -0,0 +1,140 @@
+package com.foureyes.moai.backend.domain.document.service;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.commons.util.StorageService;
+import com.foureyes.moai.backend.domain.ai.internal.PageText;
+import com.foureyes.moai.backend.domain.ai.internal.PdfTextExtractor;
+import com.foureyes.moai.backend.domain.document.entity.Document;
+import com.foureyes.moai.backend.domain.document.entity.DocumentPage;
+import com.foureyes.moai.backend.domain.document.repository.DocumentPageRepository;
+import com.foureyes.moai.backend.domain.document.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문서 페이지 텍스트 수집 워커
+ * - 업로드 커밋 후 B2에서 스트리밍으로 받아 페이지별 텍스트를 document_pages에 저장
+ * - 재수집은 멱등: 같은 ETag로 이미 DONE이면 건너뛰고, 다시 추출하면 기존 페이지를 지운 뒤 한 트랜잭션으로 교체
+ * - 대기열이 가득 차 못 넣은 문서는 PENDING으로 남고 다음 기동 시 다시 수집
+ */
+@Slf4j
+@Service
+public class DocumentIngestionWorker {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentPageRepository documentPageRepository;
+    private final StorageService storageService;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final AiProperties aiProperties;
+
+    // 같은 문서를 동시에 두 번 수집하지 않도록
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+    public DocumentIngestionWorker(DocumentRepository documentRepository,
+                                   DocumentPageRepository documentPageRepository,
+                                   StorageService storageService,
+                                   PdfTextExtractor pdfTextExtractor,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("documentIngestExecutor") ThreadPoolTaskExecutor executor,
+                                   AiProperties aiProperties) {
+        this.documentRepository = documentRepository;
+        this.documentPageRepository = documentPageRepository;
+        this.storageService = storageService;
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.aiProperties = aiProperties;
+    }
+
+    /** 수집 작업 제출 (문서 레코드가 커밋된 뒤 호출) */
+    public void submit(int documentId) {
+        if (!aiProperties.getIngestion().isEnabled()) return;
+        if (!inFlight.add(documentId)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    ingest(documentId);
+                } finally {
+                    inFlight.remove(documentId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(documentId);
+            log.warn("문서 수집 대기열 초과, 다음 기동 시 재시도: documentId={}", documentId);
+        }
+    }
+
+    private void ingest(int documentId) {
+        Document doc = documentRepository.findById(documentId).orElse(null);
+        if (doc == null) return;
+
+        try {
+            String eTag = storageService.getDocumentETag(doc.getFileKey());
+            if (doc.getIngestStatus() == Document.IngestStatus.DONE
+                && eTag != null && eTag.equals(doc.getIngestedETag())) {
+                log.info("문서 수집 스킵(같은 버전): documentId={}", documentId);
+                return;
+            }
+            documentRepository.updateIngestStatus(documentId, Document.IngestStatus.RUNNING);
+
+            List<PageText> pages;
+            try (InputStream in = storageService.openDocumentStream(doc.getFileKey())) {
+                pages = pdfTextExtractor.extractPages(in, doc.getTitle(), aiProperties.getExtraction().getMaxChars());
+            }
+            store(documentId, eTag, pages);
+            log.info("문서 수집 완료: documentId={}, pages={}", documentId, pages.size());
+        } catch (Exception e) {
+            log.error("문서 수집 실패: documentId={}", documentId, e);
+            documentRepository.updateIngestStatus(documentId, Document.IngestStatus.FAILED);
+        }
+    }
+
+    /** 기존 페이지 교체 + 상태 DONE (짧은 트랜잭션) */
+    private void store(int documentId, String eTag, List<PageText> pages) {
+        List<DocumentPage> rows = new ArrayList<>(pages.size());
+        for (PageText p : pages) {
+            rows.add(DocumentPage.builder()
+                .documentId(documentId)
+                .pageNo(p.pageNo())
+                .text(p.text())
+                .charCount(p.text().length())
+                .build());
+        }
+        transactionTemplate.executeWithoutResult(tx -> {
+            documentPageRepository.deleteByDocumentId(documentId);
+            documentPageRepository.saveAll(rows);
+            Document doc = documentRepository.findById(documentId)
+                .orElseThrow(() -> new IllegalStateException("수집 중 문서가 삭제되었습니다."));
+            doc.setIngestStatus(Document.IngestStatus.DONE);
+            doc.setIngestedETag(eTag);
+            doc.setPageCount(pages.size());
+        });
+    }
+
+    /** 기동 시 미수집/중단된 문서 재수집 (기존 문서 백필 포함, 대기열 크기만큼) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        if (!aiProperties.getIngestion().isEnabled()) return;
+        List<Integer> ids = documentRepository.findIdsToIngest(
+            List.of(Document.IngestStatus.PENDING, Document.IngestStatus.RUNNING),
+            PageRequest.of(0, aiProperties.getIngestion().getQueueCapacity()));
+        if (ids.isEmpty()) return;
+        log.info("미수집 문서 {}건 수집 재개", ids.size());
+        ids.forEach(this::submit);
+    }
+}
@@ -0,0 +1,74 @@
+package com.foureyes.moai.backend.domain.document.service;
+
+import com.foureyes.moai.backend.commons.exception.CustomException;
+import com.foureyes.moai.backend.commons.exception.ErrorCode;
+import com.foureyes.moai.backend.domain.ai.internal.PageText;
+import com.foureyes.moai.backend.domain.document.dto.response.DocumentPagesResponse;
+import com.foureyes.moai.backend.domain.document.entity.Document;
+import com.foureyes.moai.backend.domain.document.entity.DocumentPage;
+import com.foureyes.moai.backend.domain.document.repository.DocumentPageRepository;
+import com.foureyes.moai.backend.domain.document.repository.DocumentRepository;
+import com.foureyes.moai.backend.domain.study.entity.StudyMembership;
+import com.foureyes.moai.backend.domain.study.repository.StudyMembershipRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 미리 추출한 페이지 텍스트 조회
+ * - 요약 워커: 수집 완료 + 원본 버전(ETag)이 같을 때만 사용, 아니면 호출 측이 PDF에서 직접 추출
+ * - 미리보기: 페이지 범위 조회 (스터디 승인 멤버만)
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentPageService {
+
+    private static final int MAX_PREVIEW_PAGES = 50;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentPageRepository documentPageRepository;
+    private final StudyMembershipRepository studyMembershipRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<List<PageText>> findIngestedPages(int documentId, String eTag) {
+        Optional<Document> doc = documentRepository.findById(documentId);
+        if (doc.isEmpty() || doc.get().getIngestStatus() != Document.IngestStatus.DONE) return Optional.empty();
+        if (eTag != null && !eTag.equals(doc.get().getIngestedETag())) return Optional.empty();
+
+        return Optional.of(documentPageRepository.findByDocumentIdOrderByPageNo(documentId).stream()
+            .map(p -> new PageText(p.getPageNo(), p.getText()))
+            .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentPagesResponse getPages(int userId, int documentId, int fromPage, int toPage) {
+        Document doc = documentRepository.findById(documentId)
+            .orElseThrow(() -> new CustomException(ErrorCode.DOCUMENT_NOT_FOUND));
+
+        boolean hasAccess = studyMembershipRepository.existsByUserIdAndStudyGroup_IdAndStatus(
+            userId, doc.getStudyGroup().getId(), StudyMembership.Status.APPROVED);
+        if (!hasAccess) throw new CustomException(ErrorCode.FORBIDDEN_DOCUMENT_ACCESS);
+
+        int from = Math.max(1, fromPage);
+        int to = Math.min(Math.max(from, toPage), from + MAX_PREVIEW_PAGES - 1);
+        List<DocumentPagesResponse.PageItem> pages = doc.getIngestStatus() != Document.IngestStatus.DONE
+            ? List.of()
+            : documentPageRepository.findByDocumentIdAndPageNoBetweenOrderByPageNo(documentId, from, to).stream()
+                .map(DocumentPageService::toItem)
+                .toList();
+
+        return DocumentPagesResponse.builder()
+            .documentId(documentId)
+            .ingestStatus(doc.getIngestStatus() != null ? doc.getIngestStatus().name() : Document.IngestStatus.PENDING.name())
+            .pageCount(doc.getPageCount())
+            .pages(pages)
+            .build();
+    }
+
+    private static DocumentPagesResponse.PageItem toItem(DocumentPage p) {
+        return new DocumentPagesResponse.PageItem(p.getPageNo(), p.getText(), p.getCharCount());
+    }
+}
@@ -8,11 +8,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface DocumentService {
     DocumentResponseDto uploadDocument(int uploaderId, CreateDocumentRequest req) throws IOException;
     String getDocumentKeyIfAllowed(int userId, int documentId);
+    Map<Integer, String> getDocumentKeysIfAllowed(int userId, Collection<Integer> documentIds);
     void updateDocument(int userId, int documentId, EditDocumentRequest req);
     List<DocumentListItemDto> getDocuments(int userId, int studyId);
     void deleteDocument(int userId, int documentId);
@@ -3,6 +3,7 @@ package com.foureyes.moai.backend.domain.document.service;
 import com.foureyes.moai.backend.commons.exception.CustomException;
 import com.foureyes.moai.backend.commons.exception.ErrorCode;
 import com.foureyes.moai.backend.commons.util.StorageService;
+import com.foureyes.moai.backend.domain.document.dto.response.DocumentKeyRow;
 import com.foureyes.moai.backend.domain.document.dto.response.DocumentRow;
 import com.foureyes.moai.backend.domain.document.dto.request.CreateDocumentRequest;
 import com.foureyes.moai.backend.domain.document.dto.request.EditDocumentRequest;
@@ -11,25 +12,32 @@ import com.foureyes.moai.backend.domain.document.dto.response.DocumentResponseDt
 import com.foureyes.moai.backend.domain.document.entity.Category;
 import com.foureyes.moai.backend.domain.document.entity.Document;
 import com.foureyes.moai.backend.domain.document.entity.DocumentCategory;
+import com.foureyes.moai.backend.domain.document.event.DocumentDeletedEvent;
 import com.foureyes.moai.backend.domain.document.repository.CategoryRepository;
 import com.foureyes.moai.backend.domain.document.repository.DocumentCategoryRepository;
+import com.foureyes.moai.backend.domain.document.repository.DocumentPageRepository;
 import com.foureyes.moai.backend.domain.document.repository.DocumentRepository;
 import com.foureyes.moai.backend.domain.study.entity.StudyGroup;
 import com.foureyes.moai.backend.domain.study.entity.StudyMembership;
 import com.foureyes.moai.backend.domain.study.repository.StudyMembershipRepository;
 import com.foureyes.moai.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -44,6 +52,9 @@ public class DocumentServiceImpl implements DocumentService{
     private final UserRepository userRepository;
     private final StorageService storageService;
     private final StudyMembershipRepository studyMembershipRepository;
+    private final DocumentPageRepository documentPageRepository;
+    private final DocumentIngestionWorker documentIngestionWorker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -88,6 +99,7 @@ public class DocumentServiceImpl implements DocumentService{
             .title(req.getTitle().trim())
             .description(req.getDescription())
             .fileKey(storedKey)
+            .ingestStatus(Document.IngestStatus.PENDING)
             .build();
         Document saved = documentRepository.save(doc);
 
@@ -102,7 +114,16 @@ public class DocumentServiceImpl implements DocumentService{
             documentCategoryRepository.saveAll(links);
         }
 
-        // 6) 응답
+        // 6) 페이지 텍스트 수집은 커밋 이후 백그라운드로 (워커가 문서 레코드를 볼 수 있도록)
+        int documentId = saved.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                documentIngestionWorker.submit(documentId);
+            }
+        });
+
+        // 7) 응답
         return DocumentResponseDto.builder()
             .id(saved.getId())
             .studyId(studyId)
@@ -127,6 +148,27 @@ public class DocumentServiceImpl implements DocumentService{
         return doc.getFileKey(); // DB 컬럼 file_key
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, String> getDocumentKeysIfAllowed(int userId, Collection<Integer> documentIds) {
+        List<Integer> ids = documentIds.stream().distinct().toList();
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Integer, DocumentKeyRow> rows = documentRepository
+            .findKeysWithAccess(userId, ids, StudyMembership.Status.APPROVED).stream()
+            .collect(Collectors.toMap(DocumentKeyRow::getId, r -> r));
+
+        // 요청 순서 유지, 하나라도 없거나 권한이 없으면 단건 조회와 같은 예외
+        Map<Integer, String> keys = new LinkedHashMap<>();
+        for (int id : ids) {
+            DocumentKeyRow row = rows.get(id);
+            if (row == null) throw new CustomException(ErrorCode.DOCUMENT_NOT_FOUND);
+            if (!row.isAllowed()) throw new CustomException(ErrorCode.FORBIDDEN_DOCUMENT_ACCESS);
+            keys.put(id, row.getFileKey());
+        }
+        return keys;
+    }
+
     @Override
     @Transactional
     public void updateDocument(int userId, int documentId, EditDocumentRequest req) {
@@ -229,7 +271,11 @@ public class DocumentServiceImpl implements DocumentService{
             throw new CustomException(ErrorCode.FORBIDDEN_DOCUMENT_ACCESS);
         }
 
+        // 다른 도메인의 파생 데이터(사이드바 등) 정리용, 연결이 지워지기 전에 발행
+        eventPublisher.publishEvent(new DocumentDeletedEvent(doc.getId(), doc.getStudyGroup().getId()));
+
         documentCategoryRepository.deleteByDocument_Id(doc.getId());
+        documentPageRepository.deleteByDocumentId(doc.getId());
 
         storageService.deleteDocumentObject(doc.getFileKey());
 
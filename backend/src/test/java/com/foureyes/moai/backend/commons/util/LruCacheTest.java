@@ -0,0 +1,71 @@
+package com.foureyes.moai.backend.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    private final LruCache<String, String> cache = new LruCache<>(10, String::length);
+
+    @Test
+    void oversizedPutRemovesStaleValueAndItsWeight() {
+        cache.put("a", "12345");
+        cache.put("b", "123");
+
+        cache.put("a", "12345678901");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(3);
+        assertThat(cache.evictionCount()).isZero();
+    }
+
+    @Test
+    void oversizedPutForNewKeyLeavesCacheUntouched() {
+        cache.put("a", "12345");
+
+        cache.put("b", "12345678901");
+
+        assertThat(cache.get("a")).isEqualTo("12345");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.weight()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUntilWithinWeight() {
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.get("a");
+
+        cache.put("c", "1234");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("1234");
+        assertThat(cache.get("c")).isEqualTo("1234");
+        assertThat(cache.weight()).isEqualTo(8);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replacingValueAdjustsWeight() {
+        cache.put("a", "1234");
+        cache.put("a", "12");
+
+        assertThat(cache.weight()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsDroppedOnRead() throws InterruptedException {
+        LruCache<String, String> ttl = new LruCache<>(10, String::length, Duration.ofMillis(20));
+        ttl.put("a", "1234");
+        Thread.sleep(40);
+
+        assertThat(ttl.get("a")).isNull();
+        assertThat(ttl.weight()).isZero();
+        assertThat(ttl.size()).isZero();
+    }
+}
@@ -0,0 +1,204 @@
+package com.foureyes.moai.backend.domain.ai.entity;
+
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.type.SqlTypes;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요약 JSON 분리 전후 수정/삭제/목록 경로 비용 (Hibernate + H2 메모리 DB)
+ * - legacy: summary_json이 요약 테이블에 있던 구조 (엔티티를 읽을 때마다 JsonNode로 파싱, 수정 시 더티 체크도 트리 비교)
+ * - split: 현재 구조 (ai_summary_payloads로 분리, 삭제는 payload를 읽지 않고 bulk delete)
+ * - 요약 1건 = 항목 items개 JSON, 목록은 한 사용자의 요약 50건
+ * - 힙 할당량까지 보려면: mvn -Pbench test-compile exec:exec -Dbench=AiSummaryPayloadBenchmark -Dbench.opts="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiSummaryPayloadBenchmark {
+
+    private static final int OWNER = 1;
+    private static final int SUMMARIES = 50;
+
+    @Param({"16", "128"})
+    public int items;
+
+    private SessionFactory sessionFactory;
+    private JsonNode json;
+    private int editId;
+    private int deleteId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(LegacySummary.class)
+            .addAnnotatedClass(SplitSummary.class)
+            .addAnnotatedClass(SplitPayload.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setProperty("hibernate.show_sql", "false")
+            .buildSessionFactory();
+        json = summaryJson(items);
+        for (int i = 0; i < SUMMARIES; i++) {
+            editId = insertLegacy();
+            insertSplit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /** 삭제 벤치마크마다 지울 요약 1건 (측정 시간에 포함 안 됨) */
+    @Setup(Level.Invocation)
+    public void prepareDelete(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith("deleteLegacy")) deleteId = insertLegacy();
+        if (params.getBenchmark().endsWith("deleteSplit")) deleteId = insertSplit();
+    }
+
+    @Benchmark
+    public List<LegacySummary> listLegacy() {
+        return sessionFactory.fromTransaction(s -> s.createQuery(
+                "select x from LegacySummary x where x.ownerId = :owner order by x.createdAt desc", LegacySummary.class)
+            .setParameter("owner", OWNER).getResultList());
+    }
+
+    @Benchmark
+    public List<SplitSummary> listSplit() {
+        return sessionFactory.fromTransaction(s -> s.createQuery(
+                "select x from SplitSummary x where x.ownerId = :owner order by x.createdAt desc", SplitSummary.class)
+            .setParameter("owner", OWNER).getResultList());
+    }
+
+    @Benchmark
+    public void editLegacy() {
+        sessionFactory.inTransaction(s -> {
+            LegacySummary x = s.find(LegacySummary.class, editId);
+            x.title = "title " + System.nanoTime();
+        });
+    }
+
+    @Benchmark
+    public void editSplit() {
+        sessionFactory.inTransaction(s -> {
+            SplitSummary x = s.find(SplitSummary.class, editId);
+            x.title = "title " + System.nanoTime();
+        });
+    }
+
+    @Benchmark
+    public void deleteLegacy() {
+        sessionFactory.inTransaction(s -> s.remove(s.find(LegacySummary.class, deleteId)));
+    }
+
+    @Benchmark
+    public void deleteSplit() {
+        sessionFactory.inTransaction(s -> {
+            s.createMutationQuery("delete from SplitPayload p where p.summaryId = :id")
+                .setParameter("id", deleteId).executeUpdate();
+            s.remove(s.find(SplitSummary.class, deleteId));
+        });
+    }
+
+    private int insertLegacy() {
+        return sessionFactory.fromTransaction(s -> {
+            LegacySummary x = new LegacySummary();
+            x.ownerId = OWNER;
+            x.title = "운영체제 요약";
+            x.createdAt = LocalDateTime.now();
+            x.summaryJson = json;
+            s.persist(x);
+            return x.id;
+        });
+    }
+
+    private int insertSplit() {
+        return sessionFactory.fromTransaction(s -> {
+            SplitSummary x = new SplitSummary();
+            x.ownerId = OWNER;
+            x.title = "운영체제 요약";
+            x.createdAt = LocalDateTime.now();
+            s.persist(x);
+            SplitPayload p = new SplitPayload();
+            p.summaryId = x.id;
+            p.summaryJson = json;
+            s.persist(p);
+            return x.id;
+        });
+    }
+
+    private static JsonNode summaryJson(int count) {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode array = mapper.createArrayNode();
+        for (int i = 1; i <= count; i++) {
+            ObjectNode item = array.addObject();
+            item.put("summarySentence", "교착 상태는 네 가지 필요조건이 동시에 성립할 때 발생하며, 하나라도 깨면 예방할 수 있다. (" + i + ")");
+            item.put("originalQuote", "교착 상태는 상호 배제, 점유 대기, 비선점, 순환 대기 네 조건이 모두 성립할 때 발생한다.");
+            item.put("docsId", 1 + i % 3);
+            item.put("pageNumber", i);
+            item.put("quoteStart", 120);
+            item.put("quoteEnd", 164);
+            item.put("quoteMatch", "EXACT");
+        }
+        return array;
+    }
+
+    /** 분리 전 AiSummary 구조 */
+    @Entity(name = "LegacySummary")
+    @Table(name = "legacy_summaries")
+    public static class LegacySummary {
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        int id;
+        @Column(name = "owner_id")
+        int ownerId;
+        String title;
+        @Column(name = "created_at")
+        LocalDateTime createdAt;
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Column(name = "summary_json")
+        JsonNode summaryJson;
+    }
+
+    /** 현재 AiSummary 구조 (JSON 없음) */
+    @Entity(name = "SplitSummary")
+    @Table(name = "split_summaries")
+    public static class SplitSummary {
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        int id;
+        @Column(name = "owner_id")
+        int ownerId;
+        String title;
+        @Column(name = "created_at")
+        LocalDateTime createdAt;
+    }
+
+    /** 현재 AiSummaryPayload 구조 */
+    @Entity(name = "SplitPayload")
+    @Table(name = "split_summary_payloads")
+    public static class SplitPayload {
+        @Id
+        @Column(name = "summary_id")
+        int summaryId;
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Column(name = "summary_json")
+        JsonNode summaryJson;
+    }
+}
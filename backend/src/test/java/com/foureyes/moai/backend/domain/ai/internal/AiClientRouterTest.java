@@ -0,0 +1,150 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiClientRouterTest {
+
+    private static final ModelOption PRIMARY = ModelOption.GEMINI_20_FLASH;
+
+    private GeminiApiClient gemini;
+    private OpenAiApiClient openAi;
+    private SimpleMeterRegistry registry;
+    private AiProperties props;
+
+    @BeforeEach
+    void setUp() {
+        gemini = mock(GeminiApiClient.class);
+        openAi = mock(OpenAiApiClient.class);
+        registry = new SimpleMeterRegistry();
+        props = new AiProperties();
+        props.getResilience().setMaxRetries(0);
+        props.getResilience().setTimeout(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void emptyCompletionIsRecordedAsSuccessWithoutNpe() {
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(Mono.empty());
+
+        String result = router().generateJsonArray(PRIMARY.getModelId(), "prompt", new AiUsage()).block();
+
+        assertThat(result).isNull();
+        assertThat(calls(PRIMARY, "success")).isEqualTo(1.0);
+        assertThat(registry.find("ai.client.calls").tag("result", "failure").counter()).isNull();
+    }
+
+    @Test
+    void failoverCallsSecondaryOnceWithoutHedging() {
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(Mono.error(new IllegalStateException("primary")));
+        when(openAi.chatCompletions(anyString(), anyString(), anyString())).thenReturn(completion("[]"));
+
+        assertThat(router().generateJsonArray(PRIMARY.getModelId(), "prompt", null).block()).isEqualTo("[]");
+        verify(openAi, times(1)).chatCompletions(anyString(), any(), anyString());
+    }
+
+    @Test
+    void hedgedSecondaryIsNotCalledAgainByFailover() {
+        props.getResilience().getHedge().setEnabled(true);
+        props.getResilience().getHedge().setMinSamples(1);
+        props.getResilience().getHedge().setMinDelay(Duration.ofMillis(10));
+        AiClientRouter router = router();
+
+        // 지연 분위수 표본 1건
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(completion("[]"));
+        router.generateJsonArray(PRIMARY.getModelId(), "prompt", null).block();
+
+        // 주 모델은 느리게 실패, 헤징한 대응 모델은 바로 실패
+        when(gemini.generateContent(anyString(), anyString()))
+            .thenReturn(Mono.delay(Duration.ofMillis(200)).then(Mono.error(new IllegalStateException("primary"))));
+        when(openAi.chatCompletions(anyString(), anyString(), anyString()))
+            .thenReturn(Mono.error(new IllegalStateException("secondary")));
+
+        assertThatThrownBy(() -> router.generateJsonArray(PRIMARY.getModelId(), "prompt", null).block())
+            .isInstanceOf(RuntimeException.class);
+        verify(openAi, times(1)).chatCompletions(anyString(), any(), anyString());
+        assertThat(registry.get("ai.client.hedge").tag("result", "fired").counter().count()).isEqualTo(1.0);
+        assertThat(registry.find("ai.client.failover").counter()).isNull();
+    }
+
+    @Test
+    void fastPrimaryFailureStartsSecondaryWithoutWaitingForHedgeDelay() {
+        props.getResilience().getHedge().setEnabled(true);
+        props.getResilience().getHedge().setMinSamples(1);
+        props.getResilience().getHedge().setMinDelay(Duration.ofSeconds(3));
+        AiClientRouter router = router();
+
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(completion("[]"));
+        router.generateJsonArray(PRIMARY.getModelId(), "prompt", null).block();
+
+        // 주 모델은 바로 4xx, 헤징 지연(3초)을 기다리지 않고 대응 모델 호출
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(Mono.error(
+            WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null)));
+        when(openAi.chatCompletions(anyString(), anyString(), anyString())).thenReturn(completion("[{}]"));
+
+        long started = System.nanoTime();
+        assertThat(router.generateJsonArray(PRIMARY.getModelId(), "prompt", null).block()).isEqualTo("[{}]");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        verify(openAi, times(1)).chatCompletions(anyString(), any(), anyString());
+        assertThat(registry.get("ai.client.hedge").tag("result", "fired").counter().count()).isZero();
+    }
+
+    @Test
+    void retryBackoffDoesNotHoldBulkheadPermit() throws Exception {
+        props.getResilience().setMaxRetries(1);
+        props.getResilience().setRetryMinBackoff(Duration.ofMillis(600));
+        props.getResilience().setRetryMaxBackoff(Duration.ofMillis(600));
+        props.getBulkhead().setMaxConcurrentPerProvider(1);
+        AtomicInteger attempts = new AtomicInteger();
+        when(gemini.generateContent(anyString(), anyString())).thenReturn(Mono.defer(() -> attempts.getAndIncrement() == 0
+            ? Mono.error(WebClientResponseException.create(503, "Unavailable", HttpHeaders.EMPTY, new byte[0], null))
+            : completion("[]")));
+
+        CompletableFuture<String> result = router().generateJsonArray(PRIMARY.getModelId(), "prompt", null).toFuture();
+
+        // 첫 시도 실패 후 백오프(300~900ms) 중: 자리는 반납된 상태
+        Thread.sleep(150);
+        assertThat(attempts).hasValue(1);
+        assertThat(registry.get("ai.client.bulkhead.available").tag("provider", "GEMINI").gauge().value())
+            .isEqualTo(1.0);
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("[]");
+        assertThat(attempts).hasValue(2);
+    }
+
+    private AiClientRouter router() {
+        ModelResolver resolver = mock(ModelResolver.class);
+        when(resolver.resolveOption(anyString())).thenReturn(PRIMARY);
+        when(resolver.buildGeminiApiUrl(anyString())).thenReturn("gemini");
+        when(resolver.openAiCompletionsUrl()).thenReturn("openai");
+        LatencyTracker latencies = new LatencyTracker();
+        return new AiClientRouter(resolver, gemini, openAi, new ProviderBulkhead(props, registry),
+            new AiTelemetry(registry, latencies), latencies, props, registry);
+    }
+
+    private static Mono<AiCompletion> completion(String text) {
+        return Mono.fromSupplier(() -> new AiCompletion(text, null, false, 1_000L));
+    }
+
+    private double calls(ModelOption option, String result) {
+        return registry.get("ai.client.calls").tag("model", option.name()).tag("result", result).counter().count();
+    }
+}
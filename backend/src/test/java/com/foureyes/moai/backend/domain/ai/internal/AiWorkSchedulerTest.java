@@ -0,0 +1,174 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiWorkSchedulerTest {
+
+    private static final AiWorkScheduler.Lane I = AiWorkScheduler.Lane.INTERACTIVE;
+    private static final AiWorkScheduler.Lane B = AiWorkScheduler.Lane.BULK;
+
+    private AiProperties props;
+    private ManualExecutor executor;
+    private SimpleMeterRegistry registry;
+    private final List<String> started = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        props = new AiProperties();
+        props.getJob().setWorkers(1);
+        props.getJob().setQueueCapacity(100);
+        executor = new ManualExecutor();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void lanesAlternateByWeight() {
+        props.getScheduler().setInteractiveWeight(3);
+        props.getScheduler().setBulkWeight(1);
+        props.getScheduler().setReservedInteractiveWorkers(0);
+        AiWorkScheduler scheduler = scheduler();
+
+        // 워커 1개를 먼저 차지한 뒤 두 레인에 쌓음
+        submit(scheduler, "warm", I, 1, 1, AiProvider.GEMINI);
+        for (int i = 1; i <= 7; i++) submit(scheduler, "i" + i, I, 1, 1, AiProvider.GEMINI);
+        for (int i = 1; i <= 3; i++) submit(scheduler, "b" + i, B, 1, 1, AiProvider.GEMINI);
+        executor.runAll();
+
+        assertThat(started).containsExactly("warm", "i1", "i2", "i3", "b1", "i4", "i5", "i6", "b2", "i7", "b3");
+    }
+
+    @Test
+    void studiesAndUsersShareLaneByWeight() {
+        props.getScheduler().setStudyWeights(Map.of(10, 2));
+        AiWorkScheduler scheduler = scheduler();
+
+        submit(scheduler, "warm", I, 99, 1, AiProvider.GEMINI);
+        // 스터디 10(가중치 2)의 두 사용자, 스터디 20(가중치 1)
+        for (int i = 1; i <= 3; i++) submit(scheduler, "a" + i, I, 10, 1, AiProvider.GEMINI);
+        for (int i = 1; i <= 3; i++) submit(scheduler, "c" + i, I, 10, 2, AiProvider.GEMINI);
+        for (int i = 1; i <= 3; i++) submit(scheduler, "s" + i, I, 20, 3, AiProvider.GEMINI);
+        executor.runAll();
+
+        // 스터디 10 두 건(사용자 번갈아) → 스터디 20 한 건 순서
+        assertThat(started).containsExactly("warm", "a1", "c1", "s1", "a2", "c2", "s2", "a3", "c3", "s3");
+    }
+
+    @Test
+    void bulkLaneLeavesReservedWorkersForInteractive() {
+        props.getJob().setWorkers(3);
+        props.getScheduler().setReservedInteractiveWorkers(1);
+        AiWorkScheduler scheduler = scheduler();
+
+        for (int i = 1; i <= 4; i++) submit(scheduler, "b" + i, B, 1, 1, AiProvider.GEMINI);
+        assertThat(executor.pending()).isEqualTo(2);
+        assertThat(gauge("ai.scheduler.running", "lane", "bulk")).isEqualTo(2.0);
+        assertThat(gauge("ai.scheduler.queue.depth", "lane", "bulk")).isEqualTo(2.0);
+
+        // 남겨 둔 워커로 단건 요청은 바로 시작
+        submit(scheduler, "i1", I, 2, 2, AiProvider.GEMINI);
+        assertThat(executor.pending()).isEqualTo(3);
+
+        executor.runAll();
+        assertThat(started).containsExactly("b1", "b2", "i1", "b3", "b4");
+        assertThat(gauge("ai.scheduler.running", "lane", "bulk")).isZero();
+    }
+
+    @Test
+    void providerCapHoldsBackOnlyThatProvider() {
+        props.getJob().setWorkers(3);
+        props.getScheduler().setMaxConcurrentPerProvider(Map.of("gemini", 1));
+        AiWorkScheduler scheduler = scheduler();
+
+        submit(scheduler, "g1", I, 1, 1, AiProvider.GEMINI);
+        submit(scheduler, "g2", I, 1, 1, AiProvider.GEMINI);
+        submit(scheduler, "o1", I, 1, 1, AiProvider.OPENAI);
+
+        // g2는 공급자 상한에 막히고 같은 사용자의 뒤 작업(o1)이 먼저 시작
+        assertThat(executor.pending()).isEqualTo(2);
+        assertThat(gauge("ai.scheduler.provider.running", "provider", "GEMINI")).isEqualTo(1.0);
+        assertThat(gauge("ai.scheduler.provider.running", "provider", "OPENAI")).isEqualTo(1.0);
+
+        executor.runAll();
+        assertThat(started).containsExactly("g1", "o1", "g2");
+        assertThat(gauge("ai.scheduler.provider.running", "provider", "GEMINI")).isZero();
+    }
+
+    @Test
+    void fullQueueRefusesWithoutCallingRejected() {
+        props.getJob().setQueueCapacity(2);
+        AiWorkScheduler scheduler = scheduler();
+
+        assertThat(submit(scheduler, "run", I, 1, 1, AiProvider.GEMINI)).isTrue();
+        assertThat(submit(scheduler, "q1", I, 1, 1, AiProvider.GEMINI)).isTrue();
+        assertThat(submit(scheduler, "q2", I, 1, 1, AiProvider.GEMINI)).isTrue();
+        assertThat(scheduler.hasCapacity()).isFalse();
+        assertThat(submit(scheduler, "q3", I, 1, 1, AiProvider.GEMINI)).isFalse();
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void executorRejectionReleasesSlotAndCallsRejected() {
+        AiWorkScheduler scheduler = scheduler();
+        executor.rejectNext = true;
+
+        assertThat(submit(scheduler, "lost", I, 1, 1, AiProvider.GEMINI)).isTrue();
+        assertThat(rejected).containsExactly("lost");
+        assertThat(gauge("ai.scheduler.running", "lane", "interactive")).isZero();
+
+        // 자리가 풀렸으므로 다음 작업은 정상 실행
+        submit(scheduler, "next", I, 1, 1, AiProvider.GEMINI);
+        executor.runAll();
+        assertThat(started).containsExactly("next");
+    }
+
+    private AiWorkScheduler scheduler() {
+        return new AiWorkScheduler(executor, props, registry);
+    }
+
+    private boolean submit(AiWorkScheduler scheduler, String name, AiWorkScheduler.Lane lane,
+                           int studyId, int userId, AiProvider provider) {
+        return scheduler.submit(new AiWorkScheduler.Ticket(lane, studyId, userId, provider),
+            () -> started.add(name), () -> rejected.add(name));
+    }
+
+    private double gauge(String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).gauge().value();
+    }
+
+    /** 제출된 작업을 테스트가 직접 한 건씩 실행 (실행 순서가 곧 배정 순서) */
+    private static final class ManualExecutor implements TaskExecutor {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+        boolean rejectNext;
+
+        @Override
+        public void execute(Runnable task) {
+            if (rejectNext) {
+                rejectNext = false;
+                throw new TaskRejectedException("full");
+            }
+            tasks.addLast(task);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) tasks.pollFirst().run();
+        }
+    }
+}
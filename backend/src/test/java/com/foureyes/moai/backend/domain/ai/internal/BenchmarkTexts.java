@@ -0,0 +1,51 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+/** 벤치마크용 강의 자료풍 페이지 본문 (페이지마다 문장 순서를 바꿔 내용이 조금씩 다름) */
+final class BenchmarkTexts {
+
+    private static final String[] KO = {
+        "운영체제는 하드웨어 자원을 관리하고 응용 프로그램에 서비스를 제공하는 소프트웨어이다. ",
+        "프로세스는 실행 중인 프로그램이며 스레드는 프로세스 안에서 실행되는 흐름의 단위이다. ",
+        "교착 상태는 상호 배제, 점유 대기, 비선점, 순환 대기 네 조건이 모두 성립할 때 발생한다. ",
+        "은행원 알고리즘은 자원 할당 후에도 안전 상태가 유지되는 경우에만 요청을 승인한다. ",
+        "페이지 교체 알고리즘에는 FIFO, LRU, LFU, 최적(OPT) 방식이 있으며 2024년 기준 LRU 근사가 널리 쓰인다. ",
+        "문맥 교환 비용은 약 1~10μs로 캐시와 TLB 무효화가 큰 비중을 차지한다. "
+    };
+
+    private static final String[] EN = {
+        "An operating system manages hardware resources and provides services to applications. ",
+        "A process is a program in execution, and a thread is a unit of execution within a process. ",
+        "Deadlock occurs only when mutual exclusion, hold and wait, no preemption and circular wait all hold. ",
+        "The banker's algorithm grants a request only if the system remains in a safe state afterwards. ",
+        "Page replacement policies include FIFO, LRU, LFU and OPT; most kernels approximate LRU with clock bits. ",
+        "A context switch costs roughly 1 to 10 microseconds, dominated by cache and TLB effects. "
+    };
+
+    private BenchmarkTexts() {}
+
+    /** 약 2천 자 분량 한 페이지 */
+    static String page(String lang, int pageNo) {
+        String[] sentences = "ko".equals(lang) ? KO : EN;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 2_000; i++) {
+            sb.append(sentences[(i * 5 + pageNo) % sentences.length]);
+        }
+        return sb.toString();
+    }
+
+    /** 교착 상태 / 은행원 알고리즘 문장을 뺀 약 2천 자 페이지 (질의와 무관한 페이지) */
+    static String offTopicPage(String lang, int pageNo) {
+        String[] sentences = "ko".equals(lang) ? KO : EN;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 2_000; i++) {
+            int s = (i * 5 + pageNo) % sentences.length;
+            if (s != 2 && s != 3) sb.append(sentences[s]);
+        }
+        return sb.toString();
+    }
+
+    /** 질의 관련 문장 (은행원 알고리즘) */
+    static String topicSentence(String lang) {
+        return "ko".equals(lang) ? KO[3] : EN[3];
+    }
+}
@@ -0,0 +1,152 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ChunkedSummarizerTest {
+
+    private static final ModelOption MODEL = ModelOption.GPT_4O_MINI;
+    private static final String PROMPT = "핵심만 요약";
+
+    private AiProperties props;
+    private PromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        props = new AiProperties();
+        props.getChunked().setChunkTokens(1_000);
+        props.getChunked().setMaxChunkTokens(4_000);
+        props.getChunked().setMaxChunks(8);
+        promptBuilder = new PromptBuilder(props, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void chunksAreSizedByModelTokens() {
+        // 페이지당 약 300토큰, 20쪽 → chunkTokens(1000) 기준 여러 청크
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(List.of(doc(1, 20, 300)), MODEL, PROMPT);
+
+        assertThat(chunks).hasSizeBetween(5, 8);
+        for (ChunkedSummarizer.Chunk c : chunks) {
+            assertThat(tokens(c)).isLessThanOrEqualTo(1_000);
+        }
+        assertThat(pagesOf(chunks, 1)).isEqualTo(range(1, 20));
+    }
+
+    @Test
+    void shortDocsShareChunksToStayUnderCap() {
+        // 짧은 문서 20개: 문서마다 청크를 만들면 상한(8)을 넘음
+        List<ChunkedSummarizer.DocText> docs = new ArrayList<>();
+        for (int id = 1; id <= 20; id++) docs.add(doc(id, 2, 100));
+
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(docs, MODEL, PROMPT);
+
+        assertThat(chunks).hasSizeLessThanOrEqualTo(8);
+        assertThat(chunks.get(0).parts()).hasSizeGreaterThan(1);
+        for (int id = 1; id <= 20; id++) {
+            assertThat(pagesOf(chunks, id)).isEqualTo(range(1, 2));
+        }
+    }
+
+    @Test
+    void largeInputGrowsChunksBeforeDroppingPages() {
+        // 1000토큰 청크로는 24개가 필요하지만 크기를 키우면 상한 안에 전부 들어감
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(List.of(doc(1, 60, 400)), MODEL, PROMPT);
+
+        assertThat(chunks).hasSizeLessThanOrEqualTo(8);
+        assertThat(pagesOf(chunks, 1)).isEqualTo(range(1, 60));
+        for (ChunkedSummarizer.Chunk c : chunks) {
+            assertThat(tokens(c)).isLessThanOrEqualTo(4_000);
+        }
+    }
+
+    @Test
+    void overCapacityKeepsFairShareOfEachDoc() {
+        props.getChunked().setMaxChunks(2);
+        List<ChunkedSummarizer.DocText> docs = List.of(doc(1, 50, 400), doc(2, 50, 400), doc(3, 1, 100));
+
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(docs, MODEL, PROMPT);
+
+        assertThat(chunks).hasSizeLessThanOrEqualTo(2);
+        // 긴 두 문서는 앞 페이지부터 비슷한 분량, 짧은 문서는 전부
+        List<Integer> first = pagesOf(chunks, 1);
+        List<Integer> second = pagesOf(chunks, 2);
+        assertThat(first).isNotEmpty().startsWith(1);
+        assertThat(second).isNotEmpty().startsWith(1);
+        assertThat(Math.abs(first.size() - second.size())).isLessThanOrEqualTo(1);
+        assertThat(pagesOf(chunks, 3)).containsExactly(1);
+        for (ChunkedSummarizer.Chunk c : chunks) {
+            assertThat(tokens(c)).isLessThanOrEqualTo(4_000);
+        }
+    }
+
+    @Test
+    void oversizedPageIsClippedToChunk() {
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(List.of(doc(1, 1, 10_000)), MODEL, PROMPT);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(tokens(chunks.get(0))).isLessThanOrEqualTo(4_000);
+        assertThat(chunks.get(0).parts().get(0).pages().get(0).text()).isNotEmpty();
+    }
+
+    @Test
+    void modelContextLimitsChunkSize() {
+        props.getChunked().setChunkTokens(500_000);
+        props.getChunked().setMaxChunkTokens(500_000);
+
+        List<ChunkedSummarizer.Chunk> chunks = summarizer().split(List.of(doc(1, 100, 2_000)), MODEL, PROMPT);
+
+        int budget = promptBuilder.modelBudget(MODEL, 0);
+        assertThat(chunks).hasSizeGreaterThan(1);
+        for (ChunkedSummarizer.Chunk c : chunks) {
+            assertThat(tokens(c)).isLessThanOrEqualTo(budget);
+        }
+    }
+
+    private ChunkedSummarizer summarizer() {
+        return new ChunkedSummarizer(promptBuilder, mock(AiClientRouter.class), mock(SummaryParser.class), props);
+    }
+
+    /** 페이지마다 약 tokensPerPage 토큰인 영문 문서 (단어 하나 ≈ 1토큰) */
+    private static ChunkedSummarizer.DocText doc(int id, int pages, int tokensPerPage) {
+        List<PageText> list = new ArrayList<>();
+        for (int p = 1; p <= pages; p++) {
+            list.add(new PageText(p, "word ".repeat(tokensPerPage).trim()));
+        }
+        return new ChunkedSummarizer.DocText(id, "doc" + id + ".pdf", list);
+    }
+
+    /** 청크 본문(DOC 머리글 + 라벨 포함 페이지)의 추정 토큰 */
+    private int tokens(ChunkedSummarizer.Chunk c) {
+        int sum = 0;
+        for (ChunkedSummarizer.Part p : c.parts()) {
+            sum += MODEL.estimateTokens(promptBuilder.formatDocBlock(p.docId(), p.title(), ""));
+            for (int cost : PromptBuilder.pageCosts(p.pages(), MODEL.getTokenizer())) sum += cost;
+        }
+        return sum;
+    }
+
+    private static List<Integer> pagesOf(List<ChunkedSummarizer.Chunk> chunks, int docId) {
+        List<Integer> pages = new ArrayList<>();
+        for (ChunkedSummarizer.Chunk c : chunks) {
+            for (ChunkedSummarizer.Part p : c.parts()) {
+                if (p.docId() != docId) continue;
+                for (PageText page : p.pages()) pages.add(page.pageNo());
+            }
+        }
+        return pages;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = from; i <= to; i++) list.add(i);
+        return list;
+    }
+}
@@ -0,0 +1,50 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyTrackerTest {
+
+    private static final ModelOption MODEL = ModelOption.GEMINI_20_FLASH;
+
+    @Test
+    void percentileUsesSuccessesOnly() {
+        LatencyTracker tracker = new LatencyTracker();
+        for (int i = 1; i <= 10; i++) tracker.record(MODEL, i * 100L);
+        // 실패는 지연이 길어도 헤징 기준에 들어가지 않음
+        tracker.record(MODEL, false, 1_000_000L);
+
+        assertThat(tracker.percentile(MODEL, 0.9, 10)).contains(Duration.ofNanos(900));
+        assertThat(tracker.percentile(MODEL, 0.9, 11)).isEmpty();
+        assertThat(tracker.percentile(ModelOption.GPT_4O, 0.9, 0)).isEmpty();
+    }
+
+    @Test
+    void windowCombinesModelsAndSkipsOlderSamples() {
+        LatencyTracker tracker = new LatencyTracker();
+        tracker.record(MODEL, false, 5_000L);
+        long since = System.nanoTime();
+        tracker.record(MODEL, true, 100L);
+        tracker.record(MODEL, false, 9_000L);
+        tracker.record(ModelOption.GEMINI_20_FLASH_LITE, true, 300L);
+
+        LatencyTracker.Window w = tracker.window(
+            new ModelOption[]{MODEL, ModelOption.GEMINI_20_FLASH_LITE}, since, 0.95);
+
+        assertThat(w.calls()).isEqualTo(3);
+        assertThat(w.failures()).isEqualTo(1);
+        assertThat(w.percentileNanos()).isEqualTo(300L);
+    }
+
+    @Test
+    void ringKeepsMostRecentSamples() {
+        LatencyTracker tracker = new LatencyTracker();
+        for (int i = 0; i < 256; i++) tracker.record(MODEL, 1_000_000L);
+        for (int i = 0; i < 256; i++) tracker.record(MODEL, 10L);
+
+        assertThat(tracker.percentile(MODEL, 1.0, 1)).contains(Duration.ofNanos(10));
+    }
+}
@@ -0,0 +1,121 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 텍스트 추출 비용 (페이지당 영문 45줄, 약 3천 자, 업로드처럼 파일 스트림으로 읽음)
+ * - scanned: 페이지마다 압축 안 되는 이미지(약 120KB)를 넣어 파일 크기를 키움 (500쪽 ≈ 60MB)
+ * - legacy: 변경 전 방식 (힙에 전부 로드 + 페이지마다 getText 반복)
+ * - singlePass: 현재 extractPages (scratch file + 한 번 순회), budget: 문자 예산 20만 자로 조기 종료
+ * - 힙 할당량까지 보려면: mvn -Pbench test-compile exec:exec -Dbench=PdfTextExtractorBenchmark -Dbench.opts="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class PdfTextExtractorBenchmark {
+
+    private static final String LINE = "Virtual memory maps each process address space onto frames via page tables. ";
+
+    @Param({"100", "500"})
+    public int pages;
+
+    @Param({"false", "true"})
+    public boolean scanned;
+
+    private Path pdf;
+    private PdfTextExtractor extractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        ((Logger) LoggerFactory.getLogger(PdfTextExtractor.class)).setLevel(Level.WARN);
+        extractor = new PdfTextExtractor(new AiProperties());
+        pdf = Files.createTempFile("bench", ".pdf");
+        createPdf(pages, scanned, pdf);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(pdf);
+    }
+
+    @Benchmark
+    public String legacy() throws IOException {
+        StringBuilder fullText = new StringBuilder();
+        try (InputStream in = Files.newInputStream(pdf); PDDocument document = PDDocument.load(in)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            for (int pageNum = 1; pageNum <= document.getNumberOfPages(); pageNum++) {
+                stripper.setStartPage(pageNum);
+                stripper.setEndPage(pageNum);
+                fullText.append("--- Page ").append(pageNum).append(" --- ")
+                    .append(stripper.getText(document)).append(" ");
+            }
+        }
+        return fullText.toString();
+    }
+
+    @Benchmark
+    public List<PageText> singlePass() throws IOException {
+        try (InputStream in = Files.newInputStream(pdf)) {
+            return extractor.extractPages(in, "bench.pdf", Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public List<PageText> budget() throws IOException {
+        try (InputStream in = Files.newInputStream(pdf)) {
+            return extractor.extractPages(in, "bench.pdf", 200_000);
+        }
+    }
+
+    private static void createPdf(int pageCount, boolean scanned, Path target) throws IOException {
+        Random random = new Random(42);
+        try (PDDocument doc = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            for (int p = 1; p <= pageCount; p++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    if (scanned) {
+                        BufferedImage noise = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+                        for (int y = 0; y < 200; y++) {
+                            for (int x = 0; x < 200; x++) noise.setRGB(x, y, random.nextInt());
+                        }
+                        cs.drawImage(LosslessFactory.createFromImage(doc, noise), 40, 40, 200, 200);
+                    }
+                    cs.beginText();
+                    cs.setFont(PDType1Font.HELVETICA, 9);
+                    cs.setLeading(15);
+                    cs.newLineAtOffset(40, 750);
+                    for (int line = 1; line <= 45; line++) {
+                        cs.showText("p" + p + " l" + line + " " + LINE.substring(0, 40 + (p + line) % 30));
+                        cs.newLine();
+                    }
+                    cs.endText();
+                }
+            }
+            doc.save(target.toFile());
+        }
+    }
+}
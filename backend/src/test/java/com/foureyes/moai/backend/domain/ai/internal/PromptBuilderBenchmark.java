@@ -0,0 +1,57 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 호출 프롬프트 구성 비용 (문서 3개 × pages쪽, 페이지당 약 2천 자)
+ * - fair: 문서별 앞부분부터, retrieval: 질의 관련 페이지 위주로 예산 채움
+ * - 실행: mvn -Pbench test-compile exec:exec -Dbench=PromptBuilderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptBuilderBenchmark {
+
+    private static final String QUERY = "교착 상태 회피와 은행원 알고리즘 위주로 정리";
+
+    @Param({"30", "300"})
+    public int pages;
+
+    @Param({"false", "true"})
+    public boolean retrieval;
+
+    private PromptBuilder builder;
+    private List<ChunkedSummarizer.DocText> docs;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(PromptBuilder.class)).setLevel(Level.WARN);
+        AiProperties props = new AiProperties();
+        props.getRetrieval().setEnabled(retrieval);
+        builder = new PromptBuilder(props, new SimpleMeterRegistry());
+
+        docs = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            List<PageText> list = new ArrayList<>(pages);
+            for (int p = 1; p <= pages; p++) list.add(new PageText(p, BenchmarkTexts.page(id % 2 == 0 ? "en" : "ko", p)));
+            docs.add(new ChunkedSummarizer.DocText(id, "doc" + id + ".pdf", list));
+        }
+    }
+
+    @Benchmark
+    public String build() {
+        return builder.buildMultiDocPrompt(docs, QUERY, ModelOption.GPT_4O_MINI);
+    }
+}
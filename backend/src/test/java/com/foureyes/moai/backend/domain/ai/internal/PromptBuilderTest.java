@@ -0,0 +1,86 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptBuilderTest {
+
+    private static final Pattern LABEL = Pattern.compile("--- Page (\\d+) --- ");
+    private static final ModelOption MODEL = ModelOption.GEMINI_20_FLASH;
+    private static final String QUERY = "photosynthesis";
+
+    @Test
+    void sparseMatchFillsBudgetWithRemainingPagesInReadingOrder() {
+        // 10쪽 중 7쪽만 질의와 일치, 예산은 전체를 넣고도 남음
+        ChunkedSummarizer.DocText doc = sparseDoc(10, 7);
+        String prompt = builder(100_000).buildMultiDocPrompt(List.of(doc), QUERY, MODEL);
+
+        assertThat(pagesIn(prompt)).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(prompt).doesNotContain("[TRUNCATED]");
+    }
+
+    @Test
+    void sparseMatchKeepsRankedPageFirstWhenBudgetIsTight() {
+        // 4쪽 분량 예산: 일치한 7쪽이 먼저, 남은 자리는 앞 페이지부터
+        ChunkedSummarizer.DocText doc = sparseDoc(10, 7);
+        int pageCost = TokenEstimator.count(doc.pages().get(0).text(), MODEL.getTokenizer()) + 8;
+        int matchedCost = TokenEstimator.count(doc.pages().get(6).text(), MODEL.getTokenizer()) + 8;
+        String prompt = builder(matchedCost + 3 * pageCost + 50).buildMultiDocPrompt(List.of(doc), QUERY, MODEL);
+
+        assertThat(pagesIn(prompt)).containsExactly(1, 2, 3, 7);
+        assertThat(prompt).contains("[TRUNCATED]");
+    }
+
+    @Test
+    void unmatchedDocumentsStillGetTheirShareBeforeFiller() {
+        // 일치 문서의 나머지 페이지보다 일치 없는 문서의 앞 페이지가 먼저 들어감
+        ChunkedSummarizer.DocText sparse = sparseDoc(6, 4);
+        ChunkedSummarizer.DocText other = new ChunkedSummarizer.DocText(2, "other.pdf", pages(3, -1));
+        int pageCost = TokenEstimator.count(other.pages().get(0).text(), MODEL.getTokenizer()) + 8;
+        int matchedCost = TokenEstimator.count(sparse.pages().get(3).text(), MODEL.getTokenizer()) + 8;
+        String prompt = builder((matchedCost + 4 * pageCost + 50) / 2)
+            .buildMultiDocPrompt(List.of(sparse, other), QUERY, MODEL);
+
+        String sparseBlock = prompt.substring(prompt.indexOf("docsId: 1"), prompt.indexOf("docsId: 2"));
+        String otherBlock = prompt.substring(prompt.indexOf("docsId: 2"));
+        assertThat(pagesIn(sparseBlock)).containsExactly(1, 4);
+        assertThat(pagesIn(otherBlock)).containsExactly(1, 2, 3);
+    }
+
+    private static PromptBuilder builder(int tokensPerDoc) {
+        AiProperties props = new AiProperties();
+        props.getRetrieval().setEnabled(true);
+        props.getPrompt().setTokensPerDoc(tokensPerDoc);
+        props.getPrompt().setMaxContextTokens(tokensPerDoc * 4);
+        return new PromptBuilder(props, new SimpleMeterRegistry());
+    }
+
+    private static ChunkedSummarizer.DocText sparseDoc(int pageCount, int matchedPage) {
+        return new ChunkedSummarizer.DocText(1, "sparse.pdf", pages(pageCount, matchedPage));
+    }
+
+    private static List<PageText> pages(int count, int matchedPage) {
+        List<PageText> pages = new ArrayList<>();
+        for (int p = 1; p <= count; p++) {
+            String body = ("Chapter filler text about unrelated topics, page " + p + ". ").repeat(20);
+            if (p == matchedPage) body += "Photosynthesis converts light energy into chemical energy.";
+            pages.add(new PageText(p, body));
+        }
+        return pages;
+    }
+
+    private static List<Integer> pagesIn(String text) {
+        List<Integer> pages = new ArrayList<>();
+        Matcher m = LABEL.matcher(text);
+        while (m.find()) pages.add(Integer.parseInt(m.group(1)));
+        return pages;
+    }
+}
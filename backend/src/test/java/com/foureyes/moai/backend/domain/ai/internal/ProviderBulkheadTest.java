@@ -0,0 +1,107 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderBulkheadTest {
+
+    private SimpleMeterRegistry registry;
+    private ProviderBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        AiProperties props = new AiProperties();
+        props.getBulkhead().setMaxConcurrentPerProvider(1);
+        props.getBulkhead().setMaxWait(Duration.ofMillis(500));
+        registry = new SimpleMeterRegistry();
+        bulkhead = new ProviderBulkhead(props, registry);
+    }
+
+    @Test
+    void cancelWhileWaitingReturnsLateGrantedPermit() throws Exception {
+        Disposable holder = bulkhead.wrap(AiProvider.GEMINI, Mono.never()).subscribe();
+        assertThat(available()).isZero();
+
+        AtomicBoolean called = new AtomicBoolean(false);
+        Disposable waiter = bulkhead.wrap(AiProvider.GEMINI, Mono.fromRunnable(() -> called.set(true))).subscribe();
+        Thread.sleep(100);
+        waiter.dispose();
+
+        // 자리가 비면 대기 스레드가 받아 가지만 이미 취소됐으므로 곧바로 돌려줘야 함
+        holder.dispose();
+        awaitTrue(() -> available() == 1);
+        Thread.sleep(600);
+        assertThat(available()).isEqualTo(1);
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    void cancelRacingWithGrantNeverLeaks() throws Exception {
+        // 자리 반납과 대기 취소가 거의 동시에 일어나는 경우 (헤징 패자 취소, 타임아웃, SSE 연결 종료)
+        for (Mono<Long> call : List.of(Mono.delay(Duration.ofNanos(200_000)), Mono.just(1L))) {
+            Flux.range(0, 3000)
+                .flatMap(i -> bulkhead.wrap(AiProvider.GEMINI, call)
+                    .timeout(Duration.ofNanos(100_000L * (i % 7)))
+                    .onErrorResume(e -> Mono.empty()), 16)
+                .blockLast(Duration.ofSeconds(60));
+        }
+        awaitTrue(() -> available() == 1);
+        Thread.sleep(600);
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAfterMaxWaitWithoutLeaking() {
+        Disposable holder = bulkhead.wrap(AiProvider.OPENAI, Mono.never()).subscribe();
+
+        String result = bulkhead.wrap(AiProvider.OPENAI, Mono.just("called"))
+            .onErrorResume(e -> Mono.just(e.getClass().getSimpleName()))
+            .block(Duration.ofSeconds(5));
+        assertThat(result).isEqualTo("ProviderUnavailableException");
+        assertThat(registry.get("ai.client.bulkhead.rejected").tag("provider", "OPENAI").counter().count())
+            .isEqualTo(1.0);
+
+        holder.dispose();
+        assertThat(available(AiProvider.OPENAI)).isEqualTo(1);
+    }
+
+    @Test
+    void releasesOnceOnCancelSuccessAndError() {
+        Disposable running = bulkhead.wrap(AiProvider.GEMINI, Flux.never()).subscribe();
+        assertThat(available()).isZero();
+        running.dispose();
+        running.dispose();
+        assertThat(available()).isEqualTo(1);
+
+        assertThat(bulkhead.wrap(AiProvider.GEMINI, Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(bulkhead.wrap(AiProvider.GEMINI, Mono.error(new IllegalStateException()))
+            .onErrorResume(e -> Mono.empty()).block()).isNull();
+        assertThat(available()).isEqualTo(1);
+    }
+
+    private double available() {
+        return available(AiProvider.GEMINI);
+    }
+
+    private double available(AiProvider provider) {
+        return registry.get("ai.client.bulkhead.available").tag("provider", provider.name()).gauge().value();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) Thread.sleep(10);
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
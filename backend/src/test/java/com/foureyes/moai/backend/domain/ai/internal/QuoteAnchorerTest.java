@@ -0,0 +1,128 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuoteAnchorerTest {
+
+    private static final List<PageText> PAGES = List.of(
+        new PageText(1, "해시 테이블은 키를 해시 함수로 변환해 버킷에 저장한다. 충돌은 체이닝이나 개방 주소법으로 해결한다."),
+        new PageText(2, "이진 탐색 트리는 왼쪽 자식이 부모보다 작고 오른쪽 자식이 부모보다 크다."),
+        new PageText(3, "AVL 트리는 모든 노드에서 두 서브트리의 높이 차이가 1 이하인 균형 이진 탐색 트리이다.")
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry registry;
+    private QuoteAnchorer anchorer;
+    private QuoteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        anchorer = new QuoteAnchorer(new AiProperties(), objectMapper, registry);
+        index = anchorer.index(List.of(new ChunkedSummarizer.DocText(5, "ds.pdf", PAGES)));
+    }
+
+    @Test
+    void exactQuoteGetsOffsetsAndKeepsPage() {
+        ObjectNode item = item("왼쪽 자식이 부모보다 작고 오른쪽 자식이 부모보다 크다", 2);
+
+        assertThat(anchorer.anchor(item, index)).isTrue();
+        assertThat(item.get("quoteMatch").asText()).isEqualTo("EXACT");
+        assertThat(item.get("pageNumber").asInt()).isEqualTo(2);
+        assertThat(quoted(item, 2)).isEqualTo("왼쪽 자식이 부모보다 작고 오른쪽 자식이 부모보다 크다");
+        assertThat(counter("ai.summary.quote", "exact")).isEqualTo(1.0);
+        assertThat(registry.get("ai.summary.quote.page.corrected").counter().count()).isZero();
+    }
+
+    @Test
+    void fuzzyQuoteOnWrongPageIsCorrected() {
+        // 한 글자 다르고 페이지도 틀림 (실제 3쪽)
+        ObjectNode item = item("두 서브트리의 높이 차이가 1 이하인 균형 이진 검색 트리", 1);
+
+        assertThat(anchorer.anchor(item, index)).isTrue();
+        assertThat(item.get("quoteMatch").asText()).isEqualTo("FUZZY");
+        assertThat(item.get("pageNumber").asInt()).isEqualTo(3);
+        assertThat(quoted(item, 3)).startsWith("두 서브트리의 높이 차이가 1 이하인 균형 이진 탐색 트리");
+        assertThat(registry.get("ai.summary.quote.page.corrected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void snakeCasePageNumberIsCorrectedInPlace() {
+        ObjectNode item = objectMapper.createObjectNode();
+        item.put("summary_sentence", "요약");
+        item.put("original_quote", "충돌은 체이닝이나 개방 주소법으로 해결한다");
+        item.put("docs_id", 5);
+        item.put("page_number", "p.3");
+
+        assertThat(anchorer.anchor(item, index)).isTrue();
+        assertThat(item.has("pageNumber")).isFalse();
+        assertThat(item.get("page_number").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void missingQuoteOrDocumentIsNotFound() {
+        ObjectNode unknown = item("스택은 후입선출 구조이다", 1);
+        ObjectNode noDoc = item("해시 테이블은 키를 해시 함수로 변환해", 1);
+        noDoc.remove("docsId");
+
+        assertThat(anchorer.anchor(unknown, index)).isFalse();
+        assertThat(anchorer.anchor(noDoc, index)).isFalse();
+        for (ObjectNode item : List.of(unknown, noDoc)) {
+            assertThat(item.get("quoteMatch").asText()).isEqualTo("NOT_FOUND");
+            assertThat(item.has("quoteStart")).isFalse();
+            assertThat(item.get("pageNumber").asInt()).isEqualTo(1);
+        }
+        assertThat(counter("ai.summary.quote", "not_found")).isEqualTo(2.0);
+    }
+
+    @Test
+    void anchorAllSkipsNonObjectsAndDisabledIndex() {
+        ArrayNode items = objectMapper.createArrayNode();
+        items.add(item("해시 테이블은 키를 해시 함수로 변환해 버킷에 저장한다", 1));
+        items.add("문자열 항목");
+        anchorer.anchorAll(items, index);
+        assertThat(items.get(0).get("quoteMatch").asText()).isEqualTo("EXACT");
+
+        AiProperties disabled = new AiProperties();
+        disabled.getQuote().setEnabled(false);
+        QuoteAnchorer off = new QuoteAnchorer(disabled, objectMapper, new SimpleMeterRegistry());
+        assertThat(off.index(List.of(new ChunkedSummarizer.DocText(5, "ds.pdf", PAGES)))).isNull();
+        ObjectNode untouched = item("해시 테이블은", 1);
+        assertThat(off.anchor(untouched, null)).isFalse();
+        assertThat(untouched.has("quoteMatch")).isFalse();
+    }
+
+    private ObjectNode item(String quote, int page) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("summarySentence", "요약");
+        node.put("originalQuote", quote);
+        node.put("docsId", 5);
+        node.put("pageNumber", page);
+        return node;
+    }
+
+    /** quoteStart/quoteEnd가 페이지 원문 범위 안인지 확인하고 해당 구간 반환 */
+    private static String quoted(JsonNode item, int pageNo) {
+        String text = PAGES.get(pageNo - 1).text();
+        int start = item.get("quoteStart").asInt();
+        int end = item.get("quoteEnd").asInt();
+        assertThat(start).isBetween(0, text.length() - 1);
+        assertThat(end).isBetween(start + 1, text.length());
+        return text.substring(start, end);
+    }
+
+    private double counter(String name, String result) {
+        return registry.get(name).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,132 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuoteIndexTest {
+
+    private static final double MAX_ERROR_RATE = 0.15;
+
+    private static final List<PageText> PAGES = List.of(
+        new PageText(1, "운영체제는 하드웨어 자원을 관리하고\n응용 프로그램에 서비스를 제공하는 소프트웨어이다. "
+            + "커널은 운영체제의 핵심 부분으로 항상 메모리에 상주한다."),
+        new PageText(2, "프로세스는 실행 중인 프로그램을 말한다.   스레드는 프로세스 안에서 실행되는 흐름의 단위이다. "
+            + "Context switching saves the state of the “current” process."),
+        new PageText(3, "교착 상태는 두 개 이상의 프로세스가 서로의 자원을 기다리며 무한히 대기하는 상태이다. "
+            + "커널은 운영체제의 핵심 부분으로 항상 메모리에 상주한다.")
+    );
+
+    private final QuoteIndex index = QuoteIndex.build(List.of(new ChunkedSummarizer.DocText(10, "os.pdf", PAGES)));
+
+    @Test
+    void exactMatchReturnsOriginalOffsets() {
+        String quote = "스레드는 프로세스 안에서 실행되는 흐름의 단위이다.";
+        QuoteIndex.Match m = find(quote, 2);
+
+        assertThat(m.exact()).isTrue();
+        assertThat(m.pageNo()).isEqualTo(2);
+        // 끝 마침표는 말줄임표와 같이 장식으로 보고 뺌
+        assertThat(slice(m)).isEqualTo("스레드는 프로세스 안에서 실행되는 흐름의 단위이다");
+    }
+
+    @Test
+    void exactMatchIgnoresWhitespaceCaseQuotesAndDecoration() {
+        // 줄바꿈 → 공백, 대소문자, 굽은 따옴표, 앞뒤 따옴표/말줄임표는 정규화로 흡수
+        QuoteIndex.Match spaced = find("\"운영체제는 하드웨어 자원을 관리하고 응용 프로그램에...\"", 1);
+        assertThat(spaced.exact()).isTrue();
+        assertThat(slice(spaced)).isEqualTo("운영체제는 하드웨어 자원을 관리하고\n응용 프로그램에");
+
+        QuoteIndex.Match folded = find("context switching saves the state of the \"current\" process", 2);
+        assertThat(folded.exact()).isTrue();
+        assertThat(slice(folded)).isEqualTo("Context switching saves the state of the “current” process");
+    }
+
+    @Test
+    void fuzzyMatchToleratesSmallEdits() {
+        // 두 글자 바뀐 인용구
+        QuoteIndex.Match m = find("프로세스는 실행 중인 프로그램을 뜻한다.", 2);
+
+        assertThat(m.exact()).isFalse();
+        assertThat(m.pageNo()).isEqualTo(2);
+        assertThat(slice(m)).startsWith("프로세스는 실행 중인 프로그램을");
+    }
+
+    @Test
+    void wrongPageHintStillFindsQuoteOnActualPage() {
+        QuoteIndex.Match m = find("교착 상태는 두 개 이상의 프로세스가 서로의 자원을 기다리며", 1);
+
+        assertThat(m.exact()).isTrue();
+        assertThat(m.pageNo()).isEqualTo(3);
+    }
+
+    @Test
+    void repeatedQuotePrefersHintedPage() {
+        String quote = "커널은 운영체제의 핵심 부분으로 항상 메모리에 상주한다.";
+
+        assertThat(find(quote, 3).pageNo()).isEqualTo(3);
+        assertThat(find(quote, 1).pageNo()).isEqualTo(1);
+        // 힌트가 없으면 문서 앞쪽
+        assertThat(find(quote, null).pageNo()).isEqualTo(1);
+    }
+
+    @Test
+    void quoteSpanningPagesIsClippedToStartPage() {
+        // 1쪽 끝 + 2쪽 앞을 이어 붙인 인용구: 정확 일치는 없고, 근사 일치면 시작 페이지 안으로 자름
+        String quote = "항상 메모리에 상주한다. 프로세스는 실행 중인";
+        Optional<QuoteIndex.Match> match = index.find(10, quote, 1, 0.6);
+
+        assertThat(match).isPresent();
+        QuoteIndex.Match m = match.get();
+        assertThat(m.exact()).isFalse();
+        assertThat(m.pageNo()).isEqualTo(1);
+        assertThat(m.end()).isEqualTo(PAGES.get(0).text().length());
+        assertInBounds(m);
+    }
+
+    @Test
+    void noMatchReturnsEmpty() {
+        assertThat(index.find(10, "가상 메모리는 페이지 테이블로 주소를 변환한다.", 2, MAX_ERROR_RATE)).isEmpty();
+        // 없는 문서, 너무 짧은 인용구, null
+        assertThat(index.find(99, "스레드는 프로세스 안에서", 2, MAX_ERROR_RATE)).isEmpty();
+        assertThat(index.find(10, "\"스레\"", 2, MAX_ERROR_RATE)).isEmpty();
+        assertThat(index.find(10, null, 2, MAX_ERROR_RATE)).isEmpty();
+        // 근사 검색을 끄면 정확 일치만
+        assertThat(index.find(10, "프로세스는 실행 중인 프로그램을 뜻한다.", 2, 0)).isEmpty();
+    }
+
+    @Test
+    void offsetsStayWithinPageTextForEveryPrefixAndSuffix() {
+        // 페이지 첫 글자/마지막 글자에 걸친 인용구도 [0, 길이] 범위 안
+        for (PageText page : PAGES) {
+            String text = page.text().trim();
+            for (String quote : List.of(text.substring(0, 12), text.substring(text.length() - 12), text)) {
+                QuoteIndex.Match m = find(quote, page.pageNo());
+                assertThat(m.pageNo()).isEqualTo(page.pageNo());
+                assertInBounds(m);
+                // 끝의 마침표는 장식으로 보고 빼므로 일치 구간은 인용구 안에 들어감
+                assertThat(QuoteIndex.normalize(quote, null)).contains(QuoteIndex.normalize(slice(m), null));
+            }
+        }
+    }
+
+    private QuoteIndex.Match find(String quote, Integer pageHint) {
+        Optional<QuoteIndex.Match> match = index.find(10, quote, pageHint, MAX_ERROR_RATE);
+        assertThat(match).as("quote not found: %s", quote).isPresent();
+        assertInBounds(match.get());
+        return match.get();
+    }
+
+    private static void assertInBounds(QuoteIndex.Match m) {
+        int length = PAGES.get(m.pageNo() - 1).text().length();
+        assertThat(m.start()).isBetween(0, length - 1);
+        assertThat(m.end()).isBetween(m.start() + 1, length);
+    }
+
+    private static String slice(QuoteIndex.Match m) {
+        return PAGES.get(m.pageNo() - 1).text().substring(m.start(), m.end());
+    }
+}
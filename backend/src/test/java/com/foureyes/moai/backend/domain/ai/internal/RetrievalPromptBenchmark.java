@@ -0,0 +1,115 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 호출 요약: 예전 앞부분 자르기 vs 토큰 예산 채우기 (문서 3개 × pages쪽, 10쪽마다 질의 관련 페이지 1장)
+ * - clip: 변경 전 방식 (문서마다 라벨 붙인 본문 앞 1만2천 자 + [TRUNCATED])
+ * - fair: 검색 끔, 문서별 공정 몫만큼 앞 페이지부터 / bm25: 질의 관련 페이지 위주 (현재 기본값)
+ * - build: 프롬프트 구성만, endToEnd: 구성 + LLM 스텁(generateContent) 호출까지
+ * - 트라이얼이 끝나면 추정 프롬프트 토큰과 관련 문장 포함률을 출력
+ * - 스텁을 먼저 띄워야 함 (prefill을 주면 프롬프트 길이가 응답 지연에 반영됨)
+ *   java -cp loadtest/target/classes com.foureyes.moai.loadtest.StubServers --llm-ttfb=200ms --llm-prefill=50ms --llm-jitter=0
+ *   mvn -Pbench test-compile exec:exec -Dbench=RetrievalPromptBenchmark (스텁 주소: -Dbench.opts="-jvmArgsAppend -Dllm.stub=http://...")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class RetrievalPromptBenchmark {
+
+    private static final String QUERY = "교착 상태 회피와 은행원 알고리즘 위주로 정리";
+    private static final ModelOption MODEL = ModelOption.GEMINI_20_FLASH;
+    private static final int LEGACY_MAX_CHARS = 12_000;
+
+    @Param({"clip", "fair", "bm25"})
+    public String strategy;
+
+    @Param({"30", "300"})
+    public int pages;
+
+    private PromptBuilder builder;
+    private GeminiApiClient client;
+    private String url;
+    private List<ChunkedSummarizer.DocText> docs;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(PromptBuilder.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+        ((Logger) LoggerFactory.getLogger(GeminiApiClient.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+        AiProperties props = new AiProperties();
+        props.getRetrieval().setEnabled("bm25".equals(strategy));
+        props.getGms().setBaseUrl(System.getProperty("llm.stub", "http://localhost:18080/"));
+        builder = new PromptBuilder(props, new SimpleMeterRegistry());
+        url = new ModelResolver(props).buildGeminiApiUrl(MODEL.getModelId());
+        client = new GeminiApiClient(WebClient.create(), new ObjectMapper());
+        ReflectionTestUtils.setField(client, "geminiApiKey", "bench");
+
+        docs = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            String lang = id % 2 == 0 ? "en" : "ko";
+            List<PageText> list = new ArrayList<>(pages);
+            for (int p = 1; p <= pages; p++) {
+                list.add(new PageText(p, p % 10 == 3 ? BenchmarkTexts.page(lang, p) : BenchmarkTexts.offTopicPage(lang, p)));
+            }
+            docs.add(new ChunkedSummarizer.DocText(id, "doc" + id + ".pdf", list));
+        }
+    }
+
+    @TearDown
+    public void report(BenchmarkParams params) {
+        String prompt = prompt();
+        int inPrompt = 0, total = 0;
+        for (String lang : List.of("ko", "en")) {
+            String sentence = BenchmarkTexts.topicSentence(lang);
+            inPrompt += occurrences(prompt, sentence);
+            for (ChunkedSummarizer.DocText d : docs) {
+                for (PageText p : d.pages()) total += occurrences(p.text(), sentence);
+            }
+        }
+        System.out.printf("%n[%s] strategy=%s pages=%d promptTokens=%d promptChars=%d relevantCoverage=%d/%d (%.0f%%)%n",
+            params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1), strategy, pages,
+            MODEL.estimateTokens(prompt), prompt.length(), inPrompt, total, 100.0 * inPrompt / total);
+    }
+
+    @Benchmark
+    public String build() {
+        return prompt();
+    }
+
+    @Benchmark
+    public AiCompletion endToEnd() {
+        return client.generateContent(url, prompt()).block();
+    }
+
+    private String prompt() {
+        if (!"clip".equals(strategy)) return builder.buildMultiDocPrompt(docs, QUERY, MODEL);
+        List<String> blocks = new ArrayList<>(docs.size());
+        for (ChunkedSummarizer.DocText d : docs) {
+            String text = PageText.toLabelledText(d.pages());
+            if (text.length() > LEGACY_MAX_CHARS) text = text.substring(0, LEGACY_MAX_CHARS) + "\n... [TRUNCATED]";
+            blocks.add(builder.formatDocBlock(d.docId(), d.title(), text));
+        }
+        return builder.buildMultiDocPrompt(String.join("\n\n", blocks), QUERY);
+    }
+
+    private static int occurrences(String text, String sentence) {
+        int count = 0;
+        for (int i = text.indexOf(sentence); i >= 0; i = text.indexOf(sentence, i + sentence.length())) count++;
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foureyes.moai.backend.domain.ai.dto.SummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 응답(코드펜스로 감싼 JSON 배열) → 요약 항목 + 저장용 JSON 비용
+ * - legacy: 변경 전 경로 (펜스 replace 복사 → readValue로 DTO 목록 → readTree로 저장용 트리 한 번 더)
+ * - streaming: 현재 SummaryParser.parse (한 번 읽어서 둘 다 생성)
+ * - 힙 할당량까지 보려면: mvn -Pbench test-compile exec:exec -Dbench=SummaryParserBenchmark -Dbench.opts="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryParserBenchmark {
+
+    @Param({"8", "64"})
+    public int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SummaryParser parser;
+    private String response;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(SummaryParser.class)).setLevel(Level.WARN);
+        parser = new SummaryParser(objectMapper, new SimpleMeterRegistry());
+
+        ArrayNode array = objectMapper.createArrayNode();
+        for (int i = 1; i <= items; i++) {
+            ObjectNode item = array.addObject();
+            item.put("summarySentence", "교착 상태는 네 가지 필요조건이 동시에 성립할 때 발생하며, 하나라도 깨면 예방할 수 있다. (" + i + ")");
+            item.put("originalQuote", "교착 상태는 상호 배제, 점유 대기, 비선점, 순환 대기 네 조건이 모두 성립할 때 발생한다.");
+            item.put("docsId", 1 + i % 3);
+            item.put("pageNumber", i);
+        }
+        response = "```json\n" + array.toPrettyString() + "\n```";
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) throws Exception {
+        String json = response.trim()
+            .replace("```json", "")
+            .replace("```", "");
+        List<SummaryDto> list = objectMapper.readValue(json, new TypeReference<>() {});
+        JsonNode tree = objectMapper.readTree(json);
+        bh.consume(list);
+        bh.consume(tree);
+    }
+
+    @Benchmark
+    public ParsedSummary streaming() {
+        return parser.parse(response, ModelOption.GEMINI_20_FLASH);
+    }
+}
@@ -0,0 +1,51 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 추정 비용 (페이지 1쪽 분량, 약 2천 자)
+ * - 실제 BPE 토크나이저(jtokkit o200k_base)와 비교해 예산 계산에 쓸 만큼 싼지 확인
+ * - 실행: mvn -Pbench test-compile exec:exec -Dbench=TokenEstimatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenEstimatorBenchmark {
+
+    @Param({"en", "ko"})
+    public String lang;
+
+    private String page;
+    private int half;
+    private Encoding encoding;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkTexts.page(lang, 1);
+        encoding = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+        half = TokenEstimator.count(page, TokenEstimator.Tokenizer.O200K) / 2;
+    }
+
+    @Benchmark
+    public int estimate() {
+        return TokenEstimator.count(page, TokenEstimator.Tokenizer.O200K);
+    }
+
+    @Benchmark
+    public String clipHalf() {
+        return TokenEstimator.clip(page, half, TokenEstimator.Tokenizer.O200K);
+    }
+
+    @Benchmark
+    public int exactBpe() {
+        return encoding.countTokens(page);
+    }
+}
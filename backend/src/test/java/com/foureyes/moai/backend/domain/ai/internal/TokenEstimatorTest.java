@@ -0,0 +1,77 @@
+package com.foureyes.moai.backend.domain.ai.internal;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTest {
+
+    private static final TokenEstimator.Tokenizer O200K = TokenEstimator.Tokenizer.O200K;
+    private static final Encoding ENCODING = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+
+    /** 강의 자료에서 흔한 글 종류 (실제 o200k_base 토큰 수와 비교) */
+    static Stream<String> samples() {
+        return Stream.of(
+            // 영문 본문
+            "Photosynthesis converts light energy into chemical energy. In the light-dependent reactions, "
+                + "chlorophyll absorbs photons and water molecules are split, releasing oxygen as a by-product. "
+                + "The Calvin cycle then fixes carbon dioxide into three-carbon sugars using ATP and NADPH.",
+            // 한글 본문
+            "운영체제는 하드웨어 자원을 관리하고 응용 프로그램에 서비스를 제공하는 소프트웨어이다. "
+                + "프로세스는 실행 중인 프로그램을 말하며, 스레드는 프로세스 안에서 실행되는 흐름의 단위이다. "
+                + "교착 상태는 두 개 이상의 프로세스가 서로의 자원을 기다리며 무한히 대기하는 상태를 뜻한다.",
+            // 한영 혼용 + 숫자
+            "TCP 3-way handshake는 SYN, SYN-ACK, ACK 세 단계로 연결을 맺는다. 기본 MSS는 1460바이트이고 "
+                + "RTT가 120ms일 때 윈도 크기 65535바이트로 얻는 최대 처리량은 약 4.37Mbps이다.",
+            // 코드
+            "public int binarySearch(int[] arr, int key) {\n    int lo = 0, hi = arr.length - 1;\n"
+                + "    while (lo <= hi) {\n        int mid = (lo + hi) >>> 1;\n"
+                + "        if (arr[mid] < key) lo = mid + 1;\n        else if (arr[mid] > key) hi = mid - 1;\n"
+                + "        else return mid;\n    }\n    return -(lo + 1);\n}",
+            // 표/숫자 위주 페이지
+            "연도 | 매출(억 원) | 영업이익률\n2021 | 1,284 | 12.5%\n2022 | 1,531 | 14.1%\n"
+                + "2023 | 1,907 | 15.8%\n2024 | 2,260 | 17.3%",
+            // 한자/가나 섞인 문장
+            "情報処理の基本は、データを収集・整理・分析することである。漢字와 가나가 섞인 자료도 요약 대상이다."
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void estimateStaysNearActualO200kCount(String text) {
+        int actual = ENCODING.countTokens(text);
+        int estimate = TokenEstimator.count(text, O200K);
+
+        // 예산을 넘기지 않도록 조금 크게 잡되, 절반 가까이 버릴 만큼 크지는 않음
+        assertThat(estimate)
+            .as("actual=%d, estimate=%d: %s", actual, estimate, text)
+            .isBetween((int) Math.floor(actual * 0.9), (int) Math.ceil(actual * 1.4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void clippedPrefixFitsActualBudget(String text) {
+        int budget = ENCODING.countTokens(text) / 2;
+        String clipped = TokenEstimator.clip(text, budget, O200K);
+
+        assertThat(text).startsWith(clipped);
+        assertThat(clipped.length()).isLessThan(text.length());
+        assertThat(ENCODING.countTokens(clipped)).isLessThanOrEqualTo((int) Math.ceil(budget * 1.1));
+    }
+
+    @Test
+    void emptyAndShortInputs() {
+        assertThat(TokenEstimator.count(null, O200K)).isZero();
+        assertThat(TokenEstimator.count("", O200K)).isZero();
+        assertThat(TokenEstimator.count("hello", O200K)).isEqualTo(ENCODING.countTokens("hello"));
+        assertThat(TokenEstimator.clip("짧은 문장", 100, O200K)).isEqualTo("짧은 문장");
+        assertThat(TokenEstimator.clip(null, 100, O200K)).isEmpty();
+    }
+}
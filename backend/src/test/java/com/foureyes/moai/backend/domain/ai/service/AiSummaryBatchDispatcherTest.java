@@ -0,0 +1,117 @@
+package com.foureyes.moai.backend.domain.ai.service;
+
+import com.foureyes.moai.backend.commons.config.AiProperties;
+import com.foureyes.moai.backend.domain.ai.internal.AiWorkScheduler;
+import com.foureyes.moai.backend.domain.ai.internal.SummaryJob;
+import com.foureyes.moai.backend.domain.ai.internal.SummaryMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiSummaryBatchDispatcherTest {
+
+    private AiSummaryWorker worker;
+    private SimpleMeterRegistry registry;
+    private AiSummaryBatchDispatcher dispatcher;
+
+    // 워커가 받은 순서대로 (요약본 ID, 리스너)
+    private final List<Integer> accepted = Collections.synchronizedList(new ArrayList<>());
+    private final List<SummaryStreamListener> listeners = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        worker = mock(AiSummaryWorker.class);
+        when(worker.hasCapacity()).thenReturn(true);
+        AiProperties props = new AiProperties();
+        props.getBatch().setConcurrency(3);
+        registry = new SimpleMeterRegistry();
+        dispatcher = new AiSummaryBatchDispatcher(worker, props, registry);
+    }
+
+    @Test
+    void queueFilledBetweenCheckAndSubmitRequeuesInsteadOfFailing() throws Exception {
+        // 여유 확인은 통과했지만 제출 시점에는 두 번째 문서부터 대기열이 가득 참
+        AtomicInteger calls = new AtomicInteger();
+        when(worker.trySubmit(any(), any(), eq(AiWorkScheduler.Lane.BULK))).thenAnswer(inv -> {
+            int n = calls.incrementAndGet();
+            if (n == 2 || n == 3) return false;
+            accept(inv.getArgument(0), inv.getArgument(1));
+            return true;
+        });
+
+        dispatcher.start(7, jobs(1, 2, 3, 4));
+        assertThat(accepted).containsExactly(1);
+        assertThat(pending()).isEqualTo(3.0);
+
+        // 재시도 후 되돌린 문서가 원래 순서대로 들어감
+        awaitAccepted(3);
+        assertThat(accepted).containsExactly(1, 2, 3);
+        assertThat(pending()).isEqualTo(1.0);
+        verify(worker, never()).submit(any(), any(), any());
+
+        // 하나가 끝나면 마지막 문서 투입
+        listeners.get(0).onComplete(1, 5);
+        assertThat(accepted).containsExactly(1, 2, 3, 4);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void batchEndsAfterEveryDocumentFinishes() {
+        when(worker.trySubmit(any(), any(), eq(AiWorkScheduler.Lane.BULK))).thenAnswer(inv -> {
+            accept(inv.getArgument(0), inv.getArgument(1));
+            return true;
+        });
+
+        dispatcher.start(8, jobs(1, 2, 3, 4));
+        assertThat(accepted).containsExactly(1, 2, 3);
+        assertThat(active()).isEqualTo(1.0);
+
+        listeners.get(1).onError(2, "실패");
+        for (int i = 0; i < 4; i++) {
+            if (i != 1) listeners.get(i).onComplete(accepted.get(i), 1);
+        }
+        assertThat(accepted).containsExactly(1, 2, 3, 4);
+        assertThat(active()).isZero();
+        assertThat(registry.get("ai.batch.summaries").tag("result", "done").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("ai.batch.summaries").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private void accept(SummaryJob job, SummaryStreamListener listener) {
+        listeners.add(listener);
+        accepted.add(job.summaryId());
+    }
+
+    private void awaitAccepted(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (accepted.size() < count && System.currentTimeMillis() < deadline) Thread.sleep(20);
+    }
+
+    private double pending() {
+        return registry.get("ai.batch.pending").gauge().value();
+    }
+
+    private double active() {
+        return registry.get("ai.batch.active").gauge().value();
+    }
+
+    private static List<SummaryJob> jobs(int... summaryIds) {
+        List<SummaryJob> jobs = new ArrayList<>();
+        for (int id : summaryIds) {
+            jobs.add(new SummaryJob(id, 1, 1, List.of(), "gemini-2.0-flash", "", SummaryMode.SINGLE));
+        }
+        return jobs;
+    }
+}
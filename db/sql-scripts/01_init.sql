@@ -76,6 +76,9 @@ CREATE TABLE IF NOT EXISTS documents (
     title VARCHAR(255) NOT NULL,
     description TEXT,
     file_key VARCHAR(1024) NOT NULL,
+    ingest_status VARCHAR(20) DEFAULT 'PENDING', -- PENDING / RUNNING / DONE / FAILED
+    ingested_etag VARCHAR(128),
+    page_count INT,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -91,6 +94,20 @@ CREATE TABLE IF NOT EXISTS documents (
         ON UPDATE CASCADE ON DELETE RESTRICT
 )CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
 
+CREATE TABLE IF NOT EXISTS document_pages (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    document_id INT NOT NULL,
+    page_no INT NOT NULL,
+    text MEDIUMTEXT NOT NULL,
+    char_count INT NOT NULL,
+
+    CONSTRAINT uq_document_page UNIQUE (document_id, page_no),
+
+    CONSTRAINT fk_document_pages_document
+        FOREIGN KEY (document_id) REFERENCES documents (id)
+        ON UPDATE CASCADE ON DELETE CASCADE
+)CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
+
 CREATE TABLE IF NOT EXISTS document_categories (
     id INT AUTO_INCREMENT PRIMARY KEY,
     document_id INT NOT NULL,
@@ -111,6 +128,17 @@ CREATE TABLE IF NOT EXISTS document_categories (
         ON UPDATE CASCADE ON DELETE CASCADE
 )CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
 
+CREATE TABLE IF NOT EXISTS ai_summary_batches (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    owner_id INT NOT NULL,
+    category_id INT,
+    model_type VARCHAR(100),
+    prompt_type VARCHAR(100),
+    total INT NOT NULL,
+    created_at DATETIME,
+    FOREIGN KEY (owner_id) REFERENCES users(id)
+)CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
+
 CREATE TABLE IF NOT EXISTS ai_summaries (
     id INT AUTO_INCREMENT PRIMARY KEY,
     owner_id INT NOT NULL,
@@ -118,8 +146,16 @@ CREATE TABLE IF NOT EXISTS ai_summaries (
     description TEXT,
     model_type VARCHAR(100),
     prompt_type VARCHAR(100),
-    summary_json JSON,
+    model_selection VARCHAR(255), -- modelType=AUTO 요청의 선택 사유
+    status VARCHAR(20) NOT NULL DEFAULT 'DONE', -- QUEUED / RUNNING / DONE / FAILED
+    error_message VARCHAR(500),
+    batch_id INT,
+    worker_id VARCHAR(100), -- 작업을 받은 인스턴스 (재시작 시 자기 작업만 실패 처리)
     created_at DATETIME,
+    updated_at DATETIME, -- 상태 변경/임대 연장 시각
+    INDEX idx_summary_owner_created (owner_id, created_at, id),
+    INDEX idx_summary_batch (batch_id),
+    INDEX idx_summary_status_worker (status, worker_id),
     FOREIGN KEY (owner_id) REFERENCES users(id)
 )CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
 
@@ -130,3 +166,40 @@ CREATE TABLE IF NOT EXISTS ai_summary_documents (
     FOREIGN KEY (summary_id) REFERENCES ai_summaries(id),
     FOREIGN KEY (document_id) REFERENCES documents(id)
 )CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
+
+-- 요약 결과 JSON은 목록/수정/삭제 때 읽지 않도록 별도 테이블
+CREATE TABLE IF NOT EXISTS ai_summary_payloads (
+    summary_id INT PRIMARY KEY,
+    summary_json JSON,
+    FOREIGN KEY (summary_id) REFERENCES ai_summaries(id) ON DELETE CASCADE
+)CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
+
+CREATE TABLE IF NOT EXISTS ai_summary_items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    summary_id INT NOT NULL,
+    ordinal INT NOT NULL,
+    docs_id INT,
+    page_number INT,
+    sentence TEXT,
+    quote TEXT,
+    quote_start INT,
+    quote_end INT,
+    quote_match VARCHAR(20),
+    UNIQUE KEY uq_summary_item (summary_id, ordinal),
+    INDEX idx_summary_item_doc (summary_id, docs_id, ordinal),
+    INDEX idx_summary_item_doc_page (docs_id, page_number),
+    FOREIGN KEY (summary_id) REFERENCES ai_summaries(id) ON DELETE CASCADE
+)CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
+
+CREATE TABLE IF NOT EXISTS ai_usage_daily (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    usage_date DATE NOT NULL,
+    summary_count BIGINT NOT NULL DEFAULT 0,
+    call_count BIGINT NOT NULL DEFAULT 0,
+    prompt_tokens BIGINT NOT NULL DEFAULT 0,
+    completion_tokens BIGINT NOT NULL DEFAULT 0,
+    cost_usd DECIMAL(12, 6) NOT NULL DEFAULT 0,
+    CONSTRAINT uq_usage_user_date UNIQUE (user_id, usage_date),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+)CHARACTER SET 'utf8mb4' COLLATE 'utf8mb4_unicode_ci';
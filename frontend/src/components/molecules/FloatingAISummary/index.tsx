@@ -210,6 +210,7 @@ const FloatingAISummary: React.FC<FloatingAISummaryProps> = ({
               onChange={(e) => onModelChange(e.target.value)}
               className="px-2 py-1 border-transparent rounded text-xs bg-white focus:outline-none focus:ring-1 focus:ring-purple-500"
             >
+              <option value="AUTO">자동 선택</option>
               <option value="gpt-4o">GPT-4</option>
               <option value="gpt-4o-mini">GPT-4o Mini</option>
               <option value="gemini-2.0-flash">gemini-2.0-flash</option>
@@ -6,7 +6,10 @@ import thinkingImage from '@/assets/MoAI/thinking.png'
 const AISummaryList: React.FC<AISummaryListProps> = ({
   summaries = [],
   isLoading = false,
-  onSummaryClick
+  onSummaryClick,
+  hasMore = false,
+  isLoadingMore = false,
+  onLoadMore
 }) => {
   const displaySummaries = summaries
 
@@ -41,6 +44,18 @@ const AISummaryList: React.FC<AISummaryListProps> = ({
         ))}
       </div>
 
+      {/* 다음 페이지 */}
+      {hasMore && onLoadMore && (
+        <button
+          type="button"
+          onClick={onLoadMore}
+          disabled={isLoadingMore}
+          className="mt-4 w-full py-2 rounded-lg border border-gray-200 text-sm font-medium text-gray-600 hover:bg-gray-50 disabled:opacity-50"
+        >
+          {isLoadingMore ? '불러오는 중...' : '더 보기'}
+        </button>
+      )}
+
       {/* 요약본이 없을 때 */}
       {displaySummaries.length === 0 && (
         <div className="bg-white rounded-lg border border-gray-200 p-6 flex items-center justify-center" style={{ minHeight: '200px' }}>
@@ -4,4 +4,8 @@ export interface AISummaryListProps {
   summaries: AISummary[]
   isLoading?: boolean
   onSummaryClick?: (summaryId: number) => void
+  // 다음 페이지가 있으면 "더 보기" 버튼 표시
+  hasMore?: boolean
+  isLoadingMore?: boolean
+  onLoadMore?: () => void
 }
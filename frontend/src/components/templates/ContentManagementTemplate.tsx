@@ -4,6 +4,7 @@ import SearchBar from '../molecules/SearchBar'
 import ContentList from '../organisms/ContentList'
 import FloatingAISummary from '@/components/molecules/FloatingAISummary'
 import { useCreateAISummary } from '@/hooks/useAisummaries'
+import { waitForAiSummary } from '@/services/aiSummaryService'
 import type { Category, ContentItem } from '@/types/content'
 
 interface ContentManagementTemplateProps {
@@ -164,6 +165,15 @@ const ContentManagementTemplate: React.FC<ContentManagementTemplateProps> = ({
   // AI Summary 생성 훅
   const createAISummaryMutation = useCreateAISummary()
 
+  // 화면을 벗어나면 상태 조회 중단
+  const unmountedRef = useRef(false)
+  useEffect(() => {
+    unmountedRef.current = false
+    return () => {
+      unmountedRef.current = true
+    }
+  }, [])
+
   const handleModalSubmit = async (summaryData: {
     fileId: number[]
     title: string
@@ -172,8 +182,21 @@ const ContentManagementTemplate: React.FC<ContentManagementTemplateProps> = ({
     promptType: string
   }): Promise<void> => {
     try {
-      // API 호출
-      await createAISummaryMutation.mutateAsync(summaryData)
+      // API 호출 (202: 작업 접수만 됨, 결과는 상태 조회로 확인)
+      const created = await createAISummaryMutation.mutateAsync(summaryData)
+
+      const result = await waitForAiSummary(created.summary_id, {
+        isCancelled: () => unmountedRef.current,
+      })
+      if (unmountedRef.current) return
+
+      if (result.status === 'FAILED') {
+        alert(`AI 요약본 생성에 실패했습니다.${result.errorMessage ? `\n(${result.errorMessage})` : ''}`)
+        return
+      }
+      if (result.status !== 'DONE') {
+        alert('AI 요약본을 아직 생성하고 있습니다. 완료되면 목록에 표시됩니다.')
+      }
 
       // 성공 후 onAISummarySuccess 콜백 호출
       if (onAISummarySuccess) {
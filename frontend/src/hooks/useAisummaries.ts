@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { aiKeys } from './queryKeys'
 import * as aiSummaryService from '@/services/aiSummaryService'
 import type {
@@ -26,11 +26,15 @@ export const useAiSidebarList = (userId: number) => {
   })
 }
 
-// 대시보드용 AI 요약본 목록 조회 훅 추가
-export const useAiDashboardList = () => {
-  return useQuery({
-    queryKey: aiKeys.dashboard(),
-    queryFn: aiSummaryService.getDashboardSummaries,
+// 대시보드용 AI 요약본 목록 조회 훅 (nextCursor로 다음 페이지를 이어 받음)
+export const DASHBOARD_PAGE_SIZE = 4
+
+export const useAiDashboardList = (size: number = DASHBOARD_PAGE_SIZE) => {
+  return useInfiniteQuery({
+    queryKey: [...aiKeys.dashboard(), size],
+    queryFn: ({ pageParam }) => aiSummaryService.getDashboardSummaries({ cursor: pageParam, size }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     staleTime: 60 * 1000, // 60 seconds
     gcTime: 5 * 60 * 1000, // 5 minutes
   })
@@ -34,7 +34,13 @@ const DashboardPage: React.FC = () => {
   const deleteAccountMutation = useDeleteAccount()
 
   // AI 요약본 목록 조회 훅 사용
-  const { data: dashboardSummaries, isLoading: isSummaryLoading } = useAiDashboardList()
+  const {
+    data: dashboardSummaries,
+    isLoading: isSummaryLoading,
+    hasNextPage: hasMoreSummaries,
+    isFetchingNextPage: isFetchingMoreSummaries,
+    fetchNextPage: fetchMoreSummaries
+  } = useAiDashboardList()
 
   const [studies, setStudies] = useState<StudyItem[]>([])
   const [isLoading, setIsLoading] = useState(true)
@@ -220,10 +226,11 @@ const DashboardPage: React.FC = () => {
 
   // dashboardSummaries를 AISummary 타입으로 변환
   const convertedSummaries: AISummary[] = React.useMemo(() => {
-    if (!dashboardSummaries?.summaries) return []
+    if (!dashboardSummaries?.pages) return []
 
-    return dashboardSummaries.summaries
-      .slice(0, 4) // 최대 4개까지만 표시
+    // 받아 온 페이지를 순서대로 이어 붙임 (더 보기로 다음 페이지 요청)
+    return dashboardSummaries.pages
+      .flatMap(page => page.summaries)
       .map(summary => ({
         id: summary.summaryId,
         title: summary.title,
@@ -558,6 +565,9 @@ const DashboardPage: React.FC = () => {
                     summaries={convertedSummaries}
                     isLoading={isSummaryLoading}
                     onSummaryClick={handleSummaryClick}
+                    hasMore={hasMoreSummaries}
+                    isLoadingMore={isFetchingMoreSummaries}
+                    onLoadMore={() => fetchMoreSummaries()}
                   />
                 </div>
               </div>
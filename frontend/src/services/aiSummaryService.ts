@@ -7,7 +7,8 @@ import type {
   AiSummaryDashboardRes,
   AiSummaryEditReq,
   AiSummaryEditRes,
-  AiSummaryDeleteRes
+  AiSummaryDeleteRes,
+  AiSummaryStatusRes
 } from '@/types/aiSummary'
 
 // snake_case를 camelCase로 변환하는 유틸리티 함수
@@ -32,6 +33,30 @@ export const createAiSummary = async (data: AiSummaryCreateReq): Promise<AiSumma
   }
 }
 
+// AI 요약 작업 상태 조회
+export const getAiSummaryStatus = async (id: number): Promise<AiSummaryStatusRes> => {
+  const response = await api.get(`/ai/status/${id}`)
+  return toCamelCase(response.data)
+}
+
+// AI 요약 작업이 끝날 때까지(DONE/FAILED) 상태 조회 반복
+// - timeoutMs가 지나도 끝나지 않으면 마지막 상태(QUEUED/RUNNING) 반환
+// - isCancelled가 true를 돌려주면 조회를 멈추고 마지막 상태 반환 (화면 이탈 등)
+export const waitForAiSummary = async (
+  id: number,
+  options: { intervalMs?: number; timeoutMs?: number; isCancelled?: () => boolean } = {}
+): Promise<AiSummaryStatusRes> => {
+  const { intervalMs = 2000, timeoutMs = 5 * 60 * 1000, isCancelled } = options
+  const deadline = Date.now() + timeoutMs
+  let current = await getAiSummaryStatus(id)
+  while (current.status !== 'DONE' && current.status !== 'FAILED') {
+    if (Date.now() >= deadline || isCancelled?.()) break
+    await new Promise(resolve => setTimeout(resolve, intervalMs))
+    current = await getAiSummaryStatus(id)
+  }
+  return current
+}
+
 // 내 AI 요약 목록 조회
 export const getMySummaries = async (): Promise<AiSummaryListRes> => {
   try {
@@ -80,15 +105,17 @@ export const deleteAiSummary = async (id: number): Promise<AiSummaryDeleteRes> =
   }
 }
 
-// 대시보드용 AI 요약 목록 조회
-export const getDashboardSummaries = async (): Promise<AiSummaryDashboardRes> => {
+// 대시보드용 AI 요약 목록 조회 (커서 페이지네이션, 첫 페이지는 cursor 생략)
+export const getDashboardSummaries = async (
+  params: { cursor?: string; size?: number } = {}
+): Promise<AiSummaryDashboardRes> => {
   try {
-    const response = await api.get('/ai/dashboard')
+    const response = await api.get('/ai/dashboard', { params })
     return toCamelCase(response.data)
   } catch (error: any) {
     // 404 에러 시 빈 배열 반환
     if (error.response?.status === 404) {
-      return { summaries: [] }
+      return { summaries: [], nextCursor: null }
     }
     throw error
   }
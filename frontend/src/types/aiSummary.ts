@@ -21,6 +21,17 @@ export interface AiSummaryCreateRes {
   message: string
 }
 
+// 요약 생성은 202로 접수만 하고 작업은 비동기로 진행됨
+export type AiSummaryJobStatus = "QUEUED" | "RUNNING" | "DONE" | "FAILED"
+
+export interface AiSummaryStatusRes {
+  summaryId: number
+  status: AiSummaryJobStatus
+  errorMessage?: string | null
+  modelType?: string | null
+  modelSelection?: string | null
+}
+
 export interface AiSummaryListRes {
   summaries: AiSummary[]
 }
@@ -37,6 +48,7 @@ export interface AiSummaryDashboardRes {
     description: string
     createdAt: string
   }>
+  nextCursor?: string | null
 }
 
 export interface AiSummaryEditReq {
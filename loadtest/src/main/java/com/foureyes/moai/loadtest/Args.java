@@ -0,0 +1,47 @@
+package com.foureyes.moai.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형식 인자 (없으면 시스템 프로퍼티 loadtest.key, 그다음 기본값)
+ */
+public final class Args {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public Args(String[] args) {
+        for (String a : args) {
+            if (!a.startsWith("--")) throw new IllegalArgumentException("인자 형식은 --key=value: " + a);
+            int eq = a.indexOf('=');
+            if (eq < 0) values.put(a.substring(2), "true");
+            else values.put(a.substring(2, eq), a.substring(eq + 1));
+        }
+    }
+
+    public String get(String key, String def) {
+        String v = values.get(key);
+        if (v == null) v = System.getProperty("loadtest." + key);
+        return v != null ? v : def;
+    }
+
+    public int getInt(String key, int def) {
+        return Integer.parseInt(get(key, String.valueOf(def)));
+    }
+
+    public double getDouble(String key, double def) {
+        return Double.parseDouble(get(key, String.valueOf(def)));
+    }
+
+    /** 30s, 500ms, 2m 또는 밀리초 숫자 */
+    public Duration getDuration(String key, Duration def) {
+        String v = get(key, null);
+        if (v == null) return def;
+        v = v.trim();
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofMillis(Long.parseLong(v));
+    }
+}
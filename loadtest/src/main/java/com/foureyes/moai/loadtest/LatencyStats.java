@@ -0,0 +1,79 @@
+package com.foureyes.moai.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업(operation)별 지연 표본과 상태 코드 집계
+ * - 표본은 전부 보관 후 정렬해서 분위수 계산 (수십만 건 수준이면 충분)
+ */
+public final class LatencyStats {
+
+    private final Map<String, Op> ops = new ConcurrentHashMap<>();
+
+    public void record(String op, long nanos, int status) {
+        ops.computeIfAbsent(op, k -> new Op()).add(nanos, status);
+    }
+
+    public void clear() {
+        ops.clear();
+    }
+
+    /** 작업별 count / 오류 / 처리량 / p50 / p95 / p99 / max 표 */
+    public String report(double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %8s %7s %9s %9s %9s %9s %9s  %s%n",
+            "operation", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "status"));
+        for (Map.Entry<String, Op> e : new TreeMap<>(ops).entrySet()) {
+            Op op = e.getValue();
+            long[] sorted = op.sorted();
+            sb.append(String.format("%-22s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                e.getKey(), sorted.length, op.errors(), sorted.length / elapsedSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                op.statusCounts()));
+        }
+        return sb.toString();
+    }
+
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int i = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, i))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Op {
+        private long[] samples = new long[1024];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        synchronized void add(long nanos, int status) {
+            if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+            samples[count++] = nanos;
+            // 0 = 연결 실패/타임아웃
+            if (status == 0 || status >= 400) errors++;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+
+        synchronized String statusCounts() {
+            return statuses.toString();
+        }
+    }
+}
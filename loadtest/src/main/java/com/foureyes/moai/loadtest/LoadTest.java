@@ -0,0 +1,291 @@
+package com.foureyes.moai.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 백엔드 부하 테스트 드라이버 (closed-loop: 동시성 수만큼 워커가 응답을 받자마자 다음 요청)
+ *
+ * 시나리오 (--scenario=ai-create,ref-upload,session 처럼 여러 개면 워커를 나눠 맡김)
+ * - ai-create : POST /ai/create (--file-ids, --model), --ai-wait=true면 /ai/status 폴링으로 완료까지 측정
+ * - ref-upload: POST /ref/upload (--category-id, 생성한 PDF --pdf-pages 페이지)
+ * - session   : POST /study/{hashId}/session/open, join, GET participants (--hash-id), 종료 시 close 1회
+ * - ai-read   : GET /ai/dashboard, PATCH /ai/edit/{id}, GET /ai/status/{id} (--summary-id, 요약 JSON을 읽지 않는 경로)
+ *
+ * 인증: --token=... 또는 --email / --password 로 /users/login
+ * 결과: 워밍업(--warmup) 이후 --duration 동안 작업별 p50/p95/p99 지연과 처리량
+ */
+public final class LoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern SUMMARY_ID = Pattern.compile("\"summary_id\"\\s*:\\s*(\\d+)");
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"([A-Z]+)\"");
+
+    private final Args args;
+    private final String baseUrl;
+    private final HttpClient http;
+    private final LatencyStats stats = new LatencyStats();
+    private String authorization;
+
+    private LoadTest(Args args) {
+        this.args = args;
+        String base = args.get("base-url", "http://localhost:8080/api");
+        this.baseUrl = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(4, args.getInt("concurrency", 8))))
+            .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        new LoadTest(new Args(argv)).run();
+    }
+
+    private void run() throws Exception {
+        authorization = "Bearer " + token();
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : args.get("scenario", "ai-create").split(",")) {
+            scenarios.add(scenario(name.trim()));
+        }
+
+        int concurrency = args.getInt("concurrency", 8);
+        Duration warmup = args.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = args.getDuration("duration", Duration.ofSeconds(60));
+        long maxRequests = Long.parseLong(args.get("requests", "0"));
+
+        System.out.printf("target=%s scenarios=%s concurrency=%d warmup=%s duration=%s%n",
+            baseUrl, args.get("scenario", "ai-create"), concurrency, warmup, duration);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong issued = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        for (int w = 0; w < concurrency; w++) {
+            Scenario scenario = scenarios.get(w % scenarios.size());
+            workers.execute(() -> {
+                try {
+                    boolean measuring = false;
+                    while (System.nanoTime() < end) {
+                        if (!measuring && System.nanoTime() >= measureFrom) measuring = true;
+                        if (measuring && maxRequests > 0 && issued.incrementAndGet() > maxRequests) break;
+                        try {
+                            scenario.iterate(measuring ? stats : new LatencyStats());
+                        } catch (Exception e) {
+                            if (measuring) stats.record("error", 0, 0);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+
+        double elapsed = (Math.min(System.nanoTime(), end) - measureFrom) / 1e9;
+        for (Scenario s : scenarios) s.finish();
+        System.out.println();
+        System.out.print(stats.report(Math.max(elapsed, 1e-3)));
+        System.exit(0);
+    }
+
+    /** 워커가 반복 실행하는 요청 묶음 */
+    private interface Scenario {
+        void iterate(LatencyStats out) throws Exception;
+
+        default void finish() {}
+    }
+
+    private Scenario scenario(String name) {
+        return switch (name) {
+            case "ai-create" -> aiCreate();
+            case "ref-upload" -> refUpload();
+            case "session" -> session();
+            case "ai-read" -> aiRead();
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+        };
+    }
+
+    private Scenario aiCreate() {
+        String fileIds = required("file-ids");
+        String model = args.get("model", "gemini-2.0-flash-lite");
+        String mode = args.get("summary-mode", "SINGLE");
+        boolean wait = Boolean.parseBoolean(args.get("ai-wait", "false"));
+        Duration pollInterval = args.getDuration("poll-interval", Duration.ofMillis(250));
+        String body = """
+            {"fileId":[%s],"title":"loadtest","description":"loadtest","modelType":"%s",\
+            "promptType":"study-summary.v1","summaryMode":"%s"}""".formatted(fileIds, model, mode);
+
+        return out -> {
+            long t0 = System.nanoTime();
+            HttpResponse<String> res = send("ai/create", request("/ai/create")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)), out);
+            if (!wait || res == null || res.statusCode() != 202) return;
+
+            Matcher id = SUMMARY_ID.matcher(res.body());
+            if (!id.find()) return;
+            // 요청 수락부터 요약 완료(DONE/FAILED)까지
+            while (true) {
+                Thread.sleep(pollInterval.toMillis());
+                HttpResponse<String> st = http.send(request("/ai/status/" + id.group(1)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+                Matcher s = STATUS.matcher(st.body());
+                String status = s.find() ? s.group(1) : "";
+                if (status.equals("DONE") || status.equals("FAILED") || st.statusCode() >= 400) {
+                    out.record("ai/complete", System.nanoTime() - t0, status.equals("DONE") ? 200 : 500);
+                    return;
+                }
+            }
+        };
+    }
+
+    private Scenario refUpload() {
+        String categoryId = required("category-id");
+        byte[] pdf = SamplePdf.create(args.getInt("pdf-pages", 20), args.getInt("pdf-lines", 30));
+
+        return out -> {
+            String boundary = "----moai-loadtest-" + UUID.randomUUID();
+            Multipart form = new Multipart(boundary)
+                .field("categoryId", categoryId)
+                .field("title", "loadtest-" + UUID.randomUUID() + ".pdf")
+                .field("description", "loadtest")
+                .file("file", "loadtest.pdf", "application/pdf", pdf);
+            send("ref/upload", request("/ref/upload")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(form.bytes())), out);
+        };
+    }
+
+    private Scenario session() {
+        String hashId = required("hash-id");
+        String base = "/study/" + hashId + "/session/";
+        return new Scenario() {
+            @Override
+            public void iterate(LatencyStats out) throws Exception {
+                send("session/open", request(base + "open").POST(HttpRequest.BodyPublishers.noBody()), out);
+                send("session/join", request(base + "join").POST(HttpRequest.BodyPublishers.noBody()), out);
+                send("session/participants", request(base + "participants").GET(), out);
+            }
+
+            @Override
+            public void finish() {
+                try {
+                    send("session/close", request(base + "close").POST(HttpRequest.BodyPublishers.noBody()), stats);
+                } catch (Exception ignore) {
+                    // 종료 실패는 결과에 status 0으로 남음
+                }
+            }
+        };
+    }
+
+    private Scenario aiRead() {
+        String summaryId = required("summary-id");
+        String edit = "{\"title\":\"loadtest\",\"description\":\"loadtest\"}";
+        return out -> {
+            send("ai/dashboard", request("/ai/dashboard?size=20").GET(), out);
+            send("ai/edit", request("/ai/edit/" + summaryId)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(edit)), out);
+            send("ai/status", request("/ai/status/" + summaryId).GET(), out);
+        };
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(args.getDuration("timeout", Duration.ofSeconds(120)))
+            .header("Authorization", authorization);
+    }
+
+    /** 요청 1건 실행 후 지연/상태 기록 (연결 실패는 status 0) */
+    private HttpResponse<String> send(String op, HttpRequest.Builder req, LatencyStats out)
+        throws InterruptedException {
+        long t0 = System.nanoTime();
+        try {
+            HttpResponse<String> res = http.send(req.build(), HttpResponse.BodyHandlers.ofString());
+            out.record(op, System.nanoTime() - t0, res.statusCode());
+            return res;
+        } catch (IOException e) {
+            out.record(op, System.nanoTime() - t0, 0);
+            return null;
+        }
+    }
+
+    private String token() throws Exception {
+        String token = args.get("token", null);
+        if (token != null) return token;
+
+        String body = "{\"email\":\"%s\",\"password\":\"%s\"}"
+            .formatted(required("email"), required("password"));
+        HttpResponse<String> res = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        Matcher m = ACCESS_TOKEN.matcher(res.body());
+        if (res.statusCode() != 200 || !m.find()) {
+            throw new IllegalStateException("로그인 실패: " + res.statusCode() + " " + res.body());
+        }
+        return m.group(1);
+    }
+
+    private String required(String key) {
+        String v = args.get(key, null);
+        if (v == null) throw new IllegalArgumentException("--" + key + " 필요");
+        return v;
+    }
+
+    /** multipart/form-data 본문 */
+    private static final class Multipart {
+        private final String boundary;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Multipart(String boundary) {
+            this.boundary = boundary;
+        }
+
+        Multipart field(String name, String value) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n");
+            return this;
+        }
+
+        Multipart file(String name, String filename, String contentType, byte[] data) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name
+                + "\"; filename=\"" + URLEncoder.encode(filename, StandardCharsets.UTF_8) + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n");
+            out.writeBytes(data);
+            write("\r\n");
+            return this;
+        }
+
+        byte[] bytes() {
+            write("--" + boundary + "--\r\n");
+            return out.toByteArray();
+        }
+
+        private void write(String s) {
+            out.writeBytes(s.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.foureyes.moai.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드용 텍스트 PDF 생성 (외부 라이브러리 없이 최소 구조만 작성)
+ * - 페이지마다 Helvetica로 몇 줄의 영문 텍스트, xref 오프셋까지 정확히 기록
+ */
+public final class SamplePdf {
+
+    private SamplePdf() {}
+
+    public static byte[] create(int pages, int linesPerPage) {
+        List<String> objects = new ArrayList<>();
+        int pageCount = Math.max(1, pages);
+        // 1: Catalog, 2: Pages, 3: Font, 이후 페이지마다 (Page, Contents)
+        objects.add("<< /Type /Catalog /Pages 2 0 R >>");
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < pageCount; i++) kids.append(4 + i * 2).append(" 0 R ");
+        objects.add("<< /Type /Pages /Kids [" + kids.toString().trim() + "] /Count " + pageCount + " >>");
+        objects.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+
+        for (int i = 0; i < pageCount; i++) {
+            int contentsId = 5 + i * 2;
+            objects.add("<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] "
+                + "/Resources << /Font << /F1 3 0 R >> >> /Contents " + contentsId + " 0 R >>");
+            String stream = pageStream(i + 1, linesPerPage);
+            objects.add("<< /Length " + stream.getBytes(StandardCharsets.US_ASCII).length + " >>\nstream\n"
+                + stream + "\nendstream");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.4\n");
+        long[] offsets = new long[objects.size()];
+        for (int i = 0; i < objects.size(); i++) {
+            offsets[i] = out.size();
+            write(out, (i + 1) + " 0 obj\n" + objects.get(i) + "\nendobj\n");
+        }
+        long xref = out.size();
+        StringBuilder sb = new StringBuilder();
+        sb.append("xref\n0 ").append(objects.size() + 1).append('\n');
+        sb.append("0000000000 65535 f \n");
+        for (long offset : offsets) sb.append(String.format("%010d 00000 n \n", offset));
+        sb.append("trailer\n<< /Size ").append(objects.size() + 1).append(" /Root 1 0 R >>\n");
+        sb.append("startxref\n").append(xref).append("\n%%EOF\n");
+        write(out, sb.toString());
+        return out.toByteArray();
+    }
+
+    private static String pageStream(int page, int lines) {
+        StringBuilder sb = new StringBuilder("BT /F1 11 Tf 50 800 Td 14 TL\n");
+        for (int l = 1; l <= Math.max(1, lines); l++) {
+            sb.append("(Page ").append(page).append(" line ").append(l)
+                .append(": load test sample text about networks, operating systems and databases.) '\n");
+        }
+        return sb.append("ET").toString();
+    }
+
+    private static void write(ByteArrayOutputStream out, String s) {
+        out.writeBytes(s.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,58 @@
+package com.foureyes.moai.loadtest;
+
+import com.foureyes.moai.loadtest.stub.LiveKitStubServer;
+import com.foureyes.moai.loadtest.stub.LlmStubServer;
+import com.foureyes.moai.loadtest.stub.S3StubServer;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 백엔드가 의존하는 외부 서비스 스텁을 한 프로세스에서 실행
+ * - LLM(Gemini/OpenAI, GMS 프록시 경로): --llm-port=18080 (ai.gms.base-url=http://localhost:18080/)
+ * - S3 호환 저장소: --s3-port=18081 (backblaze.b2.endpoint=http://localhost:18081)
+ * - LiveKit RoomService: --livekit-port=18082 (livekit.ws-url=ws://localhost:18082)
+ * 백엔드는 loadtest 프로파일(application-loadtest.properties)로 실행하면 위 주소를 사용함
+ */
+public final class StubServers {
+
+    private StubServers() {}
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+
+        // 스트리밍 응답은 요청 하나가 스레드를 오래 잡으므로 넉넉한 풀 사용
+        ExecutorService executor = Executors.newFixedThreadPool(args.getInt("threads", 256));
+
+        LlmStubServer.Options llm = new LlmStubServer.Options(
+            args.getDuration("llm-ttfb", Duration.ofMillis(800)),
+            args.getDuration("llm-token-delay", Duration.ofMillis(5)),
+            args.getDuration("llm-prefill", Duration.ZERO),
+            args.getInt("llm-items", 8),
+            args.getDouble("llm-error-rate", 0.0),
+            args.getDouble("llm-jitter", 0.2));
+
+        LlmStubServer llmServer = new LlmStubServer(args.getInt("llm-port", 18080), llm, executor);
+        S3StubServer s3Server = new S3StubServer(args.getInt("s3-port", 18081),
+            args.getDuration("s3-latency", Duration.ZERO), executor);
+        LiveKitStubServer liveKitServer = new LiveKitStubServer(args.getInt("livekit-port", 18082),
+            args.getDuration("livekit-latency", Duration.ofMillis(5)), executor);
+
+        llmServer.start();
+        s3Server.start();
+        liveKitServer.start();
+        System.out.printf("stub servers up: llm=:%s s3=:%s livekit=:%s (%s)%n",
+            args.get("llm-port", "18080"), args.get("s3-port", "18081"), args.get("livekit-port", "18082"), llm);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            llmServer.stop();
+            s3Server.stop();
+            liveKitServer.stop();
+            executor.shutdownNow();
+            System.out.printf("stub servers stopped: llm requests=%d, s3 objects=%d%n",
+                llmServer.requests(), s3Server.objectCount());
+        }));
+        Thread.currentThread().join();
+    }
+}
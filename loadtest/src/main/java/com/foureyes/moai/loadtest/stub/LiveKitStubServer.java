@@ -0,0 +1,215 @@
+package com.foureyes.moai.loadtest.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * LiveKit RoomService 스텁 (Twirp, protobuf / JSON)
+ * - POST /twirp/livekit.RoomService/{CreateRoom|DeleteRoom|ListRooms|ListParticipants|RemoveParticipant}
+ * - 참가자는 토큰으로 실제 접속하지 않으므로 제어용 엔드포인트로 넣고 뺌
+ *   POST/DELETE /stub/rooms/{room}/participants?identity=..&name=..
+ * - protobuf 메시지는 필요한 필드만 직접 인코딩 (Room: sid=1,name=2 / ParticipantInfo: sid=1,identity=2,state=3,name=9)
+ */
+public class LiveKitStubServer {
+
+    private static final String TWIRP_PREFIX = "/twirp/livekit.RoomService/";
+    private static final String STUB_PREFIX = "/stub/rooms/";
+    private static final int PARTICIPANT_ACTIVE = 2;
+
+    private final Duration latency;
+    private final HttpServer server;
+    // room → (identity → name)
+    private final Map<String, Map<String, String>> rooms = new ConcurrentHashMap<>();
+
+    public LiveKitStubServer(int port, Duration latency, ExecutorService executor) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.createContext(TWIRP_PREFIX, this::handleTwirp);
+        this.server.createContext(STUB_PREFIX, this::handleControl);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handleTwirp(HttpExchange ex) throws IOException {
+        try {
+            Exchanges.sleep(latency.toMillis());
+            String method = ex.getRequestURI().getPath().substring(TWIRP_PREFIX.length());
+            byte[] body = Exchanges.readBody(ex);
+            String contentType = ex.getRequestHeaders().getFirst("Content-Type");
+            boolean json = contentType != null && contentType.contains("json");
+            String room = json ? jsonField(body, "room", "name") : firstStringField(body);
+
+            switch (method) {
+                case "CreateRoom" -> {
+                    rooms.computeIfAbsent(room, r -> new ConcurrentHashMap<>());
+                    reply(ex, json, "{\"sid\":\"RM_" + room + "\",\"name\":\"" + room + "\"}",
+                        new Proto().string(1, "RM_" + room).string(2, room).bytes());
+                }
+                case "DeleteRoom" -> {
+                    rooms.remove(room);
+                    reply(ex, json, "{}", new byte[0]);
+                }
+                case "ListRooms" -> {
+                    StringBuilder js = new StringBuilder("{\"rooms\":[");
+                    Proto proto = new Proto();
+                    int i = 0;
+                    for (String name : rooms.keySet()) {
+                        if (i++ > 0) js.append(',');
+                        js.append("{\"sid\":\"RM_").append(name).append("\",\"name\":\"").append(name).append("\"}");
+                        proto.message(1, new Proto().string(1, "RM_" + name).string(2, name));
+                    }
+                    reply(ex, json, js.append("]}").toString(), proto.bytes());
+                }
+                case "ListParticipants" -> {
+                    StringBuilder js = new StringBuilder("{\"participants\":[");
+                    Proto proto = new Proto();
+                    int i = 0;
+                    for (Map.Entry<String, String> p : rooms.getOrDefault(room, Map.of()).entrySet()) {
+                        if (i++ > 0) js.append(',');
+                        js.append("{\"sid\":\"PA_").append(p.getKey()).append("\",\"identity\":")
+                            .append(Exchanges.quote(p.getKey())).append(",\"state\":\"ACTIVE\",\"name\":")
+                            .append(Exchanges.quote(p.getValue())).append('}');
+                        proto.message(1, new Proto()
+                            .string(1, "PA_" + p.getKey())
+                            .string(2, p.getKey())
+                            .varint(3, PARTICIPANT_ACTIVE)
+                            .string(9, p.getValue()));
+                    }
+                    reply(ex, json, js.append("]}").toString(), proto.bytes());
+                }
+                case "RemoveParticipant" -> reply(ex, json, "{}", new byte[0]);
+                default -> Exchanges.sendJson(ex, 404, "{\"code\":\"bad_route\",\"msg\":\"" + method + "\"}");
+            }
+        } catch (IOException e) {
+            ex.close();
+        }
+    }
+
+    private void handleControl(HttpExchange ex) throws IOException {
+        // /stub/rooms/{room}/participants?identity=..&name=..
+        String rest = ex.getRequestURI().getPath().substring(STUB_PREFIX.length());
+        int slash = rest.indexOf('/');
+        if (slash < 0 || !rest.substring(slash + 1).equals("participants")) {
+            Exchanges.sendJson(ex, 404, "{}");
+            return;
+        }
+        String room = rest.substring(0, slash);
+        Map<String, String> query = query(ex.getRequestURI().getRawQuery());
+        String identity = query.get("identity");
+        if (identity == null) {
+            Exchanges.sendJson(ex, 400, "{\"error\":\"identity required\"}");
+            return;
+        }
+        Map<String, String> participants = rooms.computeIfAbsent(room, r -> new ConcurrentHashMap<>());
+        if ("DELETE".equals(ex.getRequestMethod())) participants.remove(identity);
+        else participants.put(identity, query.getOrDefault("name", identity));
+        Exchanges.sendJson(ex, 200, "{\"participants\":" + participants.size() + "}");
+    }
+
+    private static void reply(HttpExchange ex, boolean json, String jsonBody, byte[] protoBody) throws IOException {
+        if (json) Exchanges.sendJson(ex, 200, jsonBody);
+        else Exchanges.send(ex, 200, "application/protobuf", protoBody);
+    }
+
+    /** 요청 메시지의 필드 1 (room / name 모두 1번) */
+    private static String firstStringField(byte[] body) {
+        int pos = 0;
+        while (pos < body.length) {
+            int tag = body[pos++] & 0xff;
+            int field = tag >>> 3;
+            int wire = tag & 0x7;
+            if (wire != 2) return "";
+            int len = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = body[pos++] & 0xff;
+                len |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (field == 1) return new String(body, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+        }
+        return "";
+    }
+
+    /** 단순 JSON 문자열 필드 추출 ({"room":"..."} 또는 {"name":"..."}) */
+    private static String jsonField(byte[] body, String... names) {
+        String s = new String(body, StandardCharsets.UTF_8);
+        for (String name : names) {
+            int i = s.indexOf("\"" + name + "\"");
+            if (i < 0) continue;
+            int start = s.indexOf('"', s.indexOf(':', i) + 1);
+            int end = s.indexOf('"', start + 1);
+            if (start >= 0 && end > start) return s.substring(start + 1, end);
+        }
+        return "";
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> out = new ConcurrentHashMap<>();
+        if (raw == null) return out;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            out.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    /** 최소 protobuf 인코더 (string / varint / 하위 메시지) */
+    private static final class Proto {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Proto string(int field, String value) {
+            return raw(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Proto message(int field, Proto message) {
+            return raw(field, message.bytes());
+        }
+
+        Proto varint(int field, long value) {
+            writeVarint((long) field << 3);
+            writeVarint(value);
+            return this;
+        }
+
+        byte[] bytes() {
+            return out.toByteArray();
+        }
+
+        private Proto raw(int field, byte[] data) {
+            writeVarint(((long) field << 3) | 2);
+            writeVarint(data.length);
+            out.writeBytes(data);
+            return this;
+        }
+
+        private void writeVarint(long v) {
+            while ((v & ~0x7fL) != 0) {
+                out.write((int) ((v & 0x7f) | 0x80));
+                v >>>= 7;
+            }
+            out.write((int) v);
+        }
+    }
+}
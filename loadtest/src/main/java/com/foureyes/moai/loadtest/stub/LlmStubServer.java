@@ -0,0 +1,204 @@
+package com.foureyes.moai.loadtest.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini / OpenAI 응답 스텁 (GMS 프록시 경로 그대로 수신)
+ * - .../models/{id}:generateContent, :streamGenerateContent?alt=sse
+ * - .../v1/chat/completions (stream=true면 SSE + 마지막 usage 조각)
+ * - 첫 바이트 지연(ttfb)과 토큰당 지연(tokenDelay)으로 모델 속도를 흉내냄, errorRate 비율만큼 503
+ * - prefill: 프롬프트 1천 토큰당 첫 바이트 추가 지연 (프롬프트가 길수록 응답 시작이 늦어지는 입력 처리 시간)
+ * - 프롬프트의 docsId / 페이지 라벨을 읽어 그럴듯한 요약 항목을 만듦
+ */
+public class LlmStubServer {
+
+    private static final Pattern DOCS_ID = Pattern.compile("docsId: (\\d+)");
+    private static final Pattern PAGE = Pattern.compile("--- Page (\\d+) ---");
+    private static final Pattern STREAM_FLAG = Pattern.compile("\"stream\"\\s*:\\s*true");
+    // 토큰 수 추정 (영문 약 4자, 한글 약 1~2자 → 보수적으로 3자)
+    private static final int CHARS_PER_TOKEN = 3;
+
+    public record Options(Duration ttfb, Duration tokenDelay, Duration prefill, int items, double errorRate,
+                          double jitter) {}
+
+    private final Options options;
+    private final HttpServer server;
+    private final AtomicLong requests = new AtomicLong();
+
+    public LlmStubServer(int port, Options options, ExecutorService executor) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            requests.incrementAndGet();
+            String path = ex.getRequestURI().getPath();
+            String body = new String(Exchanges.readBody(ex), StandardCharsets.UTF_8);
+            long promptTokens = Math.max(1, body.length() / CHARS_PER_TOKEN);
+
+            if (ThreadLocalRandom.current().nextDouble() < options.errorRate()) {
+                Exchanges.sleep(firstByte(promptTokens));
+                Exchanges.sendJson(ex, 503, "{\"error\":{\"code\":503,\"message\":\"stub overloaded\"}}");
+                return;
+            }
+
+            String completion = summaryJson(body);
+            List<String> tokens = tokenize(completion);
+
+            if (path.endsWith(":streamGenerateContent")) {
+                streamGemini(ex, tokens, promptTokens);
+            } else if (path.endsWith(":generateContent")) {
+                Exchanges.sleep(firstByte(promptTokens) + tokenTime(tokens.size()));
+                Exchanges.sendJson(ex, 200, geminiChunk(completion, promptTokens, tokens.size(), true));
+            } else if (path.endsWith("/chat/completions")) {
+                if (STREAM_FLAG.matcher(body).find()) {
+                    streamOpenAi(ex, tokens, promptTokens);
+                } else {
+                    Exchanges.sleep(firstByte(promptTokens) + tokenTime(tokens.size()));
+                    Exchanges.sendJson(ex, 200, """
+                        {"id":"chatcmpl-stub","object":"chat.completion","choices":[{"index":0,\
+                        "message":{"role":"assistant","content":%s},"finish_reason":"stop"}],%s}"""
+                        .formatted(Exchanges.quote(completion), openAiUsage(promptTokens, tokens.size())));
+                }
+            } else {
+                Exchanges.sendJson(ex, 404, "{\"error\":\"unknown path " + path + "\"}");
+            }
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우 (타임아웃/헤징 취소)
+            ex.close();
+        }
+    }
+
+    private void streamGemini(HttpExchange ex, List<String> tokens, long promptTokens) throws IOException {
+        Exchanges.sleep(firstByte(promptTokens));
+        ex.getResponseHeaders().set("Content-Type", "text/event-stream");
+        ex.sendResponseHeaders(200, 0);
+        try (OutputStream out = ex.getResponseBody()) {
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean last = i == tokens.size() - 1;
+                writeEvent(out, geminiChunk(tokens.get(i), promptTokens, i + 1, last));
+                Exchanges.sleep(options.tokenDelay().toMillis());
+            }
+        }
+        ex.close();
+    }
+
+    private void streamOpenAi(HttpExchange ex, List<String> tokens, long promptTokens) throws IOException {
+        Exchanges.sleep(firstByte(promptTokens));
+        ex.getResponseHeaders().set("Content-Type", "text/event-stream");
+        ex.sendResponseHeaders(200, 0);
+        try (OutputStream out = ex.getResponseBody()) {
+            for (String token : tokens) {
+                writeEvent(out, """
+                    {"id":"chatcmpl-stub","object":"chat.completion.chunk","choices":[{"index":0,\
+                    "delta":{"content":%s},"finish_reason":null}]}""".formatted(Exchanges.quote(token)));
+                Exchanges.sleep(options.tokenDelay().toMillis());
+            }
+            // stream_options.include_usage: 마지막에 choices 없이 usage만 있는 조각
+            writeEvent(out, "{\"id\":\"chatcmpl-stub\",\"object\":\"chat.completion.chunk\",\"choices\":[],"
+                + openAiUsage(promptTokens, tokens.size()) + "}");
+            writeEvent(out, "[DONE]");
+        }
+        ex.close();
+    }
+
+    private static void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String geminiChunk(String text, long promptTokens, long completionTokens, boolean withUsage) {
+        String usage = withUsage
+            ? ",\"usageMetadata\":{\"promptTokenCount\":%d,\"candidatesTokenCount\":%d,\"totalTokenCount\":%d}"
+                .formatted(promptTokens, completionTokens, promptTokens + completionTokens)
+            : "";
+        return "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":" + Exchanges.quote(text)
+            + "}]}" + (withUsage ? ",\"finishReason\":\"STOP\"" : "") + "}]" + usage + "}";
+    }
+
+    private static String openAiUsage(long promptTokens, long completionTokens) {
+        return "\"usage\":{\"prompt_tokens\":%d,\"completion_tokens\":%d,\"total_tokens\":%d}"
+            .formatted(promptTokens, completionTokens, promptTokens + completionTokens);
+    }
+
+    /** 프롬프트에 나온 문서/페이지로 요약 항목 배열 생성 */
+    private String summaryJson(String prompt) {
+        List<Integer> docIds = ints(DOCS_ID.matcher(prompt));
+        List<Integer> pages = ints(PAGE.matcher(prompt));
+        if (docIds.isEmpty()) docIds = List.of(0);
+        if (pages.isEmpty()) pages = List.of(1);
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < options.items(); i++) {
+            if (i > 0) sb.append(',');
+            int docId = docIds.get(i % docIds.size());
+            int page = pages.get(i % pages.size());
+            sb.append("{\"summarySentence\":").append(Exchanges.quote("스텁 요약 문장 " + (i + 1) + ": 핵심 개념 정리"))
+                .append(",\"originalQuote\":").append(Exchanges.quote("stub quote " + (i + 1)))
+                .append(",\"docsId\":").append(docId)
+                .append(",\"pageNumber\":").append(page)
+                .append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    private static List<Integer> ints(Matcher m) {
+        Set<Integer> out = new LinkedHashSet<>();
+        while (m.find()) out.add(Integer.parseInt(m.group(1)));
+        return new ArrayList<>(out);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>(text.length() / CHARS_PER_TOKEN + 1);
+        for (int i = 0; i < text.length(); i += CHARS_PER_TOKEN) {
+            tokens.add(text.substring(i, Math.min(text.length(), i + CHARS_PER_TOKEN)));
+        }
+        return tokens;
+    }
+
+    private long tokenTime(int tokens) {
+        return options.tokenDelay().toMillis() * tokens;
+    }
+
+    private long firstByte(long promptTokens) {
+        return jittered(options.ttfb()) + options.prefill().toMillis() * promptTokens / 1_000;
+    }
+
+    private long jittered(Duration base) {
+        long ms = base.toMillis();
+        if (options.jitter() <= 0 || ms == 0) return ms;
+        double factor = 1 + (ThreadLocalRandom.current().nextDouble() * 2 - 1) * options.jitter();
+        return Math.max(0, Math.round(ms * factor));
+    }
+}
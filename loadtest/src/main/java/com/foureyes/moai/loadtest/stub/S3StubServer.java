@@ -0,0 +1,151 @@
+package com.foureyes.moai.loadtest.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * S3 호환 인메모리 오브젝트 저장소 (path-style 전용)
+ * - PUT / GET / HEAD / DELETE /{bucket}/{key}, 버킷은 따로 만들 필요 없음
+ * - 서명은 검사하지 않음 (presigned URL도 그대로 GET)
+ * - SDK가 보내는 aws-chunked 본문(청크 서명/체크섬 트레일러)은 풀어서 저장
+ */
+public class S3StubServer {
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private record StoredObject(byte[] data, String contentType, String eTag, ZonedDateTime lastModified) {}
+
+    private final Duration latency;
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    public S3StubServer(int port, Duration latency, ExecutorService executor) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            Exchanges.sleep(latency.toMillis());
+            String path = URLDecoder.decode(ex.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            String key = path.startsWith("/") ? path.substring(1) : path;
+            // 버킷 자체에 대한 요청 (CreateBucket 등)
+            if (!key.contains("/")) {
+                Exchanges.send(ex, 200, null, null);
+                return;
+            }
+
+            switch (ex.getRequestMethod()) {
+                case "PUT" -> put(ex, key);
+                case "GET", "HEAD" -> get(ex, key);
+                case "DELETE" -> {
+                    objects.remove(key);
+                    Exchanges.send(ex, 204, null, null);
+                }
+                default -> Exchanges.send(ex, 405, null, null);
+            }
+        } catch (IOException e) {
+            ex.close();
+        }
+    }
+
+    private void put(HttpExchange ex, String key) throws IOException {
+        byte[] body = Exchanges.readBody(ex);
+        if (isAwsChunked(ex)) body = decodeAwsChunked(body);
+
+        String contentType = ex.getRequestHeaders().getFirst("Content-Type");
+        String eTag = "\"" + md5(body) + "\"";
+        objects.put(key, new StoredObject(body,
+            contentType != null ? contentType : "application/octet-stream", eTag, ZonedDateTime.now(ZoneOffset.UTC)));
+
+        ex.getResponseHeaders().set("ETag", eTag);
+        Exchanges.send(ex, 200, null, null);
+    }
+
+    private void get(HttpExchange ex, String key) throws IOException {
+        StoredObject obj = objects.get(key);
+        if (obj == null) {
+            Exchanges.send(ex, 404, "application/xml", """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>"""
+                .getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ex.getResponseHeaders().set("ETag", obj.eTag());
+        ex.getResponseHeaders().set("Last-Modified", HTTP_DATE.format(obj.lastModified()));
+        if ("HEAD".equals(ex.getRequestMethod())) {
+            ex.getResponseHeaders().set("Content-Length", String.valueOf(obj.data().length));
+        }
+        Exchanges.send(ex, 200, obj.contentType(), obj.data());
+    }
+
+    private static boolean isAwsChunked(HttpExchange ex) {
+        String sha = ex.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String encoding = ex.getRequestHeaders().getFirst("Content-Encoding");
+        return (sha != null && sha.startsWith("STREAMING-"))
+            || (encoding != null && encoding.contains("aws-chunked"));
+    }
+
+    /** "크기(16진수)[;chunk-signature=..]\r\n데이터\r\n" 반복, 크기 0 청크 뒤 트레일러는 버림 */
+    static byte[] decodeAwsChunked(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        int pos = 0;
+        while (pos < body.length) {
+            int lineEnd = indexOfCrlf(body, pos);
+            if (lineEnd < 0) break;
+            String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semi = header.indexOf(';');
+            int size = Integer.parseInt((semi < 0 ? header : header.substring(0, semi)).trim(), 16);
+            if (size == 0) break;
+            int dataStart = lineEnd + 2;
+            out.write(body, dataStart, size);
+            pos = dataStart + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] b, int from) {
+        for (int i = from; i + 1 < b.length; i++) {
+            if (b[i] == '\r' && b[i + 1] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}